@@ -153,6 +153,12 @@ public abstract class KubernetesExtension {
 
   public abstract Property<String> getBuildOutputDirectory();
 
+  public abstract Property<File> getJibCacheDirectory();
+
+  public abstract Property<Boolean> getJibBuildToRegistry();
+
+  public abstract Property<Integer> getBuildThreads();
+
   public abstract Property<File> getResourceTargetDirectory();
 
   public abstract Property<File> getResourceSourceDirectory();
@@ -623,6 +629,18 @@ public abstract class KubernetesExtension {
     return getOrDefaultString("jkube.build.target.dir", this::getBuildOutputDirectory, "build/docker");
   }
 
+  public int getBuildThreadsOrDefault() {
+    return getOrDefaultInteger("jkube.build.threads", this::getBuildThreads, 1);
+  }
+
+  public boolean getJibBuildToRegistryOrDefault() {
+    return getOrDefaultBoolean("jkube.build.jib.toRegistry", this::getJibBuildToRegistry, false);
+  }
+
+  public File getJibCacheDirectoryOrNull() {
+    return getOrDefaultFile("jkube.build.jib.cacheDir", this::getJibCacheDirectory, null);
+  }
+
   public File getResourceSourceDirectoryOrDefault() {
     return getOrDefaultFile("jkube.resourceDir", this::getResourceSourceDirectory, javaProject.getBaseDirectory().toPath().resolve(DEFAULT_RESOURCE_SOURCE_DIR).toFile());
   }
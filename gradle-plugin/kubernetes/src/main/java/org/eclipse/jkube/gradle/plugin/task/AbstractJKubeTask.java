@@ -170,6 +170,7 @@ public abstract class AbstractJKubeTask extends DefaultTask implements Kubernete
       .resourceConfig(resourceConfig)
       .interpolateTemplateParameters(kubernetesExtension.getInterpolateTemplateParametersOrDefault())
       .resourceFilesProcessor(this::gradleFilterFiles)
+      .remotesOffline(getProject().getGradle().getStartParameter().isOffline())
       .build();
   }
 
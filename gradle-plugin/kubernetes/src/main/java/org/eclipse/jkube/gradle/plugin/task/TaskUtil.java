@@ -39,7 +39,10 @@ public class TaskUtil {
         .buildRecreateMode(BuildRecreateMode.fromParameter(kubernetesExtension.getBuildRecreateOrDefault()))
         .jKubeBuildStrategy(kubernetesExtension.getBuildStrategyOrDefault())
         .forcePull(kubernetesExtension.getForcePullOrDefault())
-        .buildDirectory(kubernetesExtension.javaProject.getBuildDirectory().getAbsolutePath());
+        .buildDirectory(kubernetesExtension.javaProject.getBuildDirectory().getAbsolutePath())
+        .jibCacheDir(kubernetesExtension.getJibCacheDirectoryOrNull())
+        .jibBuildToRegistry(kubernetesExtension.getJibBuildToRegistryOrDefault())
+        .buildThreads(kubernetesExtension.getBuildThreadsOrDefault());
   }
 
   public static DockerAccess initDockerAccess(KubernetesExtension kubernetesExtension, KitLogger kitLogger) {
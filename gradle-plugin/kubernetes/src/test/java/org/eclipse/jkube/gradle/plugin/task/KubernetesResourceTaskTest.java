@@ -81,6 +81,32 @@ class KubernetesResourceTaskTest {
             .hasContent("field-1: value\nfield-2: value2\nf3: ${not.here}\nf4: Hard"));
   }
 
+  @Test
+  void runTask_withJKubeOffline_shouldNotUseCachedRemotesOnly() {
+    // Given
+    final TestKubernetesExtension extension = new TestKubernetesExtension();
+    extension.isOffline = true;
+    when(taskEnvironment.project.getExtensions().getByType(KubernetesExtension.class)).thenReturn(extension);
+    final KubernetesResourceTask resourceTask = new KubernetesResourceTask(KubernetesExtension.class);
+    // When
+    resourceTask.runTask();
+    // Then
+    assertThat(resourceTask.jKubeServiceHub.getResourceServiceConfig())
+        .hasFieldOrPropertyWithValue("remotesOffline", false);
+  }
+
+  @Test
+  void runTask_withGradleOffline_shouldUseCachedRemotesOnly() {
+    // Given
+    when(taskEnvironment.project.getGradle().getStartParameter().isOffline()).thenReturn(true);
+    final KubernetesResourceTask resourceTask = new KubernetesResourceTask(KubernetesExtension.class);
+    // When
+    resourceTask.runTask();
+    // Then
+    assertThat(resourceTask.jKubeServiceHub.getResourceServiceConfig())
+        .hasFieldOrPropertyWithValue("remotesOffline", true);
+  }
+
   @Test
   void runTask_withSkipResource_shouldDoNothing() {
     // Given
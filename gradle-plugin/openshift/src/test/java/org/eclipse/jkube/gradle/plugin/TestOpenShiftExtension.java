@@ -114,6 +114,21 @@ public class TestOpenShiftExtension extends OpenShiftExtension {
     return new DefaultProperty<>(String.class);
   }
 
+  @Override
+  public Property<File> getJibCacheDirectory() {
+    return new DefaultProperty<>(File.class);
+  }
+
+  @Override
+  public Property<Boolean> getJibBuildToRegistry() {
+    return new DefaultProperty<>(Boolean.class);
+  }
+
+  @Override
+  public Property<Integer> getBuildThreads() {
+    return new DefaultProperty<>(Integer.class);
+  }
+
   @Override
   public Property<String> getRegistry() {
     return new DefaultProperty<>(String.class);
@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.api.assembly;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes a prepared archive (e.g. a Docker build context) to a stream, so that it can be sent while it's being
+ * produced instead of being written to disk first.
+ */
+@FunctionalInterface
+public interface ArchiveWriter {
+  /**
+   * Writes the archive to the provided stream, the stream is not closed.
+   *
+   * @param outputStream the stream where the archive is written.
+   * @throws IOException if the archive can't be written.
+   */
+  void writeTo(OutputStream outputStream) throws IOException;
+}
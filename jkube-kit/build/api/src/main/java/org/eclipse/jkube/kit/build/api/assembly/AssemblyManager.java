@@ -55,6 +55,7 @@ import static org.eclipse.jkube.kit.build.api.assembly.AssemblyConfigurationUtil
 import static org.eclipse.jkube.kit.build.api.assembly.AssemblyConfigurationUtils.getJKubeAssemblyFileSets;
 import static org.eclipse.jkube.kit.build.api.assembly.AssemblyConfigurationUtils.getJKubeAssemblyFiles;
 import static org.eclipse.jkube.kit.common.archive.AssemblyFileSetUtils.processAssemblyFileSet;
+import static org.eclipse.jkube.kit.common.archive.AssemblyFileSetUtils.resolveAssemblyFileSet;
 import static org.eclipse.jkube.kit.common.archive.AssemblyFileUtils.getAssemblyFileOutputDirectory;
 import static org.eclipse.jkube.kit.common.archive.AssemblyFileUtils.resolveSourceFile;
 
@@ -102,25 +103,72 @@ public class AssemblyManager {
         ArchiverCustomizer finalCustomizer) throws IOException {
 
         final BuildDirs buildDirs = createBuildDirs(imageName, configuration);
-        final List<ArchiverCustomizer> archiveCustomizers = new ArrayList<>();
         final AssemblyConfiguration assemblyConfig = getAssemblyConfiguration(buildConfig, configuration);
         final Map<Assembly, List<AssemblyFileEntry>> layers = copyFilesToFinalTarballDirectory(
             configuration, buildDirs, assemblyConfig);
 
         try {
-            if (buildConfig.isDockerFileMode()) {
-                createDockerTarArchiveForDockerFile(buildConfig, assemblyConfig, configuration, buildDirs, log, archiveCustomizers);
-            } else {
+            if (!buildConfig.isDockerFileMode()) {
                 createAssemblyArchive(assemblyConfig, configuration, buildDirs, buildConfig.getCompression(), layers);
-                createDockerTarArchiveForGeneratorMode(buildConfig, buildDirs, archiveCustomizers, assemblyConfig, layers);
             }
-            archiveCustomizers.addAll(getDefaultCustomizers(configuration, assemblyConfig, finalCustomizer, layers));
+            final List<ArchiverCustomizer> archiveCustomizers = createArchiveCustomizers(
+                buildConfig, assemblyConfig, configuration, buildDirs, log, finalCustomizer, layers);
             return createBuildTarBall(configuration, buildDirs, archiveCustomizers, assemblyConfig, buildConfig.getCompression());
         } catch (IOException e) {
             throw new IOException(String.format("Cannot create %s in %s", DOCKERFILE_NAME, buildDirs.getOutputDirectory()), e);
         }
     }
 
+    /**
+     * Prepare a docker tar archive from the given configuration which can be streamed to the Docker host for
+     * creating the image.
+     *
+     * <p> Same as {@link #createDockerTarArchive(String, JKubeConfiguration, BuildConfiguration, KitLogger, ArchiverCustomizer)},
+     * but the archive is written by the returned {@link ArchiveWriter} (e.g. directly to the Docker daemon) instead
+     * of being stored in a file.
+     *
+     * @param imageName Name of the image to create (used for creating build directories)
+     * @param configuration Mojos parameters (used for finding the directories)
+     * @param buildConfig configuration for how to build the image
+     * @param log KitLogger used to display warning if permissions are to be normalized
+     * @param finalCustomizer finalCustomizer to be applied to the tar archive
+     * @return writer for the prepared assembly tar
+     * @throws IOException IO exception
+     */
+    public ArchiveWriter createDockerTarArchiveWriter(
+        String imageName, final JKubeConfiguration configuration, final BuildConfiguration buildConfig, KitLogger log,
+        ArchiverCustomizer finalCustomizer) throws IOException {
+
+        final BuildDirs buildDirs = createBuildDirs(imageName, configuration);
+        final AssemblyConfiguration assemblyConfig = getAssemblyConfiguration(buildConfig, configuration);
+        final Map<Assembly, List<AssemblyFileEntry>> layers = copyFilesToFinalTarballDirectory(
+            configuration, buildDirs, assemblyConfig);
+
+        try {
+            final List<ArchiverCustomizer> archiveCustomizers = createArchiveCustomizers(
+                buildConfig, assemblyConfig, configuration, buildDirs, log, finalCustomizer, layers);
+            final AssemblyConfigurationSource source = new AssemblyConfigurationSource(configuration, buildDirs, assemblyConfig);
+            return customizeArchiver(configuration, archiveCustomizers)
+                .createArchiveWriter(source.getOutputDirectory(), buildConfig.getCompression());
+        } catch (IOException e) {
+            throw new IOException(String.format("Cannot create %s in %s", DOCKERFILE_NAME, buildDirs.getOutputDirectory()), e);
+        }
+    }
+
+    private List<ArchiverCustomizer> createArchiveCustomizers(BuildConfiguration buildConfig,
+        AssemblyConfiguration assemblyConfig, JKubeConfiguration configuration, BuildDirs buildDirs, KitLogger log,
+        ArchiverCustomizer finalCustomizer, Map<Assembly, List<AssemblyFileEntry>> layers) throws IOException {
+
+        final List<ArchiverCustomizer> archiveCustomizers = new ArrayList<>();
+        if (buildConfig.isDockerFileMode()) {
+            createDockerTarArchiveForDockerFile(buildConfig, assemblyConfig, configuration, buildDirs, log, archiveCustomizers);
+        } else {
+            createDockerTarArchiveForGeneratorMode(buildConfig, buildDirs, archiveCustomizers, assemblyConfig, layers);
+        }
+        archiveCustomizers.addAll(getDefaultCustomizers(configuration, assemblyConfig, finalCustomizer, layers));
+        return archiveCustomizers;
+    }
+
     /**
      * Returns the complete {@link AssemblyConfiguration} with required options for the provided {@link BuildConfiguration}
      * and {@link JKubeConfiguration}.
@@ -143,6 +191,8 @@ public class AssemblyManager {
     private void interpolateDockerfile(File dockerFile, BuildDirs params, Properties properties, String filter) throws IOException {
         File targetDockerfile = new File(params.getOutputDirectory(), dockerFile.getName());
         String dockerFileInterpolated = DockerFileUtil.interpolate(dockerFile, properties, filter);
+        // The staged Dockerfile might be a hard link to the source Dockerfile, replace it instead of overwriting it
+        Files.deleteIfExists(targetDockerfile.toPath());
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(targetDockerfile))) {
             writer.write(dockerFileInterpolated);
         }
@@ -232,14 +282,25 @@ public class AssemblyManager {
     private File createBuildTarBall(JKubeConfiguration params, BuildDirs buildDirs, List<ArchiverCustomizer> archiverCustomizers,
                                     AssemblyConfiguration assemblyConfig, ArchiveCompression compression) throws IOException {
         AssemblyConfigurationSource source = new AssemblyConfigurationSource(params, buildDirs, assemblyConfig);
+        return customizeArchiver(params, archiverCustomizers).createArchive(source.getOutputDirectory(), buildDirs, compression);
+    }
 
-        JKubeBuildTarArchiver jkubeTarArchiver = new JKubeBuildTarArchiver();
+    private static JKubeBuildTarArchiver customizeArchiver(
+        JKubeConfiguration configuration, List<ArchiverCustomizer> archiverCustomizers) throws IOException {
+        JKubeBuildTarArchiver jkubeTarArchiver = createArchiver(configuration);
         for (ArchiverCustomizer customizer : archiverCustomizers) {
             if (customizer != null) {
                 jkubeTarArchiver = customizer.customize(jkubeTarArchiver);
             }
         }
-        return jkubeTarArchiver.createArchive(source.getOutputDirectory(), buildDirs, compression);
+        return jkubeTarArchiver;
+    }
+
+    // Reproducible archives if project.build.outputTimestamp or SOURCE_DATE_EPOCH are set
+    private static JKubeBuildTarArchiver createArchiver(JKubeConfiguration configuration) {
+        final JKubeBuildTarArchiver jkubeTarArchiver = new JKubeBuildTarArchiver();
+        JKubeProjectUtil.getOutputTimestamp(configuration.getProject()).ifPresent(jkubeTarArchiver::setOutputTimestamp);
+        return jkubeTarArchiver;
     }
 
     private File createArchiveDir(BuildDirs dirs) throws IOException{
@@ -264,7 +325,7 @@ public class AssemblyManager {
             return;
         }
         AssemblyConfigurationSource source = new AssemblyConfigurationSource(params, buildDirs, assemblyConfig);
-        JKubeBuildTarArchiver jkubeTarArchiver = new JKubeBuildTarArchiver();
+        JKubeBuildTarArchiver jkubeTarArchiver = createArchiver(params);
 
         AssemblyMode buildMode = assemblyConfig.getMode();
         try {
@@ -315,45 +376,75 @@ public class AssemblyManager {
 
     public Map<Assembly, List<AssemblyFileEntry>> copyFilesToFinalTarballDirectory(
         JKubeConfiguration configuration, BuildDirs buildDirs, AssemblyConfiguration assemblyConfiguration) throws IOException {
-        final Map<Assembly, List<AssemblyFileEntry>> entries = new LinkedHashMap<>();
         FileUtil.createDirectory(new File(buildDirs.getOutputDirectory(), assemblyConfiguration.getTargetDir()));
+        return processFiles(configuration, buildDirs, assemblyConfiguration, true);
+    }
+
+    /**
+     * Computes the {@link AssemblyFileEntry} list for each of the layers of the provided assembly configuration
+     * without copying any file to the build directory.
+     *
+     * <p> The entries point to the original source files, the destination files are those that
+     * {@link #copyFilesToFinalTarballDirectory(JKubeConfiguration, BuildDirs, AssemblyConfiguration)} would create.
+     *
+     * @param configuration global JKubeConfiguration
+     * @param buildDirs the build directories for the image
+     * @param assemblyConfiguration the assembly configuration to resolve
+     * @return the resolved entries for each of the layers
+     * @throws IOException in case the source files can't be resolved
+     */
+    public Map<Assembly, List<AssemblyFileEntry>> resolveFiles(
+        JKubeConfiguration configuration, BuildDirs buildDirs, AssemblyConfiguration assemblyConfiguration) throws IOException {
+        return processFiles(configuration, buildDirs, assemblyConfiguration, false);
+    }
+
+    private Map<Assembly, List<AssemblyFileEntry>> processFiles(
+        JKubeConfiguration configuration, BuildDirs buildDirs, AssemblyConfiguration assemblyConfiguration,
+        boolean stage) throws IOException {
+        final Map<Assembly, List<AssemblyFileEntry>> entries = new LinkedHashMap<>();
         final List<Assembly> layers = assemblyConfiguration.getProcessedLayers(configuration);
         if (layers.size() > 1 && layers.stream().anyMatch(l -> StringUtils.isBlank(l.getId()))) {
             throw new IllegalStateException("Assemblies with more than one layer require a proper id for each layer");
         }
         for (Assembly layer : layers) {
-            entries.put(layer, copyLayerFilesToFinalTarballDirectory(configuration.getProject(), buildDirs, assemblyConfiguration, layer));
+            entries.put(layer, processLayerFiles(configuration.getProject(), buildDirs, assemblyConfiguration, layer, stage));
         }
         return entries;
     }
 
-    private List<AssemblyFileEntry> copyLayerFilesToFinalTarballDirectory(JavaProject project, BuildDirs buildDirs,
-        AssemblyConfiguration assemblyConfiguration, Assembly layer) throws IOException {
+    private List<AssemblyFileEntry> processLayerFiles(JavaProject project, BuildDirs buildDirs,
+        AssemblyConfiguration assemblyConfiguration, Assembly layer, boolean stage) throws IOException {
 
         final List<AssemblyFileEntry> files = new ArrayList<>();
         for (AssemblyFileSet fileSet : getJKubeAssemblyFileSets(layer)) {
-            files.addAll(processAssemblyFileSet(
-                project.getBaseDirectory(), buildDirs.getOutputDirectory(), fileSet, layer, assemblyConfiguration));
+            if (stage) {
+                files.addAll(processAssemblyFileSet(
+                    project.getBaseDirectory(), buildDirs.getOutputDirectory(), fileSet, layer, assemblyConfiguration));
+            } else {
+                files.addAll(resolveAssemblyFileSet(
+                    project.getBaseDirectory(), buildDirs.getOutputDirectory(), fileSet, layer, assemblyConfiguration));
+            }
         }
         for (AssemblyFile file : getJKubeAssemblyFiles(layer)) {
-            files.add(processJKubeProjectAssemblyFile(project, file, buildDirs, layer, assemblyConfiguration));
+            files.add(processJKubeProjectAssemblyFile(project, file, buildDirs, layer, assemblyConfiguration, stage));
         }
         return files;
     }
 
     private AssemblyFileEntry processJKubeProjectAssemblyFile(
         JavaProject project, AssemblyFile assemblyFile, BuildDirs buildDirs, Assembly layer,
-        AssemblyConfiguration assemblyConfiguration) throws IOException {
+        AssemblyConfiguration assemblyConfiguration, boolean stage) throws IOException {
 
         final File sourceFile = resolveSourceFile(project.getBaseDirectory(), assemblyFile);
 
         final File outputDirectory = getAssemblyFileOutputDirectory(
             assemblyFile, buildDirs.getOutputDirectory(), layer, assemblyConfiguration);
-        FileUtil.createDirectory(outputDirectory);
-
         final String destinationFilename = Optional.ofNullable(assemblyFile.getDestName()).orElse(sourceFile.getName());
         final File destinationFile = new File(outputDirectory, destinationFilename);
-        FileUtil.copy(sourceFile, destinationFile);
+        if (stage) {
+            FileUtil.createDirectory(outputDirectory);
+            FileUtil.stage(sourceFile, destinationFile);
+        }
         return new AssemblyFileEntry(sourceFile, destinationFile, assemblyFile.getFileMode());
     }
 
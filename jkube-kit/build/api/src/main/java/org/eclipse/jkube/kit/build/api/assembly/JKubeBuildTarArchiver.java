@@ -15,6 +15,7 @@ package org.eclipse.jkube.kit.build.api.assembly;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -31,6 +32,7 @@ public class JKubeBuildTarArchiver {
     private final Map<File, String> filesToIncludeNameMap = new HashMap<>();
     private final Map<File, String> fileModeMap = new HashMap<>();
     private final List<String> filesNamesToExclude = new ArrayList<>();
+    private Instant outputTimestamp;
 
     public void includeFile(File inputFile, String destinationFileName) {
         filesToIncludeNameMap.put(inputFile, destinationFileName);
@@ -44,8 +46,39 @@ public class JKubeBuildTarArchiver {
         filesNamesToExclude.add(inputFilePath);
     }
 
+    /**
+     * Makes the archive reproducible, its entries are sorted and get the provided modification time.
+     *
+     * @param outputTimestamp the modification time for all the entries, or null to keep the file modification times.
+     */
+    public void setOutputTimestamp(Instant outputTimestamp) {
+        this.outputTimestamp = outputTimestamp;
+    }
+
     public File createArchive(File inputDirectory, BuildDirs buildDirs, ArchiveCompression compression) throws IOException {
         File outputFile = new File(buildDirs.getTemporaryRootDirectory(), ARCHIVE_FILE_NAME + (compression.equals(ArchiveCompression.none) ? "tar" : compression.getFileSuffix()));
+        return JKubeTarArchiver.createTarBall(outputFile, inputDirectory, prepareFiles(inputDirectory), fileModeMap, compression,
+            outputTimestamp, null, null);
+    }
+
+    /**
+     * Prepares the archive contents and returns an {@link ArchiveWriter} that writes the archive to a stream
+     * without storing it on disk.
+     *
+     * @param inputDirectory the directory with the archive contents.
+     * @param compression the compression to apply to the archive.
+     * @return the writer for the prepared archive.
+     * @throws IOException if the archive contents can't be prepared.
+     */
+    public ArchiveWriter createArchiveWriter(File inputDirectory, ArchiveCompression compression) throws IOException {
+        final List<File> files = prepareFiles(inputDirectory);
+        final Map<File, String> fileModes = new HashMap<>(fileModeMap);
+        final Instant timestamp = outputTimestamp;
+        return outputStream -> JKubeTarArchiver.createTarBall(
+            outputStream, inputDirectory, files, fileModes, compression, timestamp, null, null);
+    }
+
+    private List<File> prepareFiles(File inputDirectory) throws IOException {
         List<File> files = FileUtil.listFilesAndDirsRecursivelyInDirectory(inputDirectory);
 
         if (!filesToIncludeNameMap.isEmpty()) {
@@ -73,7 +106,6 @@ public class JKubeBuildTarArchiver {
             }
             fileListToAddInTarball.add(currentFile);
         }
-
-        return JKubeTarArchiver.createTarBall(outputFile, inputDirectory, fileListToAddInTarball, fileModeMap, compression);
+        return fileListToAddInTarball;
     }
-}
\ No newline at end of file
+}
@@ -15,6 +15,7 @@ package org.eclipse.jkube.kit.build.service.docker;
 
 import org.eclipse.jkube.kit.common.AssemblyFileEntry;
 import org.eclipse.jkube.kit.common.JKubeConfiguration;
+import org.eclipse.jkube.kit.build.api.assembly.ArchiveWriter;
 import org.eclipse.jkube.kit.build.api.assembly.ArchiverCustomizer;
 import org.eclipse.jkube.kit.build.api.assembly.AssemblyFiles;
 import org.eclipse.jkube.kit.build.api.assembly.AssemblyManager;
@@ -117,4 +118,9 @@ public class ArchiveService {
             throws IOException {
         return assemblyManager.createDockerTarArchive(imageName, params, buildConfig, log, customizer);
     }
+
+    ArchiveWriter createArchiveWriter(String imageName, BuildConfiguration buildConfig, JKubeConfiguration params, KitLogger log)
+            throws IOException {
+        return assemblyManager.createDockerTarArchiveWriter(imageName, params, buildConfig, log, null);
+    }
 }
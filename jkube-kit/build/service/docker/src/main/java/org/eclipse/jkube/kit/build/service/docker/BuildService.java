@@ -28,6 +28,7 @@ import com.google.gson.JsonObject;
 import com.google.common.collect.ImmutableMap;
 
 import org.eclipse.jkube.kit.common.JKubeConfiguration;
+import org.eclipse.jkube.kit.build.api.assembly.ArchiveWriter;
 import org.eclipse.jkube.kit.build.api.helper.DockerFileUtil;
 import org.eclipse.jkube.kit.build.api.assembly.AssemblyManager;
 import org.eclipse.jkube.kit.common.util.EnvUtil;
@@ -128,8 +129,9 @@ public class BuildService {
             return;
         }
 
-        File dockerArchive = archiveService.createArchive(imageName, buildConfig, params, log);
-        log.info("%s: Created %s in %s", imageConfig.getDescription(), dockerArchive.getName(), EnvUtil.formatDurationTill(time));
+        // The build context is streamed to the Docker daemon while it's being archived
+        ArchiveWriter dockerArchive = archiveService.createArchiveWriter(imageName, buildConfig, params, log);
+        log.info("%s: Prepared build context in %s", imageConfig.getDescription(), EnvUtil.formatDurationTill(time));
 
         Map<String, String> mergedBuildMap = prepareBuildArgs(buildArgs, buildConfig);
 
@@ -178,7 +180,7 @@ public class BuildService {
         }
     }
 
-    private String doBuildImage(String imageName, File dockerArchive, BuildOptions options)
+    private String doBuildImage(String imageName, ArchiveWriter dockerArchive, BuildOptions options)
             throws DockerAccessException {
         docker.buildImage(imageName, dockerArchive, options);
         return queryService.getImageId(imageName);
@@ -267,6 +269,15 @@ public class BuildService {
                 registryService.pullImageWithPolicy(fromImage, imagePullManager, configuration.getRegistryConfig(), buildConfig);
             }
         }
+        // The daemon can only use the cache sources that are available locally (e.g. in ephemeral CI daemons),
+        // a missing cache source (e.g. the first build) isn't an error
+        for (String cacheFrom : Optional.ofNullable(buildConfig.getCacheFrom()).orElse(Collections.emptyList())) {
+            try {
+                registryService.pullImageWithPolicy(cacheFrom, imagePullManager, configuration.getRegistryConfig(), buildConfig);
+            } catch (IOException e) {
+                log.warn("Cannot pull cache source image %s, building without it: %s", cacheFrom, e.getMessage());
+            }
+        }
     }
 
     private List<String> extractBaseFromDockerfile(BuildConfiguration buildConfig, JKubeConfiguration configuration) {
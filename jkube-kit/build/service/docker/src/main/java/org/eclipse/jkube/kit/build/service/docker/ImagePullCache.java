@@ -13,82 +13,213 @@
  */
 package org.eclipse.jkube.kit.build.service.docker;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import org.eclipse.jkube.kit.common.JsonFactory;
 
 /**
- * Simple interface for a ImagePullCache manager, to load and persist the cache.
+ * Cache of the images known to be available in a Docker daemon.
+ *
+ * <p> Entries are indexed by daemon id and image name and expire after the configured time to live.
+ * The cache is either kept in memory, in a {@link Properties} entry (so that it's shared by the components of a session
+ * that share the same properties) or in a JSON file (so that the entries survive the current build).
+ *
+ * <p> Entries added by other instances backed by the same properties or file are picked up when an image isn't found.
  */
 public class ImagePullCache {
 
-    // Key for the previously used image cache
-    private static final String CONTEXT_KEY_PREVIOUSLY_PULLED = "CONTEXT_KEY_PREVIOUSLY_PULLED";
+  static final String NO_DAEMON_ID = "";
 
-    private final Backend backend;
+  private final Store store;
+  private final long ttlMillis;
+  private final LongSupplier clock;
+  private final Map<String, Map<String, Long>> index;
 
-    public ImagePullCache(Backend backend) {
-        this.backend = backend;
-    }
+  public ImagePullCache(File file, Duration ttl) {
+    this(file, ttl, System::currentTimeMillis);
+  }
 
-    public boolean hasAlreadyPulled(String image) {
-        return load().has(image);
-    }
+  public ImagePullCache(Properties properties, String key, Duration ttl) {
+    this(() -> properties.getProperty(key), json -> properties.setProperty(key, json), ttl);
+  }
 
-    public void pulled(String image) {
-        save(load().add(image));
-    }
+  ImagePullCache(Supplier<String> reader, Consumer<String> writer, Duration ttl) {
+    this(new PropertyStore(reader, writer), ttl, System::currentTimeMillis);
+  }
 
-    // Store to use for the cached
-    public interface Backend {
-        String get(String key);
-        void put(String key, String value);
-    }
+  ImagePullCache(File file, Duration ttl, LongSupplier clock) {
+    this(file == null ? new MemoryStore() : new FileStore(file), ttl, clock);
+  }
 
-    // ======================================================================================
+  private ImagePullCache(Store store, Duration ttl, LongSupplier clock) {
+    this.store = store;
+    this.ttlMillis = ttl.toMillis();
+    this.clock = clock;
+    this.index = new HashMap<>();
+    load();
+  }
 
-    private ImagePullCacheStore load() {
+  public synchronized boolean has(String daemonId, String image) {
+    if (isCached(daemonId, image)) {
+      return true;
+    }
+    load();
+    return isCached(daemonId, image);
+  }
+
+  public synchronized void add(String daemonId, String image) {
+    load();
+    index.computeIfAbsent(daemonKey(daemonId), k -> new HashMap<>()).put(image, clock.getAsLong());
+    save();
+  }
+
+  private boolean isCached(String daemonId, String image) {
+    final Map<String, Long> images = index.get(daemonKey(daemonId));
+    if (images == null) {
+      return false;
+    }
+    final Long timestamp = images.get(image);
+    if (timestamp == null) {
+      return false;
+    }
+    if (isExpired(timestamp)) {
+      images.remove(image);
+      return false;
+    }
+    return true;
+  }
+
+  private boolean isExpired(long timestamp) {
+    return clock.getAsLong() - timestamp >= ttlMillis;
+  }
+
+  private static String daemonKey(String daemonId) {
+    return daemonId == null ? NO_DAEMON_ID : daemonId;
+  }
+
+  private void load() {
+    try {
+      final String stored = store.read();
+      if (stored == null) {
+        return;
+      }
+      final Map<String, Map<String, Long>> loaded = new HashMap<>();
+      for (Map.Entry<String, JsonElement> daemon : JsonFactory.newJsonObject(stored).entrySet()) {
+        final Map<String, Long> images = new HashMap<>();
+        for (Map.Entry<String, JsonElement> image : daemon.getValue().getAsJsonObject().entrySet()) {
+          final long timestamp = image.getValue().getAsLong();
+          if (!isExpired(timestamp)) {
+            images.put(image.getKey(), timestamp);
+          }
+        }
+        loaded.put(daemon.getKey(), images);
+      }
+      index.clear();
+      index.putAll(loaded);
+    } catch (IOException | RuntimeException e) {
+      // Unreadable or corrupt cache, keep the current entries (the rest of the images will be checked again)
+    }
+  }
+
+  private void save() {
+    final JsonObject json = new JsonObject();
+    index.forEach((daemonId, images) -> {
+      final JsonObject daemon = new JsonObject();
+      images.forEach((image, timestamp) -> {
+        if (!isExpired(timestamp)) {
+          daemon.addProperty(image, timestamp);
+        }
+      });
+      json.add(daemonId, daemon);
+    });
+    try {
+      store.write(json.toString());
+    } catch (IOException e) {
+      // The cache is an optimization, failing to persist it must not break the build
+    }
+  }
 
-        String pullCacheJson = backend.get(CONTEXT_KEY_PREVIOUSLY_PULLED);
+  private interface Store {
+    String read() throws IOException;
 
-        ImagePullCacheStore cache = new ImagePullCacheStore(pullCacheJson);
+    void write(String json) throws IOException;
+  }
 
-        if (pullCacheJson == null) {
-            save(cache);
-        }
-        return cache;
+  // The index itself is the only copy of the entries
+  private static final class MemoryStore implements Store {
+    @Override
+    public String read() {
+      return null;
     }
 
-    private void save(ImagePullCacheStore cache) {
-        backend.put(CONTEXT_KEY_PREVIOUSLY_PULLED, cache.toString());
+    @Override
+    public void write(String json) {
+      // NO-OP
     }
+  }
 
-    /**
-     * Simple serializable cache for holding image names
-     *
-     * @author roland
-     * @since 20/07/16
-     */
-    class ImagePullCacheStore {
+  // A single entry of a shared key-value store (e.g. the session properties)
+  private static final class PropertyStore implements Store {
+    private final Supplier<String> reader;
+    private final Consumer<String> writer;
 
-        private JsonObject cache;
+    private PropertyStore(Supplier<String> reader, Consumer<String> writer) {
+      this.reader = reader;
+      this.writer = writer;
+    }
 
+    @Override
+    public String read() {
+      return reader.get();
+    }
 
-        ImagePullCacheStore(String json) {
-            cache = json != null ? JsonFactory.newJsonObject(json) : new JsonObject();
-        }
+    @Override
+    public void write(String json) {
+      writer.accept(json);
+    }
+  }
 
-        public boolean has(String imageName) {
-            return cache.has(imageName);
-        }
+  private static final class FileStore implements Store {
+    private final File file;
 
-        public ImagePullCacheStore add(String image) {
-            cache.addProperty(image, Boolean.TRUE);
-            return this;
-        }
+    private FileStore(File file) {
+      this.file = file;
+    }
 
-        @Override
-        public String toString() {
-            return cache.toString();
-        }
+    @Override
+    public String read() throws IOException {
+      if (!file.isFile()) {
+        return null;
+      }
+      return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+
+    // Written to a temporary file first so that concurrent builds never read a partially written cache
+    @Override
+    public void write(String json) throws IOException {
+      final Path target = file.toPath().toAbsolutePath();
+      Files.createDirectories(target.getParent());
+      final Path tmp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+      try {
+        Files.write(tmp, json.getBytes(StandardCharsets.UTF_8));
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(tmp);
+      }
     }
+  }
 }
@@ -14,28 +14,64 @@
 package org.eclipse.jkube.kit.build.service.docker;
 
 import com.google.gson.JsonObject;
-
 import org.eclipse.jkube.kit.build.service.docker.helper.AutoPullMode;
 import org.eclipse.jkube.kit.common.JsonFactory;
 import org.eclipse.jkube.kit.config.image.build.ImagePullPolicy;
 
+import java.io.File;
+import java.time.Duration;
+import java.util.Optional;
 import java.util.Properties;
 
 /**
- * Simple interface for a ImagePullCache manager, to load and persist the cache.
+ * Decides the {@link ImagePullPolicy} to use and keeps track, through
+ * {@link org.eclipse.jkube.kit.build.service.docker.ImagePullCache}s, of the images
+ * that were already pulled (or found) in the Docker daemon.
+ *
+ * <p> Images pulled or found during the current session are tracked in the session properties, so they aren't
+ * checked again until the session ends, whatever the pull policy. Only the images actually pulled with the
+ * {@link ImagePullPolicy#IfNotPresent} policy are persisted in the optional pull cache file, and only that policy
+ * reuses them in later builds.
  */
 public class ImagePullManager {
 
-    // Key for the previously used image cache
-    private static final String CONTEXT_KEY_PREVIOUSLY_PULLED = "CONTEXT_KEY_PREVIOUSLY_PULLED";
+    // File backing the pull cache, when set the pulled images are reused by later builds (IfNotPresent only)
+    public static final String PULL_CACHE_FILE = "jkube.docker.pullCache.file";
+    // Time to live (in seconds) of the pull cache entries
+    public static final String PULL_CACHE_TTL = "jkube.docker.pullCache.ttl";
+
+    // Key for the images pulled (or found) during the current session
+    static final String CONTEXT_KEY_PREVIOUSLY_PULLED = "CONTEXT_KEY_PREVIOUSLY_PULLED";
+
+    static final Duration DEFAULT_PULL_CACHE_TTL = Duration.ofHours(1);
 
     // image pull policy
     private final ImagePullPolicy imagePullPolicy;
 
-    private final CacheStore cacheStore;
+    private final org.eclipse.jkube.kit.build.service.docker.ImagePullCache sessionCache;
+
+    private final org.eclipse.jkube.kit.build.service.docker.ImagePullCache persistentCache;
 
+    /**
+     * @deprecated use {@link #createImagePullManager(String, String, Properties)} instead.
+     */
+    @Deprecated
     public ImagePullManager(CacheStore cacheStore, String imagePullPolicy, String autoPull) {
-        this.cacheStore = cacheStore;
+        this(new org.eclipse.jkube.kit.build.service.docker.ImagePullCache(
+            () -> cacheStore.get(CONTEXT_KEY_PREVIOUSLY_PULLED),
+            json -> cacheStore.put(CONTEXT_KEY_PREVIOUSLY_PULLED, json), DEFAULT_PULL_CACHE_TTL),
+            imagePullPolicy, autoPull);
+    }
+
+    public ImagePullManager(org.eclipse.jkube.kit.build.service.docker.ImagePullCache sessionCache,
+        String imagePullPolicy, String autoPull) {
+        this(sessionCache, null, imagePullPolicy, autoPull);
+    }
+
+    public ImagePullManager(org.eclipse.jkube.kit.build.service.docker.ImagePullCache sessionCache,
+        org.eclipse.jkube.kit.build.service.docker.ImagePullCache persistentCache, String imagePullPolicy, String autoPull) {
+        this.sessionCache = sessionCache;
+        this.persistentCache = persistentCache;
         this.imagePullPolicy = createPullPolicy(imagePullPolicy, autoPull);
     }
 
@@ -62,39 +98,86 @@ public class ImagePullManager {
         return ImagePullPolicy.IfNotPresent;
     }
 
+    /**
+     * @deprecated use {@link #hasAlreadyPulled(String, String)} instead, the image isn't scoped to a daemon.
+     */
+    @Deprecated
     public boolean hasAlreadyPulled(String image) {
-        return load().has(image);
+        return hasAlreadyPulled(null, image);
     }
 
-    public void pulled(String image) {
-        save(load().add(image));
+    public boolean hasAlreadyPulled(String daemonId, String image) {
+        if (sessionCache.has(daemonId, image)) {
+            return true;
+        }
+        return usePersistentCache() && persistentCache.has(daemonId, image);
     }
 
-    public static ImagePullManager createImagePullManager(String imagePullPolicy, String autoPull, Properties properties) {
-      return new ImagePullManager(new PropertyCacheStore(properties), imagePullPolicy, autoPull);
+    /**
+     * Records an image that was already present in the daemon, it's only remembered for the current session.
+     */
+    public void found(String daemonId, String image) {
+        sessionCache.add(daemonId, image);
     }
 
-    public interface CacheStore {
-        String get(String key);
-
-        void put(String key, String value);
+    /**
+     * @deprecated use {@link #pulled(String, String)} instead, the image isn't scoped to a daemon.
+     */
+    @Deprecated
+    public void pulled(String image) {
+        pulled(null, image);
     }
 
-    public ImagePullCache load() {
+    /**
+     * Records an image that was pulled into the daemon.
+     */
+    public void pulled(String daemonId, String image) {
+        sessionCache.add(daemonId, image);
+        if (usePersistentCache()) {
+            persistentCache.add(daemonId, image);
+        }
+    }
 
-        String pullCacheJson = cacheStore.get(CONTEXT_KEY_PREVIOUSLY_PULLED);
+    private boolean usePersistentCache() {
+        return persistentCache != null && imagePullPolicy == ImagePullPolicy.IfNotPresent;
+    }
 
-        ImagePullCache cache = new ImagePullCache(pullCacheJson);
+    /**
+     * Creates an {@link ImagePullManager} for the provided policy.
+     *
+     * <p> The images pulled (or found) are tracked in the provided properties, which are shared by all the managers
+     * created for the same session. When a cache file is configured with the {@value #PULL_CACHE_FILE} property,
+     * the images pulled with the {@link ImagePullPolicy#IfNotPresent} policy are also persisted in it.
+     *
+     * @param imagePullPolicy the image pull policy.
+     * @param autoPull the (legacy) auto pull mode.
+     * @param properties the session (project) properties where the pull cache is kept and its configuration read from.
+     * @return the image pull manager.
+     */
+    public static ImagePullManager createImagePullManager(String imagePullPolicy, String autoPull, Properties properties) {
+      final File file = Optional.ofNullable(getProperty(properties, PULL_CACHE_FILE)).map(File::new).orElse(null);
+      final Duration ttl = Optional.ofNullable(getProperty(properties, PULL_CACHE_TTL))
+          .map(Long::parseLong).map(Duration::ofSeconds).orElse(DEFAULT_PULL_CACHE_TTL);
+      final org.eclipse.jkube.kit.build.service.docker.ImagePullCache sessionCache = properties != null ?
+          new org.eclipse.jkube.kit.build.service.docker.ImagePullCache(properties, CONTEXT_KEY_PREVIOUSLY_PULLED, ttl) :
+          new org.eclipse.jkube.kit.build.service.docker.ImagePullCache((File) null, ttl);
+      final org.eclipse.jkube.kit.build.service.docker.ImagePullCache persistentCache = file != null ?
+          new org.eclipse.jkube.kit.build.service.docker.ImagePullCache(file, ttl) : null;
+      return new ImagePullManager(sessionCache, persistentCache, imagePullPolicy, autoPull);
+    }
 
-        if (pullCacheJson == null) {
-            save(cache);
-            cacheStore.put(CONTEXT_KEY_PREVIOUSLY_PULLED, cache.toString());
-        }
-        return cache;
+    private static String getProperty(Properties properties, String key) {
+      return Optional.ofNullable(properties).map(p -> p.getProperty(key)).orElse(System.getProperty(key));
     }
 
-    public void save(ImagePullCache cache) {
-        cacheStore.put(CONTEXT_KEY_PREVIOUSLY_PULLED, cache.toString());
+    /**
+     * @deprecated the pull cache is managed by {@link org.eclipse.jkube.kit.build.service.docker.ImagePullCache}.
+     */
+    @Deprecated
+    public interface CacheStore {
+        String get(String key);
+
+        void put(String key, String value);
     }
 
     /**
@@ -102,7 +185,9 @@ public class ImagePullManager {
      *
      * @author roland
      * @since 20/07/16
+     * @deprecated the pull cache is managed by {@link org.eclipse.jkube.kit.build.service.docker.ImagePullCache}.
      */
+    @Deprecated
     public static class ImagePullCache {
 
       private final JsonObject cache;
@@ -126,6 +211,10 @@ public class ImagePullManager {
         }
     }
 
+    /**
+     * @deprecated use {@link #createImagePullManager(String, String, Properties)} instead.
+     */
+    @Deprecated
     public static class PropertyCacheStore implements CacheStore {
       private final Properties properties;
 
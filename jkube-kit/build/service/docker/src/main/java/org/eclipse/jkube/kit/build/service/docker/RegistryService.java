@@ -38,11 +38,14 @@ public class RegistryService {
     private final DockerAccess docker;
     private final QueryService queryService;
     private final KitLogger log;
+    // Shared by all the pulls and pushes of the build this service belongs to
+    private final AuthConfigFactory authConfigFactory;
 
     RegistryService(DockerAccess docker, QueryService queryService, KitLogger log) {
         this.docker = docker;
         this.queryService = queryService;
         this.log = log;
+        this.authConfigFactory = new AuthConfigFactory(log);
     }
 
     /**
@@ -91,13 +94,16 @@ public class RegistryService {
     public void pullImageWithPolicy(String image, ImagePullManager pullManager,RegistryConfig registryConfig,
         BuildConfiguration buildConfiguration) throws IOException {
 
-        // Already pulled, so we don't need to take care
-        if (pullManager.hasAlreadyPulled(image)) {
+        // Already pulled (or found) in this daemon, so we don't need to take care
+        final String daemonId = docker.getDaemonId();
+        if (pullManager.hasAlreadyPulled(daemonId, image)) {
             return;
         }
 
         // Check if a pull is required
         if (!imageRequiresPull(queryService.hasImage(image), pullManager.getImagePullPolicy(), image)) {
+            // The image is present, no need to query the daemon again for the rest of the session
+            pullManager.found(daemonId, image);
             return;
         }
 
@@ -112,7 +118,7 @@ public class RegistryService {
             createAuthConfig(false, null, actualRegistry, registryConfig),
             actualRegistry, createImageOptions);
         log.info("Pulled %s in %s", imageName.getFullName(), EnvUtil.formatDurationTill(pullStartTime));
-        pullManager.pulled(image);
+        pullManager.pulled(daemonId, image);
 
         if (actualRegistry != null && !imageName.hasRegistry()) {
             // If coming from a registry which was not contained in the original name, add a tag from the
@@ -151,7 +157,7 @@ public class RegistryService {
     private AuthConfig createAuthConfig(boolean isPush, String user, String registry, RegistryConfig config)
             throws IOException {
 
-        return new AuthConfigFactory(log).createAuthConfig(
+        return authConfigFactory.createAuthConfig(
             isPush, config.isSkipExtendedAuth(), config.getAuthConfig(),
             config.getSettings(), user, registry, config.getPasswordDecryptionMethod());
     }
@@ -13,6 +13,7 @@
  */
 package org.eclipse.jkube.kit.build.service.docker.access;
 
+import org.eclipse.jkube.kit.build.api.assembly.ArchiveWriter;
 import org.eclipse.jkube.kit.build.api.auth.AuthConfig;
 import org.eclipse.jkube.kit.build.api.model.Container;
 import org.eclipse.jkube.kit.build.api.model.ContainerDetails;
@@ -46,6 +47,18 @@ public interface DockerAccess {
      */
     String getServerApiVersion() throws DockerAccessException;
 
+    /**
+     * Get an identifier of the Docker daemon, stable across connections to the same daemon
+     *
+     * <p> Implementations which can't identify the daemon may return null, the images pulled are then tracked
+     * without scoping them to a daemon.
+     *
+     * @return the daemon ID as reported by the server, or the daemon URL if not available, null by default
+     */
+    default String getDaemonId() {
+        return null;
+    }
+
     /**
      * Get a container
      *
@@ -227,6 +240,16 @@ public interface DockerAccess {
      */
     void buildImage(String image, File dockerArchive, BuildOptions options) throws DockerAccessException;
 
+    /**
+     * Create an docker image from a given archive which is streamed to the Docker daemon while it's being written
+     *
+     * @param image name of the image to build or <code>null</code> if none should be used
+     * @param dockerArchive writer for the archive from which the docker image should be build
+     * @param options additional query arguments to add when building the image. Can be null.
+     * @throws DockerAccessException if docker host reports an error during building of an image
+     */
+    void buildImage(String image, ArchiveWriter dockerArchive, BuildOptions options) throws DockerAccessException;
+
     /**
      * Alias an image in the repository with a complete new name. (Note that this maps to a Docker Remote API 'tag'
      * operation, which IMO is badly named since it also can generate a complete alias to a given image)
@@ -75,6 +75,10 @@ public final class UrlBuilder {
         return String.format("%s/version", baseUrl);
     }
 
+    public String info() {
+        return String.format("%s/info", baseUrl);
+    }
+
     public String deleteImage(String name, boolean force) {
         return u("images/%s", name)
                 .p("force", force)
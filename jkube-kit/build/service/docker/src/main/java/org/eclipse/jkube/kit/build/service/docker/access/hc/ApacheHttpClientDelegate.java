@@ -20,6 +20,7 @@ import java.nio.charset.Charset;
 import java.util.Map;
 import java.util.Map.Entry;
 
+import org.eclipse.jkube.kit.build.api.assembly.ArchiveWriter;
 import org.eclipse.jkube.kit.build.service.docker.access.hc.http.HttpRequestException;
 import org.eclipse.jkube.kit.build.service.docker.access.hc.util.ClientBuilder;
 import org.apache.http.HttpHeaders;
@@ -32,6 +33,7 @@ import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.EntityTemplate;
 import org.apache.http.entity.FileEntity;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
@@ -138,6 +140,8 @@ public class ApacheHttpClientDelegate {
         req.addHeader(HttpHeaders.ACCEPT, "*/*");
         if (body instanceof File) {
             req.addHeader(HttpHeaders.CONTENT_TYPE, URLConnection.guessContentTypeFromName(((File)body).getName()));
+        } else if (body instanceof ArchiveWriter) {
+            req.addHeader(HttpHeaders.CONTENT_TYPE, "application/x-tar");
         }
         if (body != null && !req.containsHeader(HttpHeaders.CONTENT_TYPE)) {
             req.addHeader(HttpHeaders.CONTENT_TYPE, "application/json");
@@ -170,6 +174,9 @@ public class ApacheHttpClientDelegate {
         if (entity != null) {
             if (entity instanceof File) {
                 request.setEntity(new FileEntity((File) entity));
+            } else if (entity instanceof ArchiveWriter) {
+                // Streamed (chunked) while the archive is being written
+                request.setEntity(new EntityTemplate(((ArchiveWriter) entity)::writeTo));
             } else {
                 request.setEntity(new StringEntity((String) entity, Charset.defaultCharset()));
             }
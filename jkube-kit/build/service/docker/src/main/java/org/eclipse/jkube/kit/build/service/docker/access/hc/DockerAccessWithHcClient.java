@@ -23,6 +23,8 @@ import java.io.OutputStream;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -38,6 +40,7 @@ import org.eclipse.jkube.kit.build.api.model.Network;
 import org.eclipse.jkube.kit.build.api.model.NetworkCreateConfig;
 import org.eclipse.jkube.kit.build.api.model.NetworksListElement;
 import org.eclipse.jkube.kit.build.api.model.VolumeCreateConfig;
+import org.eclipse.jkube.kit.build.api.assembly.ArchiveWriter;
 import org.eclipse.jkube.kit.build.api.auth.AuthConfig;
 import org.eclipse.jkube.kit.build.service.docker.access.BuildOptions;
 import org.eclipse.jkube.kit.build.service.docker.access.ContainerCreateConfig;
@@ -64,6 +67,8 @@ import org.eclipse.jkube.kit.config.image.ImageName;
 import org.eclipse.jkube.kit.common.archive.ArchiveCompression;
 import org.eclipse.jkube.kit.common.Arguments;
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.Header;
 import org.apache.http.HttpHeaders;
 import org.apache.http.client.HttpResponseException;
 import org.apache.http.client.ResponseHandler;
@@ -103,11 +108,21 @@ public class DockerAccessWithHcClient implements DockerAccess {
     // Minimal API version, independent of any feature used
     public static final String API_VERSION = "1.18";
 
+    // Build options that older daemons reject or silently ignore, along with the API version that introduced them
+    private static final Map<String, String> BUILD_OPTIONS_API_VERSIONS = new LinkedHashMap<>();
+    static {
+        BUILD_OPTIONS_API_VERSIONS.put("cachefrom", "1.25");
+        BUILD_OPTIONS_API_VERSIONS.put("target", "1.29");
+        BUILD_OPTIONS_API_VERSIONS.put("platform", "1.32");
+    }
+
     // Logging
     private final KitLogger log;
 
     private final ApacheHttpClientDelegate delegate;
+    private final String apiVersion;
     private final UrlBuilder urlBuilder;
+    private String daemonId;
 
     /**
      * Create a new access for the given URL
@@ -141,7 +156,8 @@ public class DockerAccessWithHcClient implements DockerAccess {
         while(baseUrl.endsWith("/")) {
             baseUrl = baseUrl.substring(0, baseUrl.length() - 1);
         }
-        this.urlBuilder = new UrlBuilder(baseUrl, "v" + fetchApiVersionFromServer(baseUrl, this.delegate));
+        this.apiVersion = fetchApiVersionFromServer(baseUrl, this.delegate);
+        this.urlBuilder = new UrlBuilder(baseUrl, "v" + apiVersion);
         this.log = log;
     }
 
@@ -158,6 +174,21 @@ public class DockerAccessWithHcClient implements DockerAccess {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public synchronized String getDaemonId() {
+        if (daemonId == null) {
+            try {
+                final JsonObject info = JsonFactory.newJsonObject(delegate.get(urlBuilder.info(), 200));
+                daemonId = info.has("ID") ? info.get("ID").getAsString() : urlBuilder.getBaseUrl();
+            } catch (Exception e) {
+                log.debug("Cannot retrieve the daemon ID from server %s: %s", urlBuilder.getBaseUrl(), e.getMessage());
+                daemonId = urlBuilder.getBaseUrl();
+            }
+        }
+        return daemonId;
+    }
+
     @Override
     public void startExecContainer(String containerId, LogOutputSpec outputSpec) throws DockerAccessException {
         try {
@@ -263,13 +294,43 @@ public class DockerAccessWithHcClient implements DockerAccess {
     @Override
     public void buildImage(String image, File dockerArchive, BuildOptions options) throws DockerAccessException {
         try {
-            String url = urlBuilder.buildImage(image, options);
+            String url = urlBuilder.buildImage(image, supportedBuildOptions(options));
+            delegate.post(url, dockerArchive, createBuildResponseHandler(), HTTP_OK);
+        } catch (IOException e) {
+            throw new DockerAccessException(e, "Unable to build image [%s]", image);
+        }
+    }
+
+    @Override
+    public void buildImage(String image, ArchiveWriter dockerArchive, BuildOptions options) throws DockerAccessException {
+        try {
+            String url = urlBuilder.buildImage(image, supportedBuildOptions(options));
             delegate.post(url, dockerArchive, createBuildResponseHandler(), HTTP_OK);
         } catch (IOException e) {
             throw new DockerAccessException(e, "Unable to build image [%s]", image);
         }
     }
 
+    /**
+     * Removes the build options that aren't supported by the negotiated API version, so that builds with e.g.
+     * <code>cacheFrom</code> still work (without the cache) on older daemons.
+     */
+    BuildOptions supportedBuildOptions(BuildOptions options) {
+        if (options == null) {
+            return null;
+        }
+        final Map<String, String> supported = new HashMap<>(options.getOptions());
+        for (Map.Entry<String, String> optionApiVersion : BUILD_OPTIONS_API_VERSIONS.entrySet()) {
+            if (supported.containsKey(optionApiVersion.getKey())
+                && !EnvUtil.greaterOrEqualsVersion(apiVersion, optionApiVersion.getValue())) {
+                log.warn("Build option '%s' requires Docker API version %s but the daemon supports %s, ignoring it",
+                    optionApiVersion.getKey(), optionApiVersion.getValue(), apiVersion);
+                supported.remove(optionApiVersion.getKey());
+            }
+        }
+        return new BuildOptions(supported);
+    }
+
     @Override
     public void copyArchive(String containerId, File archive, String targetPath)
             throws DockerAccessException {
@@ -698,13 +759,35 @@ public class DockerAccessWithHcClient implements DockerAccess {
         return url != null && url.toLowerCase().startsWith("https");
     }
 
+    /**
+     * Negotiates the API version with the daemon, the latest version supported by the daemon is used.
+     *
+     * <p> The version is taken from the <code>Api-Version</code> header of the (lightweight) <code>/_ping</code>
+     * endpoint, daemons that don't provide it there are queried through the <code>/version</code> endpoint.
+     * If none of them provides the header, the minimal {@link #API_VERSION} is used.
+     *
+     * @param baseUrl base URL of the Docker daemon
+     * @param delegate HTTP client for the Docker daemon
+     * @return the API version to use
+     * @throws IOException in case the daemon can't be reached
+     */
     public String fetchApiVersionFromServer(String baseUrl, ApacheHttpClientDelegate delegate) throws IOException {
-        HttpGet get = new HttpGet(baseUrl + (baseUrl.endsWith("/") ? "" : "/") + "version");
+        for (String endpoint : new String[] { "_ping", "version" }) {
+            final String version = fetchApiVersionHeader(baseUrl + (baseUrl.endsWith("/") ? "" : "/") + endpoint, delegate);
+            if (version != null) {
+                return version;
+            }
+        }
+        return API_VERSION;
+    }
+
+    private static String fetchApiVersionHeader(String url, ApacheHttpClientDelegate delegate) throws IOException {
+        HttpGet get = new HttpGet(url);
         get.addHeader(HttpHeaders.ACCEPT, "*/*");
         get.addHeader(HttpHeaders.CONTENT_TYPE, "application/json");
         try (CloseableHttpResponse response = delegate.getHttpClient().execute(get)) {
-
-            return response.getFirstHeader("Api-Version") != null ? response.getFirstHeader("Api-Version").getValue() : API_VERSION;
+            final Header header = response.getFirstHeader("Api-Version");
+            return header != null && StringUtils.isNotBlank(header.getValue()) ? header.getValue() : null;
         }
     }
 
@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.service.docker.auth;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.eclipse.jkube.kit.build.api.auth.AuthConfig;
+
+/**
+ * Cache of the registry credentials resolved from expensive sources (credential helpers spawn an external
+ * process for each lookup, ECR requires a token exchange).
+ *
+ * <p> Instances are scoped to a build (e.g. owned by the service hub), so that all the images of a build resolve
+ * the credentials of each registry only once. Entries are reused until shortly before they expire.
+ * Failed resolutions and resolutions that found no credentials are not cached.
+ */
+public class AuthConfigCache {
+
+  // Entries are considered expired a bit before their actual expiry so that they aren't used while they expire
+  static final Duration EXPIRY_MARGIN = Duration.ofMinutes(5);
+
+  private final Clock clock;
+  private final Map<String, Entry> entries;
+  private final Map<String, Object> locks;
+
+  public AuthConfigCache() {
+    this(Clock.systemUTC());
+  }
+
+  AuthConfigCache(Clock clock) {
+    this.clock = clock;
+    this.entries = new ConcurrentHashMap<>();
+    this.locks = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Returns the cached credentials for the provided key or resolves (and caches) them if there's no valid entry.
+   *
+   * <p> Concurrent requests for the same key wait for the first resolution instead of resolving the credentials again.
+   *
+   * @param key the cache key, must identify the source and the registry of the credentials.
+   * @param resolver function to resolve the credentials and their expiry if there's no valid cache entry.
+   * @return the resolved credentials, might be null if the source has no credentials for the registry (in which case
+   * they're resolved again the next time).
+   * @throws IOException if the credentials can't be resolved.
+   */
+  public AuthConfig get(String key, Resolver resolver) throws IOException {
+    synchronized (locks.computeIfAbsent(key, k -> new Object())) {
+      final Entry cached = entries.get(key);
+      if (cached != null && isValid(cached)) {
+        return cached.getAuthConfig();
+      }
+      final Entry resolved = resolver.resolve();
+      if (resolved.getAuthConfig() == null) {
+        entries.remove(key);
+        return null;
+      }
+      entries.put(key, resolved);
+      return resolved.getAuthConfig();
+    }
+  }
+
+  public Instant now() {
+    return clock.instant();
+  }
+
+  private boolean isValid(Entry entry) {
+    return now().isBefore(entry.getExpiresAt().minus(EXPIRY_MARGIN));
+  }
+
+  @FunctionalInterface
+  public interface Resolver {
+    Entry resolve() throws IOException;
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class Entry {
+    private final AuthConfig authConfig;
+    private final Instant expiresAt;
+  }
+}
@@ -40,6 +40,7 @@ import java.io.Reader;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -65,19 +66,37 @@ public class AuthConfigFactory {
 
     private static final String DOCKER_LOGIN_DEFAULT_REGISTRY = "https://index.docker.io/v1/";
 
+    // Credential helpers don't report when the credentials expire
+    private static final Duration CREDENTIAL_HELPER_CACHE_TTL = Duration.ofMinutes(30);
+
     private final KitLogger log;
     private final AwsSdkHelper awsSdkHelper;
+    private final AuthConfigCache authConfigCache;
     private static final String[] DEFAULT_REGISTRIES = new String[]{
             "docker.io", "index.docker.io", "registry.hub.docker.com"
     };
 
     public AuthConfigFactory(KitLogger log) {
-        this(log, new AwsSdkHelper());
+        this(log, new AuthConfigCache());
+    }
+
+    /**
+     * @param log Kit logger
+     * @param authConfigCache cache for the credentials resolved from credential helpers and ECR, should be shared
+     *                        by the factories of the same build only.
+     */
+    public AuthConfigFactory(KitLogger log, AuthConfigCache authConfigCache) {
+        this(log, new AwsSdkHelper(), authConfigCache);
     }
 
     AuthConfigFactory(KitLogger log, AwsSdkHelper awsSdkHelper) {
+        this(log, awsSdkHelper, new AuthConfigCache());
+    }
+
+    AuthConfigFactory(KitLogger log, AwsSdkHelper awsSdkHelper, AuthConfigCache authConfigCache) {
         this.log = log;
         this.awsSdkHelper = awsSdkHelper;
+        this.authConfigCache = authConfigCache;
     }
 
     /**
@@ -133,7 +152,7 @@ public class AuthConfigFactory {
         }
 
         // Finally check ~/.docker/config.json
-        ret = getAuthConfigFromDockerConfig(registry, log);
+        ret = getAuthConfigFromDockerConfig(registry, log, authConfigCache);
         if (ret != null) {
             log.debug("AuthConfig: credentials from ~/.docker/config.json");
             return ret;
@@ -154,7 +173,7 @@ public class AuthConfigFactory {
      * @throws IOException
      */
     private AuthConfig extendedAuthentication(AuthConfig standardAuthConfig, String registry) throws IOException {
-        EcrExtendedAuth ecr = new EcrExtendedAuth(log, registry);
+        EcrExtendedAuth ecr = new EcrExtendedAuth(log, registry, authConfigCache);
         if (ecr.isAwsRegistry()) {
             return ecr.extendedAuth(standardAuthConfig);
         }
@@ -411,6 +430,10 @@ public class AuthConfigFactory {
     }
 
     protected static AuthConfig getAuthConfigFromDockerConfig(String registry, KitLogger log) throws IOException {
+        return getAuthConfigFromDockerConfig(registry, log, new AuthConfigCache());
+    }
+
+    private static AuthConfig getAuthConfigFromDockerConfig(String registry, KitLogger log, AuthConfigCache authConfigCache) throws IOException {
         JsonObject dockerConfig = DockerFileUtil.readDockerConfig();
         if (dockerConfig == null) {
             return null;
@@ -421,11 +444,11 @@ public class AuthConfigFactory {
             if (dockerConfig.has("credHelpers")) {
                 final JsonObject credHelpers = dockerConfig.getAsJsonObject("credHelpers");
                 if (credHelpers.has(registryToLookup)) {
-                    return extractAuthConfigFromCredentialsHelper(registryToLookup, credHelpers.get(registryToLookup).getAsString(), log);
+                    return extractAuthConfigFromCredentialsHelper(registryToLookup, credHelpers.get(registryToLookup).getAsString(), log, authConfigCache);
                 }
             }
             if (dockerConfig.has("credsStore")) {
-                return extractAuthConfigFromCredentialsHelper(registryToLookup, dockerConfig.get("credsStore").getAsString(), log);
+                return extractAuthConfigFromCredentialsHelper(registryToLookup, dockerConfig.get("credsStore").getAsString(), log, authConfigCache);
             }
         }
 
@@ -446,13 +469,18 @@ public class AuthConfigFactory {
         return AuthConfig.fromCredentialsEncoded(auth,email);
     }
 
-    private static AuthConfig extractAuthConfigFromCredentialsHelper(String registryToLookup, String credConfig, KitLogger log) throws IOException {
+    private static AuthConfig extractAuthConfigFromCredentialsHelper(
+        String registryToLookup, String credConfig, KitLogger log, AuthConfigCache cache) throws IOException {
         CredentialHelperClient credentialHelper = new CredentialHelperClient(log, credConfig);
-        String version = credentialHelper.getVersion();
-        log.debug("AuthConfig: credentials from credential helper/store %s%s",
-                  credentialHelper.getName(),
-                  version != null ? " version " + version : "");
-        return credentialHelper.getAuthConfig(registryToLookup);
+        // Each lookup spawns the helper process, reuse its reply for the rest of the build
+        return cache.get(credentialHelper.getName() + "|" + registryToLookup, () -> {
+            String version = credentialHelper.getVersion();
+            log.debug("AuthConfig: credentials from credential helper/store %s%s",
+                      credentialHelper.getName(),
+                      version != null ? " version " + version : "");
+            return new AuthConfigCache.Entry(credentialHelper.getAuthConfig(registryToLookup),
+                cache.now().plus(CREDENTIAL_HELPER_CACHE_TTL));
+        });
     }
 
     private static JsonObject getCredentialsNode(JsonObject auths,String registryToLookup) {
@@ -17,14 +17,18 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import com.google.common.hash.Hashing;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import org.eclipse.jkube.kit.build.api.auth.AuthConfig;
+import org.eclipse.jkube.kit.build.service.docker.auth.AuthConfigCache;
 import org.eclipse.jkube.kit.common.KitLogger;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpStatus;
@@ -45,7 +49,11 @@ public class EcrExtendedAuth {
     private static final Pattern AWS_REGISTRY =
             Pattern.compile("^(\\d{12})\\.dkr\\.ecr\\.([a-z\\-0-9]+)\\.amazonaws\\.com$");
 
+    // ECR authorization tokens are valid for 12 hours
+    private static final Duration DEFAULT_TOKEN_VALIDITY = Duration.ofHours(12);
+
     private final KitLogger logger;
+    private final AuthConfigCache authConfigCache;
     private final boolean isAwsRegistry;
     private final String accountId;
     private final String region;
@@ -67,7 +75,19 @@ public class EcrExtendedAuth {
      * @param registry The registry, we may or may not be an ecr registry.
      */
     public EcrExtendedAuth(KitLogger logger, String registry) {
+        this(logger, registry, new AuthConfigCache());
+    }
+
+    /**
+     * Initialize an extended authentication for ecr registry.
+     *
+     * @param logger Kit Logger
+     * @param registry The registry, we may or may not be an ecr registry.
+     * @param authConfigCache cache for the temporary ECR credentials of the current build.
+     */
+    public EcrExtendedAuth(KitLogger logger, String registry, AuthConfigCache authConfigCache) {
         this.logger = logger;
+        this.authConfigCache = authConfigCache;
         Matcher matcher = AWS_REGISTRY.matcher(registry);
         isAwsRegistry = matcher.matches();
         if (isAwsRegistry) {
@@ -97,13 +117,22 @@ public class EcrExtendedAuth {
      * @throws IOException IO Exception
      */
     public AuthConfig extendedAuth(AuthConfig localCredentials) throws IOException {
-        JsonObject jo = getAuthorizationToken(localCredentials);
-
-        JsonArray authorizationDatas = jo.getAsJsonArray("authorizationData");
-        JsonObject authorizationData = authorizationDatas.get(0).getAsJsonObject();
-        String authorizationToken = authorizationData.get("authorizationToken").getAsString();
-
-        return AuthConfig.fromCredentialsEncoded(authorizationToken, "none");
+        // The token is reused until it expires, the key includes the local credentials in case they change
+        final String key = "ecr|" + accountId + "|" + region + "|" + Hashing.sha256().hashString(
+            localCredentials.getUsername() + ":" + localCredentials.getPassword() + ":" + localCredentials.getAuth(),
+            StandardCharsets.UTF_8);
+        return authConfigCache.get(key, () -> {
+            JsonObject jo = getAuthorizationToken(localCredentials);
+
+            JsonArray authorizationDatas = jo.getAsJsonArray("authorizationData");
+            JsonObject authorizationData = authorizationDatas.get(0).getAsJsonObject();
+            String authorizationToken = authorizationData.get("authorizationToken").getAsString();
+            final Instant expiresAt = authorizationData.has("expiresAt") ?
+                Instant.ofEpochMilli((long) (authorizationData.get("expiresAt").getAsDouble() * 1000)) :
+                authConfigCache.now().plus(DEFAULT_TOKEN_VALIDITY);
+
+            return new AuthConfigCache.Entry(AuthConfig.fromCredentialsEncoded(authorizationToken, "none"), expiresAt);
+        });
     }
 
     private JsonObject getAuthorizationToken(AuthConfig localCredentials) throws IOException {
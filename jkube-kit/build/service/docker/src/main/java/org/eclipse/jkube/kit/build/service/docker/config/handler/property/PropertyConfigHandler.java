@@ -27,6 +27,7 @@ import org.eclipse.jkube.kit.common.JavaProject;
 import org.eclipse.jkube.kit.common.util.EnvUtil;
 import org.eclipse.jkube.kit.common.util.JKubeProjectUtil;
 import org.eclipse.jkube.kit.common.util.MapUtil;
+import org.eclipse.jkube.kit.common.util.PropertyPrefixIndex;
 import org.eclipse.jkube.kit.common.Arguments;
 import org.eclipse.jkube.kit.common.AssemblyConfiguration;
 import org.eclipse.jkube.kit.config.image.build.BuildConfiguration;
@@ -158,6 +159,9 @@ public class PropertyConfigHandler implements ExternalConfigHandler {
     public static final String TYPE_NAME = "properties";
     public static final String DEFAULT_PREFIX = "docker";
 
+    // Index of the properties (with system overrides) of the last resolved project, shared by its images
+    private volatile PropertyIndexSnapshot propertyIndexSnapshot;
+
     @Override
     public String getType() {
         return TYPE_NAME;
@@ -167,9 +171,8 @@ public class PropertyConfigHandler implements ExternalConfigHandler {
     public List<ImageConfiguration> resolve(ImageConfiguration fromConfig, JavaProject project) {
         Map<String, String> externalConfig = fromConfig.getExternalConfig();
         String prefix = getPrefix(externalConfig);
-        Properties properties = JKubeProjectUtil.getPropertiesWithSystemOverrides(project);
         PropertyMode propertyMode = getMode(externalConfig);
-        ValueProvider valueProvider = new ValueProvider(prefix, properties, propertyMode);
+        ValueProvider valueProvider = new ValueProvider(prefix, getPropertyIndex(project), propertyMode);
 
         RunImageConfiguration run = extractRunConfiguration(fromConfig, valueProvider);
         BuildConfiguration build = extractBuildConfiguration(fromConfig, valueProvider, project);
@@ -190,6 +193,43 @@ public class PropertyConfigHandler implements ExternalConfigHandler {
                 .build());
     }
 
+    /**
+     * Discards the index of the project properties.
+     *
+     * <p> The index is built once per project configuration (the same project instance with the same properties
+     * instance) and reused by all of its images. Changes to these properties, or to the system properties, are only
+     * picked up by the images resolved after this method is called.
+     */
+    public void invalidatePropertyIndex() {
+        propertyIndexSnapshot = null;
+    }
+
+    private PropertyPrefixIndex getPropertyIndex(JavaProject project) {
+        PropertyIndexSnapshot snapshot = propertyIndexSnapshot;
+        if (snapshot == null || !snapshot.isFor(project)) {
+            // Concurrent resolutions may build the same index twice, which is harmless
+            snapshot = new PropertyIndexSnapshot(project);
+            propertyIndexSnapshot = snapshot;
+        }
+        return snapshot.index;
+    }
+
+    private static final class PropertyIndexSnapshot {
+        private final JavaProject project;
+        private final Properties projectProperties;
+        private final PropertyPrefixIndex index;
+
+        private PropertyIndexSnapshot(JavaProject project) {
+            this.project = project;
+            this.projectProperties = project.getProperties();
+            this.index = new PropertyPrefixIndex(JKubeProjectUtil.getPropertiesWithSystemOverrides(project));
+        }
+
+        private boolean isFor(JavaProject otherProject) {
+            return project == otherProject && projectProperties == otherProject.getProperties();
+        }
+    }
+
     private static boolean isStringValueNull(ValueProvider valueProvider, BuildConfiguration config, ConfigKey key, Supplier<String> supplier) {
         return valueProvider.getString(key, config == null ? null : supplier.get()) != null;
     }
@@ -15,6 +15,7 @@ package org.eclipse.jkube.kit.build.service.docker.config.handler.property;
 
 
 import org.eclipse.jkube.kit.common.util.EnvUtil;
+import org.eclipse.jkube.kit.common.util.PropertyPrefixIndex;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -51,7 +52,7 @@ import static org.eclipse.jkube.kit.common.util.EnvUtil.extractFromPropertiesAsM
  */
 public class ValueProvider {
     private String prefix;
-    private Properties properties;
+    private PropertyPrefixIndex properties;
     private PropertyMode propertyMode;
 
     private StringListValueExtractor stringListValueExtractor;
@@ -73,6 +74,20 @@ public class ValueProvider {
      * @param propertyMode Which source to prioritize
      */
     public ValueProvider(String prefix, Properties properties, PropertyMode propertyMode) {
+        this(prefix, new PropertyPrefixIndex(properties), propertyMode);
+    }
+
+    /**
+     * Initiates ValueProvider which is to work with data from the given indexed properties.
+     *
+     * The same index can be shared by multiple providers (e.g. one per image) to avoid scanning all the
+     * properties for each lookup.
+     *
+     * @param prefix Only look at properties with this prefix.
+     * @param properties indexed properties
+     * @param propertyMode Which source to prioritize
+     */
+    public ValueProvider(String prefix, PropertyPrefixIndex properties, PropertyMode propertyMode) {
         this.prefix = prefix;
         this.properties = properties;
         this.propertyMode = propertyMode;
@@ -130,7 +145,7 @@ public class ValueProvider {
     public <T> T getObject(ConfigKey key, T fromConfig, final Function<String, T> converter) {
         ValueExtractor<T> arbitraryExtractor = new ValueExtractor<T>() {
             @Override
-            protected T withPrefix(String prefix, ConfigKey key, Properties properties) {
+            protected T withPrefix(String prefix, ConfigKey key, PropertyPrefixIndex properties) {
                 return converter.apply(properties.getProperty(key.asPropertyKey(prefix)));
             }
         };
@@ -212,7 +227,7 @@ public class ValueProvider {
          * @param properties
          * @return
          */
-        protected abstract T withPrefix(String prefix, ConfigKey key, Properties properties);
+        protected abstract T withPrefix(String prefix, ConfigKey key, PropertyPrefixIndex properties);
 
         protected T merge(ConfigKey key, List<T> values) {
             throw new IllegalArgumentException("Combine policy Merge is not available for "+key.asPropertyKey(prefix));
@@ -224,14 +239,14 @@ public class ValueProvider {
 
     private class StringValueExtractor extends ValueExtractor<String> {
         @Override
-        protected String withPrefix(String prefix, ConfigKey key, Properties properties) {
+        protected String withPrefix(String prefix, ConfigKey key, PropertyPrefixIndex properties) {
             return properties.getProperty(key.asPropertyKey(prefix));
         }
     }
 
     private class IntValueExtractor extends ValueExtractor<Integer> {
         @Override
-        protected Integer withPrefix(String prefix, ConfigKey key, Properties properties) {
+        protected Integer withPrefix(String prefix, ConfigKey key, PropertyPrefixIndex properties) {
             String prop = properties.getProperty(key.asPropertyKey(prefix));
             return prop == null ? null : Integer.valueOf(prop);
         }
@@ -240,7 +255,7 @@ public class ValueProvider {
 
     private class LongValueExtractor extends ValueExtractor<Long> {
         @Override
-        protected Long withPrefix(String prefix, ConfigKey key, Properties properties) {
+        protected Long withPrefix(String prefix, ConfigKey key, PropertyPrefixIndex properties) {
             String prop = properties.getProperty(key.asPropertyKey(prefix));
             return prop == null ? null : Long.valueOf(prop);
         }
@@ -248,7 +263,7 @@ public class ValueProvider {
 
     private class BooleanValueExtractor extends ValueExtractor<Boolean> {
         @Override
-        protected Boolean withPrefix(String prefix, ConfigKey key, Properties properties) {
+        protected Boolean withPrefix(String prefix, ConfigKey key, PropertyPrefixIndex properties) {
             String prop = properties.getProperty(key.asPropertyKey(prefix));
             return prop == null ? null : Boolean.parseBoolean(prop);
         }
@@ -256,7 +271,7 @@ public class ValueProvider {
 
     private class DoubleValueExtractor extends ValueExtractor<Double> {
         @Override
-        protected Double withPrefix(String prefix, ConfigKey key, Properties properties) {
+        protected Double withPrefix(String prefix, ConfigKey key, PropertyPrefixIndex properties) {
             String prop = properties.getProperty(key.asPropertyKey(prefix));
             return prop == null ? null : Double.valueOf(prop);
         }
@@ -264,7 +279,7 @@ public class ValueProvider {
 
     private abstract class ListValueExtractor<T> extends ValueExtractor<List<T>> {
         @Override
-        protected List<T> withPrefix(String prefix, ConfigKey key, Properties properties) {
+        protected List<T> withPrefix(String prefix, ConfigKey key, PropertyPrefixIndex properties) {
             List<String> strings = extractFromPropertiesAsList(key.asPropertyKey(prefix), properties);
             if(strings == null) {
                 return null;
@@ -306,7 +321,7 @@ public class ValueProvider {
 
     private class MapValueExtractor extends ValueExtractor<Map<String, String>> {
         @Override
-        protected Map<String, String> withPrefix(String prefix, ConfigKey key, Properties properties) {
+        protected Map<String, String> withPrefix(String prefix, ConfigKey key, PropertyPrefixIndex properties) {
             return extractFromPropertiesAsMap(key.asPropertyKey(prefix), properties);
         }
 
@@ -13,6 +13,7 @@
  */
 package org.eclipse.jkube.kit.build.service.docker;
 
+import org.eclipse.jkube.kit.build.api.assembly.ArchiveWriter;
 import org.eclipse.jkube.kit.build.service.docker.access.DockerAccess;
 import org.eclipse.jkube.kit.build.service.docker.access.DockerAccessException;
 import org.eclipse.jkube.kit.common.JKubeConfiguration;
@@ -23,12 +24,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -36,6 +39,7 @@ import static org.mockito.Mockito.when;
 
 class BuildServiceTest {
   private DockerAccess mockedDockerAccess;
+  private RegistryService mockedRegistryService;
   private BuildService buildService;
   private ImageConfiguration imageConfiguration;
   private ImagePullManager mockedImagePullManager;
@@ -45,7 +49,7 @@ class BuildServiceTest {
   void setUp() {
     mockedDockerAccess = mock(DockerAccess.class, RETURNS_DEEP_STUBS);
     ArchiveService mockedArchiveService = mock(ArchiveService.class, RETURNS_DEEP_STUBS);
-    RegistryService mockedRegistryService = mock(RegistryService.class, RETURNS_DEEP_STUBS);
+    mockedRegistryService = mock(RegistryService.class, RETURNS_DEEP_STUBS);
     KitLogger mockedLog = mock(KitLogger.SilentLogger.class, RETURNS_DEEP_STUBS);
     mockedImagePullManager = mock(ImagePullManager.class, RETURNS_DEEP_STUBS);
     mockedJKubeConfiguration = mock(JKubeConfiguration.class, RETURNS_DEEP_STUBS);
@@ -70,7 +74,7 @@ class BuildServiceTest {
 
     // Then
     verify(mockedDockerAccess, times(1))
-        .buildImage(eq("image-name"), any(), any());
+        .buildImage(eq("image-name"), any(ArchiveWriter.class), any());
   }
 
   @Test
@@ -83,6 +87,30 @@ class BuildServiceTest {
             .withMessage("Failure in building image, unable to find image built with name image-name");
   }
 
+  @Test
+  void buildImage_whenCacheFromImagesConfigured_shouldPullThemAndIgnoreFailures() throws IOException {
+    // Given
+    imageConfiguration = ImageConfiguration.builder()
+        .name("image-name")
+        .build(BuildConfiguration.builder()
+            .from("from")
+            .cacheFrom(Arrays.asList("image-name:previous", "image-name:missing"))
+            .build()
+        ).build();
+    when(mockedDockerAccess.getImageId("image-name")).thenReturn("c8003cb6f5db");
+    doThrow(new DockerAccessException("Not found")).when(mockedRegistryService)
+        .pullImageWithPolicy(eq("image-name:missing"), any(), any(), any());
+
+    // When
+    buildService.buildImage(imageConfiguration, mockedImagePullManager, mockedJKubeConfiguration);
+
+    // Then
+    verify(mockedRegistryService, times(1))
+        .pullImageWithPolicy(eq("image-name:previous"), eq(mockedImagePullManager), any(), any());
+    verify(mockedDockerAccess, times(1))
+        .buildImage(eq("image-name"), any(ArchiveWriter.class), any());
+  }
+
   @Test
   void tagImage_whenValidImageConfigurationProvided_shouldTagImage() throws DockerAccessException {
     // When
@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.service.docker;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImagePullCacheTest {
+
+  @TempDir
+  File temporaryFolder;
+
+  private AtomicLong clock;
+
+  @BeforeEach
+  void setUp() {
+    clock = new AtomicLong(1_000_000L);
+  }
+
+  @Test
+  void has_withAddedImage_shouldReturnTrueForSameDaemonOnly() {
+    // Given
+    final ImagePullCache cache = new ImagePullCache(null, Duration.ofMinutes(1), clock::get);
+    // When
+    cache.add("daemon-1", "example/app:latest");
+    // Then
+    assertThat(cache.has("daemon-1", "example/app:latest")).isTrue();
+    assertThat(cache.has("daemon-2", "example/app:latest")).isFalse();
+    assertThat(cache.has("daemon-1", "example/other:latest")).isFalse();
+  }
+
+  @Test
+  void has_withExpiredImage_shouldReturnFalse() {
+    // Given
+    final ImagePullCache cache = new ImagePullCache(null, Duration.ofMinutes(1), clock::get);
+    cache.add("daemon-1", "example/app:latest");
+    // When
+    clock.addAndGet(Duration.ofMinutes(1).toMillis());
+    // Then
+    assertThat(cache.has("daemon-1", "example/app:latest")).isFalse();
+  }
+
+  @Test
+  void add_withFile_shouldBeAvailableToNewCacheInstances() {
+    // Given
+    final File file = new File(temporaryFolder, "cache.json");
+    new ImagePullCache(file, Duration.ofMinutes(1), clock::get).add("daemon-1", "example/app:latest");
+    // When
+    final ImagePullCache result = new ImagePullCache(file, Duration.ofMinutes(1), clock::get);
+    // Then
+    assertThat(result.has("daemon-1", "example/app:latest")).isTrue();
+    assertThat(new ImagePullCache(file, Duration.ofMinutes(1), () -> clock.get() + 60_000L)
+      .has("daemon-1", "example/app:latest")).isFalse();
+  }
+
+  @Test
+  void newInstance_withCorruptFile_shouldStartEmpty() throws IOException {
+    // Given
+    final File file = new File(temporaryFolder, "cache.json");
+    Files.write(file.toPath(), "{\"daemon-1\": \"not-an-object\"".getBytes());
+    // When
+    final ImagePullCache result = new ImagePullCache(file, Duration.ofMinutes(1), clock::get);
+    // Then
+    assertThat(result.has("daemon-1", "example/app:latest")).isFalse();
+  }
+
+  @Test
+  void add_withProperties_shouldBeAvailableToCachesWithSameProperties() {
+    // Given
+    final Properties properties = new Properties();
+    final ImagePullCache first = new ImagePullCache(properties, "pulled", Duration.ofMinutes(1));
+    final ImagePullCache second = new ImagePullCache(properties, "pulled", Duration.ofMinutes(1));
+    // When
+    first.add("daemon-1", "example/app:latest");
+    // Then
+    assertThat(second.has("daemon-1", "example/app:latest")).isTrue();
+    assertThat(new ImagePullCache(new Properties(), "pulled", Duration.ofMinutes(1))
+      .has("daemon-1", "example/app:latest")).isFalse();
+  }
+}
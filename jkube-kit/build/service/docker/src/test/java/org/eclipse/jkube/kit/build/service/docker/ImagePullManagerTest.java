@@ -14,10 +14,14 @@
 package org.eclipse.jkube.kit.build.service.docker;
 
 import org.eclipse.jkube.kit.config.image.build.ImagePullPolicy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.File;
+import java.time.Duration;
 import java.util.Properties;
 import java.util.stream.Stream;
 
@@ -33,7 +37,7 @@ class ImagePullManagerTest {
     // Then
     assertThat(imagePullManager)
         .hasFieldOrPropertyWithValue("imagePullPolicy", expectedImagePullPolicy)
-        .extracting("cacheStore").isNotNull();
+        .extracting("sessionCache").isNotNull();
   }
 
   public static Stream<Arguments> createImagePullManagerTestData() {
@@ -45,4 +49,92 @@ class ImagePullManagerTest {
             Arguments.of(null, null, ImagePullPolicy.IfNotPresent)
     );
   }
-}
\ No newline at end of file
+
+  @Test
+  void createImagePullManager_withSameProperties_shouldShareSessionCache() {
+    // Given
+    final Properties properties = new Properties();
+    final ImagePullManager first = ImagePullManager.createImagePullManager(null, "once", properties);
+    final ImagePullManager second = ImagePullManager.createImagePullManager(null, "once", properties);
+    // When
+    first.found("daemon-id", "example/shared-once:latest");
+    // Then
+    assertThat(second.hasAlreadyPulled("daemon-id", "example/shared-once:latest")).isTrue();
+    assertThat(second.hasAlreadyPulled("other-daemon-id", "example/shared-once:latest")).isFalse();
+  }
+
+  @Test
+  void createImagePullManager_withDifferentProperties_shouldNotShareSessionCache() {
+    // Given
+    final ImagePullManager first = ImagePullManager.createImagePullManager(null, "once", new Properties());
+    final ImagePullManager second = ImagePullManager.createImagePullManager(null, "once", new Properties());
+    // When
+    first.pulled("daemon-id", "example/not-shared:latest");
+    // Then
+    assertThat(first.hasAlreadyPulled("daemon-id", "example/not-shared:latest")).isTrue();
+    assertThat(second.hasAlreadyPulled("daemon-id", "example/not-shared:latest")).isFalse();
+  }
+
+  @Test
+  void pulled_withIfNotPresentAndPullCacheFile_shouldPersistPulledImages(@TempDir File temporaryFolder) {
+    // Given
+    final Properties properties = pullCacheProperties(temporaryFolder);
+    // When
+    ImagePullManager.createImagePullManager("IfNotPresent", null, properties).pulled("daemon-id", "example/app:latest");
+    // Then
+    assertThat(new ImagePullCache(new File(temporaryFolder, "pull-cache.json"), Duration.ofMinutes(10))
+        .has("daemon-id", "example/app:latest")).isTrue();
+    assertThat(ImagePullManager.createImagePullManager("IfNotPresent", null, pullCacheProperties(temporaryFolder))
+        .hasAlreadyPulled("daemon-id", "example/app:latest")).isTrue();
+  }
+
+  @Test
+  void found_withIfNotPresentAndPullCacheFile_shouldNotPersistImages(@TempDir File temporaryFolder) {
+    // Given
+    final Properties properties = pullCacheProperties(temporaryFolder);
+    final ImagePullManager imagePullManager = ImagePullManager.createImagePullManager("IfNotPresent", null, properties);
+    // When
+    imagePullManager.found("daemon-id", "example/app:latest");
+    // Then
+    assertThat(imagePullManager.hasAlreadyPulled("daemon-id", "example/app:latest")).isTrue();
+    assertThat(new File(temporaryFolder, "pull-cache.json")).doesNotExist();
+    assertThat(ImagePullManager.createImagePullManager("IfNotPresent", null, pullCacheProperties(temporaryFolder))
+        .hasAlreadyPulled("daemon-id", "example/app:latest")).isFalse();
+  }
+
+  @Test
+  void pulled_withAlwaysAndPullCacheFile_shouldOnlyRememberImagesForCurrentSession(@TempDir File temporaryFolder) {
+    // Given
+    final Properties properties = pullCacheProperties(temporaryFolder);
+    final ImagePullManager imagePullManager = ImagePullManager.createImagePullManager("Always", null, properties);
+    // When
+    imagePullManager.pulled("daemon-id", "example/app:latest");
+    // Then
+    assertThat(imagePullManager.hasAlreadyPulled("daemon-id", "example/app:latest")).isTrue();
+    assertThat(new File(temporaryFolder, "pull-cache.json")).doesNotExist();
+    assertThat(ImagePullManager.createImagePullManager("Always", null, pullCacheProperties(temporaryFolder))
+        .hasAlreadyPulled("daemon-id", "example/app:latest")).isFalse();
+  }
+
+  @Test
+  @SuppressWarnings("deprecation")
+  void pulled_withDeprecatedCacheStore_shouldTrackImagesWithoutDaemonId() {
+    // Given
+    final Properties properties = new Properties();
+    final ImagePullManager imagePullManager = new ImagePullManager(
+        new ImagePullManager.PropertyCacheStore(properties), null, null);
+    // When
+    imagePullManager.pulled("example/legacy:latest");
+    // Then
+    assertThat(imagePullManager.hasAlreadyPulled("example/legacy:latest")).isTrue();
+    assertThat(ImagePullManager.createImagePullManager(null, null, properties)
+        .hasAlreadyPulled(null, "example/legacy:latest")).isTrue();
+  }
+
+  private static Properties pullCacheProperties(File temporaryFolder) {
+    final Properties properties = new Properties();
+    properties.setProperty("jkube.docker.pullCache.file", new File(temporaryFolder, "pull-cache.json").getAbsolutePath());
+    properties.setProperty("jkube.docker.pullCache.ttl", "600");
+    return properties;
+  }
+}
@@ -21,8 +21,10 @@ import org.eclipse.jkube.kit.config.image.ImageConfiguration;
 import org.eclipse.jkube.kit.config.image.build.BuildConfiguration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
@@ -82,6 +84,77 @@ class RegistryServiceTest {
     verify(dockerAccess, times(0)).pullImage(any(), any(), any(), any());
   }
 
+  @Test
+  void pullImageWithPolicy_pullPolicyIfNotPresentAndImage_shouldQueryDaemonOnce() throws Exception {
+    // Given
+    final ImagePullManager imagePullManager = ImagePullManager.createImagePullManager("IfNotPresent", "", new Properties());
+    when(dockerAccess.getDaemonId()).thenReturn("daemon-id");
+    when(queryService.hasImage("image")).thenReturn(true);
+    // When
+    registryService.pullImageWithPolicy("image", imagePullManager, null, null);
+    registryService.pullImageWithPolicy("image", imagePullManager, null, null);
+    // Then
+    verify(queryService, times(1)).hasImage("image");
+    verify(dockerAccess, times(0)).pullImage(any(), any(), any(), any());
+  }
+
+  @Test
+  void pullImageWithPolicy_pullPolicyAlwaysAndAlreadyPulled_shouldPullOnce() throws Exception {
+    // Given
+    final ImagePullManager imagePullManager = ImagePullManager.createImagePullManager("Always", "", new Properties());
+    final RegistryConfig registryConfig = RegistryConfig.builder().settings(Collections.emptyList()).build();
+    when(dockerAccess.getDaemonId()).thenReturn("daemon-id");
+    // When
+    registryService.pullImageWithPolicy("quay.io/organization/image:version", imagePullManager, registryConfig, new BuildConfiguration());
+    registryService.pullImageWithPolicy("quay.io/organization/image:version", imagePullManager, registryConfig, new BuildConfiguration());
+    // Then
+    verify(dockerAccess, times(1)).pullImage(eq("quay.io/organization/image:version"), any(), eq("quay.io"), any());
+  }
+
+  @Test
+  void pullImageWithPolicy_pullPolicyAlwaysWithPullCacheFile_shouldPullAgainInNewSession(@TempDir File temporaryFolder) throws Exception {
+    // Given
+    final RegistryConfig registryConfig = RegistryConfig.builder().settings(Collections.emptyList()).build();
+    when(dockerAccess.getDaemonId()).thenReturn("daemon-id");
+    registryService.pullImageWithPolicy("quay.io/organization/image:version",
+        ImagePullManager.createImagePullManager("Always", "", pullCacheProperties(temporaryFolder)), registryConfig, new BuildConfiguration());
+    // When
+    registryService.pullImageWithPolicy("quay.io/organization/image:version",
+        ImagePullManager.createImagePullManager("Always", "", pullCacheProperties(temporaryFolder)), registryConfig, new BuildConfiguration());
+    // Then
+    verify(dockerAccess, times(2)).pullImage(eq("quay.io/organization/image:version"), any(), eq("quay.io"), any());
+  }
+
+  @Test
+  void pullImageWithPolicy_pullPolicyIfNotPresentWithPullCacheFile_shouldNotPullAgainInNewSession(@TempDir File temporaryFolder) throws Exception {
+    // Given
+    final RegistryConfig registryConfig = RegistryConfig.builder().settings(Collections.emptyList()).build();
+    when(dockerAccess.getDaemonId()).thenReturn("daemon-id");
+    registryService.pullImageWithPolicy("quay.io/organization/image:version",
+        ImagePullManager.createImagePullManager("IfNotPresent", "", pullCacheProperties(temporaryFolder)), registryConfig, new BuildConfiguration());
+    // When
+    registryService.pullImageWithPolicy("quay.io/organization/image:version",
+        ImagePullManager.createImagePullManager("IfNotPresent", "", pullCacheProperties(temporaryFolder)), registryConfig, new BuildConfiguration());
+    // Then
+    verify(queryService, times(1)).hasImage("quay.io/organization/image:version");
+    verify(dockerAccess, times(1)).pullImage(eq("quay.io/organization/image:version"), any(), eq("quay.io"), any());
+  }
+
+  @Test
+  void pullImageWithPolicy_pullPolicyIfNotPresentAndImageWithPullCacheFile_shouldQueryDaemonAgainInNewSession(@TempDir File temporaryFolder) throws Exception {
+    // Given
+    when(dockerAccess.getDaemonId()).thenReturn("daemon-id");
+    when(queryService.hasImage("image")).thenReturn(true);
+    registryService.pullImageWithPolicy("image",
+        ImagePullManager.createImagePullManager("IfNotPresent", "", pullCacheProperties(temporaryFolder)), null, null);
+    // When
+    registryService.pullImageWithPolicy("image",
+        ImagePullManager.createImagePullManager("IfNotPresent", "", pullCacheProperties(temporaryFolder)), null, null);
+    // Then
+    verify(queryService, times(2)).hasImage("image");
+    assertThat(new File(temporaryFolder, "pull-cache.json")).doesNotExist();
+  }
+
   @Test
   void pullImageWithPolicy_pullPolicyAlways_shouldPull() throws Exception {
     // Given
@@ -139,4 +212,10 @@ class RegistryServiceTest {
     verify(dockerAccess, times(1))
         .pushImage(eq("foo/bar:0.0.1-slim"), any(), eq("example.com"), anyInt());
   }
+
+  private static Properties pullCacheProperties(File temporaryFolder) {
+    final Properties properties = new Properties();
+    properties.setProperty("jkube.docker.pullCache.file", new File(temporaryFolder, "pull-cache.json").getAbsolutePath());
+    return properties;
+  }
 }
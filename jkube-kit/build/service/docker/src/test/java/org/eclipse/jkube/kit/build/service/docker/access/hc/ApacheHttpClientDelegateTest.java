@@ -13,12 +13,17 @@
  */
 package org.eclipse.jkube.kit.build.service.docker.access.hc;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.function.BiConsumer;
 
+import org.eclipse.jkube.kit.build.api.assembly.ArchiveWriter;
 import org.eclipse.jkube.kit.build.service.docker.access.hc.util.ClientBuilder;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
 import org.apache.http.client.ResponseHandler;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.impl.client.CloseableHttpClient;
@@ -126,6 +131,34 @@ class ApacheHttpClientDelegateTest {
     );
   }
 
+  @Test
+  void postWithArchiveWriterBody_streamsArchive() throws IOException {
+    // Given
+    when(httpClient.execute(any(), any(ResponseHandler.class))).thenReturn("Response");
+    // When
+    final String response = apacheHttpClientDelegate.post(
+        "https://example.com", (ArchiveWriter) os -> os.write("archive".getBytes(StandardCharsets.UTF_8)), null);
+    // Then
+    assertThat(response).isEqualTo("Response");
+    verifyHttpClientExecute((request, responseHandler) -> {
+      assertThat(request.getAllHeaders())
+          .hasSize(2)
+          .extracting("name", "value")
+          .containsOnly(
+              new Tuple("Accept", "*/*"),
+              new Tuple("Content-Type", "application/x-tar"));
+      final HttpEntity entity = ((HttpEntityEnclosingRequest) request).getEntity();
+      final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      try {
+        entity.writeTo(baos);
+      } catch (IOException e) {
+        throw new AssertionError(e);
+      }
+      assertThat(entity.getContentLength()).isEqualTo(-1L);
+      assertThat(baos.toString()).isEqualTo("archive");
+    });
+  }
+
   private void verifyHttpClientExecute(BiConsumer<HttpUriRequest, ResponseHandler<?>> consumer) throws IOException {
     ArgumentCaptor<HttpUriRequest> httpUriRequestArgumentCaptor = ArgumentCaptor.forClass(HttpUriRequest.class);
     ArgumentCaptor<ResponseHandler<Object>> hArgumentCaptor = ArgumentCaptor.forClass(ResponseHandler.class);
@@ -15,14 +15,19 @@ package org.eclipse.jkube.kit.build.service.docker.access.hc;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
 
 import org.eclipse.jkube.kit.build.api.auth.AuthConfig;
+import org.eclipse.jkube.kit.build.service.docker.access.BuildOptions;
 import org.eclipse.jkube.kit.build.service.docker.access.DockerAccessException;
 import org.eclipse.jkube.kit.build.service.docker.access.hc.util.ClientBuilder;
 import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.archive.ArchiveCompression;
 import org.apache.http.client.HttpResponseException;
 import org.apache.http.client.ResponseHandler;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.message.BasicHeader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.stubbing.OngoingStubbing;
@@ -31,6 +36,7 @@ import static java.net.HttpURLConnection.HTTP_CREATED;
 import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static java.net.HttpURLConnection.HTTP_OK;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -68,7 +74,11 @@ class DockerAccessWithHcClientTest {
     @BeforeEach
     void setup() throws IOException {
         mockDelegate = mock(ApacheHttpClientDelegate.class, RETURNS_DEEP_STUBS);
-        client = new DockerAccessWithHcClient("tcp://1.2.3.4:2375", null, 1, new KitLogger.SilentLogger()) {
+        client = createClient();
+    }
+
+    private DockerAccessWithHcClient createClient() throws IOException {
+        return new DockerAccessWithHcClient("tcp://1.2.3.4:2375", null, 1, new KitLogger.SilentLogger()) {
             @Override
             ApacheHttpClientDelegate createHttpClient(ClientBuilder builder) {
                 return mockDelegate;
@@ -76,6 +86,54 @@ class DockerAccessWithHcClientTest {
         };
     }
 
+    @Test
+    void supportedBuildOptions_withApiVersionFromPing_keepsCacheFrom() throws IOException {
+        // Given
+        givenTheDaemonApiVersions("1.41", null);
+        client = createClient();
+        // When
+        final BuildOptions result = client.supportedBuildOptions(
+            new BuildOptions().cacheFrom(Collections.singletonList("example/app:latest")));
+        // Then
+        assertThat(result.getOptions()).containsEntry("cachefrom", "[\"example/app:latest\"]");
+    }
+
+    @Test
+    void supportedBuildOptions_withOlderApiVersionFromVersion_removesCacheFrom() throws IOException {
+        // Given
+        givenTheDaemonApiVersions(null, "1.24");
+        client = createClient();
+        // When
+        final BuildOptions result = client.supportedBuildOptions(new BuildOptions()
+            .dockerfile("Dockerfile")
+            .cacheFrom(Collections.singletonList("example/app:latest")));
+        // Then
+        assertThat(result.getOptions())
+            .containsEntry("dockerfile", "Dockerfile")
+            .doesNotContainKey("cachefrom");
+    }
+
+    @Test
+    void getDaemonId_withInfo_returnsIdAndQueriesOnce() throws IOException {
+        // Given
+        when(mockDelegate.get("tcp://1.2.3.4:2375/info", 200)).thenReturn("{\"ID\":\"ABCD:EFGH\"}");
+        // When
+        final String result = client.getDaemonId();
+        // Then
+        assertThat(result).isEqualTo("ABCD:EFGH").isSameAs(client.getDaemonId());
+        verify(mockDelegate, times(1)).get("tcp://1.2.3.4:2375/info", 200);
+    }
+
+    @Test
+    void getDaemonId_withInfoFailure_returnsBaseUrl() throws IOException {
+        // Given
+        when(mockDelegate.get("tcp://1.2.3.4:2375/info", 200)).thenThrow(new IOException("error"));
+        // When
+        final String result = client.getDaemonId();
+        // Then
+        assertThat(result).isEqualTo("tcp://1.2.3.4:2375");
+    }
+
     @Test
     void testPushImage_replacementOfExistingOfTheSameTag() throws Exception {
         String image = "test-image";
@@ -175,6 +233,19 @@ class DockerAccessWithHcClientTest {
                 .withMessage("Unable to save 'test' to 'test.tar' : status code: 500, reason phrase: error");
     }
 
+    private void givenTheDaemonApiVersions(String pingApiVersion, String versionApiVersion) throws IOException {
+        final CloseableHttpResponse pingResponse = mock(CloseableHttpResponse.class);
+        final CloseableHttpResponse versionResponse = mock(CloseableHttpResponse.class);
+        if (pingApiVersion != null) {
+            when(pingResponse.getFirstHeader("Api-Version")).thenReturn(new BasicHeader("Api-Version", pingApiVersion));
+        }
+        if (versionApiVersion != null) {
+            when(versionResponse.getFirstHeader("Api-Version")).thenReturn(new BasicHeader("Api-Version", versionApiVersion));
+        }
+        when(mockDelegate.getHttpClient().execute(any(HttpGet.class))).thenAnswer(invocation ->
+            ((HttpGet) invocation.getArgument(0)).getURI().getPath().endsWith("/_ping") ? pingResponse : versionResponse);
+    }
+
     private void givenRegistry(String registry) {
         this.registry = registry;
     }
@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.build.service.docker.auth;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jkube.kit.build.api.auth.AuthConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+
+class AuthConfigCacheTest {
+
+  private static final Instant NOW = Instant.parse("2023-01-01T12:00:00Z");
+
+  private AuthConfigCache authConfigCache;
+  private AtomicInteger resolutions;
+
+  @BeforeEach
+  void setUp() {
+    authConfigCache = new AuthConfigCache(Clock.fixed(NOW, ZoneOffset.UTC));
+    resolutions = new AtomicInteger();
+  }
+
+  @Test
+  void get_withValidEntry_shouldResolveOnce() throws IOException {
+    // When
+    final AuthConfig first = authConfigCache.get("registry.example.com", () -> resolve(Duration.ofHours(1)));
+    final AuthConfig second = authConfigCache.get("registry.example.com", () -> resolve(Duration.ofHours(1)));
+    // Then
+    assertThat(resolutions).hasValue(1);
+    assertThat(second).isSameAs(first)
+      .hasFieldOrPropertyWithValue("username", "user-1");
+  }
+
+  @Test
+  void get_withDifferentKeys_shouldResolveEach() throws IOException {
+    // When
+    authConfigCache.get("registry.example.com", () -> resolve(Duration.ofHours(1)));
+    authConfigCache.get("other.example.com", () -> resolve(Duration.ofHours(1)));
+    // Then
+    assertThat(resolutions).hasValue(2);
+  }
+
+  @Test
+  void get_withEntryAboutToExpire_shouldResolveAgain() throws IOException {
+    // Given
+    authConfigCache.get("registry.example.com", () -> resolve(Duration.ofMinutes(4)));
+    // When
+    final AuthConfig result = authConfigCache.get("registry.example.com", () -> resolve(Duration.ofHours(1)));
+    // Then
+    assertThat(resolutions).hasValue(2);
+    assertThat(result).hasFieldOrPropertyWithValue("username", "user-2");
+  }
+
+  @Test
+  void get_withNoCredentials_shouldResolveAgain() throws IOException {
+    // Given
+    final AuthConfig first = authConfigCache.get("registry.example.com", () -> {
+      resolutions.incrementAndGet();
+      return new AuthConfigCache.Entry(null, NOW.plus(Duration.ofHours(1)));
+    });
+    // When
+    final AuthConfig result = authConfigCache.get("registry.example.com", () -> resolve(Duration.ofHours(1)));
+    // Then
+    assertThat(first).isNull();
+    assertThat(resolutions).hasValue(2);
+    assertThat(result).hasFieldOrPropertyWithValue("username", "user-2");
+  }
+
+  @Test
+  void get_withDifferentInstances_shouldNotShareEntries() throws IOException {
+    // Given
+    authConfigCache.get("registry.example.com", () -> resolve(Duration.ofHours(1)));
+    // When
+    final AuthConfig result = new AuthConfigCache(Clock.fixed(NOW, ZoneOffset.UTC))
+      .get("registry.example.com", () -> resolve(Duration.ofHours(1)));
+    // Then
+    assertThat(resolutions).hasValue(2);
+    assertThat(result).hasFieldOrPropertyWithValue("username", "user-2");
+  }
+
+  @Test
+  void get_withFailedResolution_shouldNotCache() throws IOException {
+    // Given
+    assertThatIOException().isThrownBy(() -> authConfigCache.get("registry.example.com", () -> {
+      throw new IOException("helper failed");
+    }));
+    // When
+    final AuthConfig result = authConfigCache.get("registry.example.com", () -> resolve(Duration.ofHours(1)));
+    // Then
+    assertThat(result).hasFieldOrPropertyWithValue("username", "user-1");
+  }
+
+  private AuthConfigCache.Entry resolve(Duration validity) {
+    final int count = resolutions.incrementAndGet();
+    return new AuthConfigCache.Entry(AuthConfig.builder().username("user-" + count).password("secret").build(),
+      NOW.plus(validity));
+  }
+}
@@ -14,6 +14,8 @@
 package org.eclipse.jkube.kit.build.service.docker.auth.ecr;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Date;
@@ -32,6 +34,7 @@ import org.junit.jupiter.api.Test;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -106,4 +109,36 @@ class EcrExtendedAuthTest {
         verify(closeableHttpClient).close();
     }
 
+    @Test
+    void extendedAuth_withValidToken_shouldReuseToken() throws IOException {
+        // Given
+        final CloseableHttpClient closeableHttpClient = mock(CloseableHttpClient.class);
+        final CloseableHttpResponse closeableHttpResponse = mock(CloseableHttpResponse.class);
+        final StatusLine statusLine = mock(StatusLine.class);
+        when(closeableHttpClient.execute(any())).thenReturn(closeableHttpResponse);
+        when(closeableHttpResponse.getStatusLine()).thenReturn(statusLine);
+        when(statusLine.getStatusCode()).thenReturn(200);
+        when(closeableHttpResponse.getEntity()).thenReturn(new StringEntity("{\"authorizationData\": [{"
+            + "\"authorizationToken\": \"QVdTOnBhc3N3b3Jk\","
+            + "\"expiresAt\": " + Instant.now().plus(Duration.ofHours(12)).getEpochSecond() + "}]}"));
+        final EcrExtendedAuth eea = new EcrExtendedAuth(logger, "210987654321.dkr.ecr.eu-west-1.amazonaws.com") {
+            @Override
+            CloseableHttpClient createClient() {
+                return closeableHttpClient;
+            }
+        };
+        final AuthConfig localCredentials = AuthConfig.builder()
+            .username("reused-username")
+            .password("password")
+            .build();
+        // When
+        final AuthConfig first = eea.extendedAuth(localCredentials);
+        final AuthConfig second = eea.extendedAuth(localCredentials);
+        // Then
+        assertThat(second).isSameAs(first)
+            .hasFieldOrPropertyWithValue("username", "AWS")
+            .hasFieldOrPropertyWithValue("password", "password");
+        verify(closeableHttpClient, times(1)).execute(any());
+    }
+
 }
@@ -116,6 +116,48 @@ class PropertyConfigHandlerTest {
                 .containsExactly("9090", "80", "1234"));
     }
 
+    @Test
+    void resolve_withSameProjectProperties_shouldReuseIndex() {
+        // Given
+        makeExternalConfigUse();
+        final Properties properties = props("docker.name", "demo", "docker.from", "busybox");
+        resolveImage(imageConfiguration, properties);
+        properties.setProperty("docker.name", "changed");
+        // When
+        final List<ImageConfiguration> result = resolveImage(imageConfiguration, properties);
+        // Then
+        assertThat(result).singleElement()
+            .hasFieldOrPropertyWithValue("name", "demo");
+    }
+
+    @Test
+    void resolve_withInvalidatedIndex_shouldPickUpChangedProperties() {
+        // Given
+        makeExternalConfigUse();
+        final Properties properties = props("docker.name", "demo", "docker.from", "busybox");
+        resolveImage(imageConfiguration, properties);
+        properties.setProperty("docker.name", "changed");
+        // When
+        configHandler.invalidatePropertyIndex();
+        final List<ImageConfiguration> result = resolveImage(imageConfiguration, properties);
+        // Then
+        assertThat(result).singleElement()
+            .hasFieldOrPropertyWithValue("name", "changed");
+    }
+
+    @Test
+    void resolve_withNewProjectProperties_shouldRebuildIndex() {
+        // Given
+        makeExternalConfigUse();
+        resolveImage(imageConfiguration, props("docker.name", "demo", "docker.from", "busybox"));
+        // When
+        final List<ImageConfiguration> result = resolveImage(imageConfiguration,
+            props("docker.name", "other", "docker.from", "busybox"));
+        // Then
+        assertThat(result).singleElement()
+            .hasFieldOrPropertyWithValue("name", "other");
+    }
+
     @Test
     void testInvalidPropertyMode() {
         makeExternalConfigUse();
@@ -16,8 +16,10 @@ package org.eclipse.jkube.kit.service.jib;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -25,8 +27,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -80,45 +80,100 @@ public class JibServiceUtil {
     private JibServiceUtil() {
     }
 
-    private static final long JIB_EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS = 10L;
     private static final String BUSYBOX = "busybox:latest";
 
+    /**
+     * Default location of the persistent Jib application layers cache, shared by all the projects of the current user.
+     *
+     * @return the default cache directory.
+     */
+    public static Path getDefaultApplicationLayersCacheDirectory() {
+        return Paths.get(System.getProperty("user.home"), ".jkube", "cache", "jib");
+    }
+
     /**
      * Build container image using JIB
      *
      * @param jibContainerBuilder jib container builder object
      * @param image tarball for image
+     * @param applicationLayersCache persistent cache directory for the application layers, if null, Jib's default
+     *                               (temporary) directory is used
+     * @param executorService executor service for Jib's tasks (not shut down)
+     * @param ansiProgress whether to print Jib's output as an ANSI progress display on the console, otherwise (e.g.
+     *                     when several images are built concurrently) it's printed through the logger
+     * @param logger kit logger
+     * @throws InterruptedException in case thread is interrupted
+     */
+    public static void buildContainer(
+        JibContainerBuilder jibContainerBuilder, TarImage image, Path applicationLayersCache,
+        ExecutorService executorService, boolean ansiProgress, KitLogger logger) throws InterruptedException {
+        containerize(jibContainerBuilder, Containerizer.to(image), applicationLayersCache, executorService,
+            "Unable to build the image tarball: ", ansiProgress, logger);
+    }
+
+    /**
+     * Build container image using JIB and push it straight to the registry, without an intermediate tarball.
+     *
+     * <p> Layers that are already present in the registry are skipped, the image blobs and manifest are pushed once,
+     * the rest of the tags are added registry-side (manifest only).
+     *
+     * @param jibContainerBuilder jib container builder object
+     * @param imageConfiguration image configuration with the target image name and tags
+     * @param pushCredentials push credentials
+     * @param applicationLayersCache persistent cache directory for the application layers, if null, Jib's default
+     *                               (temporary) directory is used
+     * @param executorService executor service for Jib's tasks (not shut down)
+     * @param ansiProgress whether to print Jib's output as an ANSI progress display on the console
      * @param logger kit logger
      * @throws InterruptedException in case thread is interrupted
+     * @throws InvalidImageReferenceException in case the image name is not valid
      */
-    public static void buildContainer(JibContainerBuilder jibContainerBuilder, TarImage image, KitLogger logger)
-            throws InterruptedException {
+    public static void buildAndPushContainer(
+        JibContainerBuilder jibContainerBuilder, ImageConfiguration imageConfiguration, Credential pushCredentials,
+        Path applicationLayersCache, ExecutorService executorService, boolean ansiProgress, KitLogger logger)
+            throws InterruptedException, InvalidImageReferenceException {
+
+        final String imageName = getFullImageName(imageConfiguration, null);
+        final Containerizer containerizer = Containerizer.to(getRegistryImage(imageName, pushCredentials));
+        for (String tag : getAdditionalTags(imageConfiguration, imageName)) {
+            logger.info("Tagging image: %s", getFullImageName(imageConfiguration, tag));
+            containerizer.withAdditionalTag(tag);
+        }
+        logger.info("Pushing image: %s", imageName);
+        containerize(jibContainerBuilder, containerizer, applicationLayersCache, executorService,
+            "Unable to build and push the image: ", ansiProgress, logger);
+    }
+
+    private static void containerize(
+        JibContainerBuilder jibContainerBuilder, Containerizer containerizer, Path applicationLayersCache,
+        ExecutorService executorService, String errorMessage, boolean ansiProgress, KitLogger logger)
+        throws InterruptedException {
 
-        final ExecutorService jibBuildExecutor = Executors.newCachedThreadPool();
         try {
-            jibContainerBuilder.setCreationTime(Instant.now());
-            jibContainerBuilder.containerize(Containerizer.to(image)
+            containerizer
                 .setAllowInsecureRegistries(true)
-                .setExecutorService(jibBuildExecutor)
-                .addEventHandler(LogEvent.class, log(logger))
-                .addEventHandler(ProgressEvent.class, new ProgressEventHandler(logUpdate())));
-            logUpdateFinished();
+                .setExecutorService(executorService);
+            addEventHandlers(containerizer, ansiProgress, logger);
+            if (applicationLayersCache != null) {
+                // Layers are cached by the digest of their entries, unchanged layers are reused without recompression
+                containerizer.setApplicationLayersCache(applicationLayersCache);
+            }
+            jibContainerBuilder.containerize(containerizer);
+            logUpdateFinished(ansiProgress);
         } catch (CacheDirectoryCreationException | IOException | ExecutionException | RegistryException ex) {
-            logger.error("Unable to build the image tarball: ", ex);
+            logger.error(errorMessage, ex);
             throw new IllegalStateException(ex);
         } catch (InterruptedException ex) {
             Thread.currentThread().interrupt();
             throw ex;
-        } finally {
-            jibBuildExecutor.shutdown();
-            jibBuildExecutor.awaitTermination(JIB_EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
         }
     }
 
     public static JibContainerBuilder containerFromImageConfiguration(
         ImageConfiguration imageConfiguration, String pullRegistry, Credential pullRegistryCredential) throws InvalidImageReferenceException {
         final JibContainerBuilder containerBuilder = Jib.from(getRegistryImage(getBaseImage(imageConfiguration, pullRegistry), pullRegistryCredential))
-                .setFormat(ImageFormat.Docker);
+                .setFormat(ImageFormat.Docker)
+                .setCreationTime(Instant.now());
         return populateContainerBuilderFromImageConfiguration(containerBuilder, imageConfiguration);
     }
 
@@ -135,20 +190,29 @@ public class JibServiceUtil {
     /**
      * Push Image to registry using JIB
      *
+     * <p> The image blobs and manifest are pushed once, the rest of the tags are added registry-side (manifest only).
+     *
      * @param imageConfiguration ImageConfiguration
      * @param pushCredentials    push credentials
      * @param tarArchive         tar archive built during build goal
+     * @param creationTime       creation time of the pushed image (same as the built one for reproducible builds),
+     *                           if null, the current time is used
+     * @param executorService    executor service for Jib's tasks (not shut down)
+     * @param ansiProgress       whether to print Jib's output as an ANSI progress display on the console
      * @param log                Logger
      */
-    public static void jibPush(ImageConfiguration imageConfiguration, Credential pushCredentials, File tarArchive, KitLogger log) {
-        BuildConfiguration buildImageConfiguration = imageConfiguration.getBuildConfiguration();
+    public static void jibPush(
+        ImageConfiguration imageConfiguration, Credential pushCredentials, File tarArchive, Instant creationTime,
+        ExecutorService executorService, boolean ansiProgress, KitLogger log) {
         String imageName = getFullImageName(imageConfiguration, null);
         try {
-            for (String tag : getAllImageTags(buildImageConfiguration.getTags(), imageName)) {
-                String imageNameWithTag = getFullImageName(imageConfiguration, tag);
-                log.info("Pushing image: %s", imageNameWithTag);
-                pushImage(TarImage.at(tarArchive.toPath()), imageNameWithTag, pushCredentials, log);
+            final Set<String> additionalTags = getAdditionalTags(imageConfiguration, imageName);
+            log.info("Pushing image: %s", imageName);
+            for (String tag : additionalTags) {
+                log.info("Pushing image: %s", getFullImageName(imageConfiguration, tag));
             }
+            pushImage(TarImage.at(tarArchive.toPath()), imageName, additionalTags, pushCredentials,
+                Optional.ofNullable(creationTime).orElseGet(Instant::now), executorService, ansiProgress, log);
         } catch (IllegalStateException e) {
             log.error("Exception occurred while pushing the image: %s", imageConfiguration.getName());
             throw new IllegalStateException(e.getMessage(), e);
@@ -158,21 +222,20 @@ public class JibServiceUtil {
         }
     }
 
-    private static void pushImage(TarImage baseImage, String targetImageName, Credential credential, KitLogger logger)
-            throws InterruptedException {
+    private static void pushImage(
+        TarImage baseImage, String targetImageName, Set<String> additionalTags, Credential credential,
+        Instant creationTime, ExecutorService executorService, boolean ansiProgress, KitLogger logger)
+        throws InterruptedException {
 
-        final ExecutorService jibBuildExecutor = Executors.newCachedThreadPool();
         try {
-            submitPushToJib(baseImage, getRegistryImage(targetImageName, credential), jibBuildExecutor, logger);
+            submitPushToJib(baseImage, getRegistryImage(targetImageName, credential), additionalTags, creationTime,
+                executorService, ansiProgress, logger);
         } catch (RegistryException | CacheDirectoryCreationException | InvalidImageReferenceException | IOException | ExecutionException e) {
             logger.error("Exception occurred while pushing the image: %s, %s", targetImageName, e.getMessage());
             throw new IllegalStateException(e.getMessage(), e);
         } catch (InterruptedException ex) {
             logger.error("Thread interrupted", ex);
             throw ex;
-        } finally {
-            jibBuildExecutor.shutdown();
-            jibBuildExecutor.awaitTermination(JIB_EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
         }
     }
 
@@ -211,22 +274,30 @@ public class JibServiceUtil {
         return containerBuilder;
     }
 
+    private static Set<String> getAdditionalTags(ImageConfiguration imageConfiguration, String imageName) {
+        final Set<String> additionalTags = getAllImageTags(imageConfiguration.getBuildConfiguration().getTags(), imageName);
+        additionalTags.remove(new ImageName(imageName).getTag());
+        return additionalTags;
+    }
+
     static Set<String> getAllImageTags(List<String> tags, String imageName) {
         ImageName tempImage = new ImageName(imageName);
-        Set<String> tagSet = tags.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        Set<String> tagSet = new LinkedHashSet<>();
         if (!tempImage.getTag().isEmpty()) {
             tagSet.add(tempImage.getTag());
         }
+        tags.stream().filter(Objects::nonNull).forEach(tagSet::add);
         return tagSet;
     }
 
-    private static void submitPushToJib(TarImage baseImage, RegistryImage targetImage, ExecutorService jibBuildExecutor, KitLogger logger) throws InterruptedException, ExecutionException, RegistryException, CacheDirectoryCreationException, IOException {
-        Jib.from(baseImage).setCreationTime(Instant.now()).containerize(Containerizer.to(targetImage)
+    private static void submitPushToJib(TarImage baseImage, RegistryImage targetImage, Set<String> additionalTags, Instant creationTime, ExecutorService jibBuildExecutor, boolean ansiProgress, KitLogger logger) throws InterruptedException, ExecutionException, RegistryException, CacheDirectoryCreationException, IOException {
+        final Containerizer containerizer = Containerizer.to(targetImage)
             .setAllowInsecureRegistries(true)
-            .setExecutorService(jibBuildExecutor)
-            .addEventHandler(LogEvent.class, log(logger))
-            .addEventHandler(ProgressEvent.class, new ProgressEventHandler(logUpdate())));
-        logUpdateFinished();
+            .setExecutorService(jibBuildExecutor);
+        addEventHandlers(containerizer, ansiProgress, logger);
+        additionalTags.forEach(containerizer::withAdditionalTag);
+        Jib.from(baseImage).setCreationTime(creationTime).containerize(containerizer);
+        logUpdateFinished(ansiProgress);
     }
 
     private static RegistryImage getRegistryImage(String targetImage, Credential credential) throws InvalidImageReferenceException {
@@ -237,6 +308,17 @@ public class JibServiceUtil {
         return registryImage;
     }
 
+    // The ANSI progress display moves the console cursor, concurrent builds would overwrite each other's lines
+    private static void addEventHandlers(Containerizer containerizer, boolean ansiProgress, KitLogger logger) {
+        if (ansiProgress) {
+            containerizer
+                .addEventHandler(LogEvent.class, log(logger))
+                .addEventHandler(ProgressEvent.class, new ProgressEventHandler(logUpdate()));
+        } else {
+            containerizer.addEventHandler(LogEvent.class, plainLog(logger));
+        }
+    }
+
     private static Consumer<LogEvent> log(KitLogger logger) {
         return le -> {
             if (le.getLevel() != LogEvent.Level.DEBUG || logger.isVerboseEnabled() || logger.isDebugEnabled()) {
@@ -246,6 +328,16 @@ public class JibServiceUtil {
         };
     }
 
+    private static Consumer<LogEvent> plainLog(KitLogger logger) {
+        return le -> {
+            if (le.getLevel() == LogEvent.Level.DEBUG) {
+                logger.debug("%s%s", JIB_LOG_PREFIX, le.getMessage());
+            } else {
+                logger.info("%s%s", JIB_LOG_PREFIX, le.getMessage());
+            }
+        };
+    }
+
     private static Consumer<ProgressEventHandler.Update> logUpdate() {
         return update -> {
             final List<String> progressDisplay =
@@ -258,8 +350,10 @@ public class JibServiceUtil {
         };
     }
 
-    private static void logUpdateFinished() {
-        System.out.println(JIB_LOG_PREFIX + generateProgressBar(1.0F));
+    private static void logUpdateFinished(boolean ansiProgress) {
+        if (ansiProgress) {
+            System.out.println(JIB_LOG_PREFIX + generateProgressBar(1.0F));
+        }
     }
 
     public static String getBaseImage(ImageConfiguration imageConfiguration, String optionalRegistry) {
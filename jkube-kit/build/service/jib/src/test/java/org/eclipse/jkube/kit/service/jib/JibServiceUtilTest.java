@@ -22,6 +22,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import org.eclipse.jkube.kit.build.api.assembly.BuildDirs;
 import org.eclipse.jkube.kit.common.Assembly;
@@ -30,22 +31,36 @@ import org.eclipse.jkube.kit.common.AssemblyFile;
 import org.eclipse.jkube.kit.common.AssemblyFileEntry;
 import org.eclipse.jkube.kit.common.JKubeConfiguration;
 import org.eclipse.jkube.kit.common.JavaProject;
+import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.config.image.ImageConfiguration;
 import org.eclipse.jkube.kit.common.Arguments;
 import org.eclipse.jkube.kit.config.image.build.BuildConfiguration;
 
+import com.google.cloud.tools.jib.api.Containerizer;
+import com.google.cloud.tools.jib.api.Credential;
+import com.google.cloud.tools.jib.api.Jib;
 import com.google.cloud.tools.jib.api.JibContainerBuilder;
+import com.google.cloud.tools.jib.api.LogEvent;
+import com.google.cloud.tools.jib.api.RegistryImage;
+import com.google.cloud.tools.jib.api.TarImage;
 import com.google.cloud.tools.jib.api.buildplan.AbsoluteUnixPath;
 import com.google.cloud.tools.jib.api.buildplan.FileEntriesLayer;
 import com.google.cloud.tools.jib.api.buildplan.ImageFormat;
 import com.google.cloud.tools.jib.api.buildplan.Port;
+import com.google.cloud.tools.jib.event.events.ProgressEvent;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.MockedConstruction;
+import org.mockito.MockedStatic;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.jkube.kit.service.jib.JibServiceUtil.containerFromImageConfiguration;
 import static org.mockito.Answers.RETURNS_SELF;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.mockConstructionWithAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -103,6 +118,90 @@ class JibServiceUtilTest {
             .containsExactlyInAnyOrder("0.0.1-SNAPSHOT", "0.0.1", "latest");
     }
 
+    @Test
+    void getAllImageTags_shouldReturnImageNameTagFirst() {
+        // When
+        Set<String> result = JibServiceUtil.getAllImageTags(Arrays.asList("latest", "0.0.1"), "test-project:0.0.1");
+        // Then
+        assertThat(result).containsExactly("0.0.1", "latest");
+    }
+
+    @Test
+    void jibPush_withMultipleTags_shouldPushOnceAndAddRemainingTags(@TempDir File temporaryFolder) throws Exception {
+        // Given
+        final ImageConfiguration imageConfiguration = ImageConfiguration.builder()
+            .name("test/test-project:0.0.1")
+            .build(BuildConfiguration.builder()
+                .from("busybox:latest")
+                .tags(Arrays.asList("latest", "0.0.1", "sha-1234"))
+                .build())
+            .build();
+        final JibContainerBuilder jibContainerBuilder = mock(JibContainerBuilder.class, RETURNS_SELF);
+        final Containerizer containerizer = mock(Containerizer.class, RETURNS_SELF);
+        final ExecutorService executorService = mock(ExecutorService.class);
+        try (
+            MockedStatic<Jib> jibMockedStatic = mockStatic(Jib.class);
+            MockedStatic<Containerizer> containerizerMockedStatic = mockStatic(Containerizer.class)
+        ) {
+            jibMockedStatic.when(() -> Jib.from(any(TarImage.class))).thenReturn(jibContainerBuilder);
+            containerizerMockedStatic.when(() -> Containerizer.to(any(RegistryImage.class))).thenReturn(containerizer);
+            // When
+            JibServiceUtil.jibPush(imageConfiguration, Credential.from("user", "pass"),
+                new File(temporaryFolder, "docker-build.tar"), null, executorService, true, new KitLogger.SilentLogger());
+            // Then
+            containerizerMockedStatic.verify(() -> Containerizer.to(any(RegistryImage.class)), times(1));
+            verify(containerizer).setExecutorService(executorService);
+            verify(containerizer, times(2)).withAdditionalTag(anyString());
+            verify(containerizer).withAdditionalTag("latest");
+            verify(containerizer).withAdditionalTag("sha-1234");
+            verify(jibContainerBuilder, times(1)).containerize(containerizer);
+        }
+    }
+
+    @Test
+    void buildAndPushContainer_shouldContainerizeToRegistryWithAdditionalTags() throws Exception {
+        // Given
+        final ImageConfiguration imageConfiguration = ImageConfiguration.builder()
+            .name("test/test-project:0.0.1")
+            .build(BuildConfiguration.builder()
+                .from("busybox:latest")
+                .tags(Arrays.asList("latest", "0.0.1"))
+                .build())
+            .build();
+        final JibContainerBuilder jibContainerBuilder = mock(JibContainerBuilder.class, RETURNS_SELF);
+        final Containerizer containerizer = mock(Containerizer.class, RETURNS_SELF);
+        try (MockedStatic<Containerizer> containerizerMockedStatic = mockStatic(Containerizer.class)) {
+            containerizerMockedStatic.when(() -> Containerizer.to(any(RegistryImage.class))).thenReturn(containerizer);
+            // When
+            JibServiceUtil.buildAndPushContainer(jibContainerBuilder, imageConfiguration,
+                Credential.from("user", "pass"), null, mock(ExecutorService.class), true, new KitLogger.SilentLogger());
+            // Then
+            containerizerMockedStatic.verify(() -> Containerizer.to(any(TarImage.class)), times(0));
+            verify(containerizer, times(1)).withAdditionalTag("latest");
+            verify(jibContainerBuilder, times(1)).containerize(containerizer);
+        }
+    }
+
+    @Test
+    void buildAndPushContainer_withoutAnsiProgress_shouldNotHandleProgressEvents() throws Exception {
+        // Given
+        final JibContainerBuilder jibContainerBuilder = mock(JibContainerBuilder.class, RETURNS_SELF);
+        final Containerizer containerizer = mock(Containerizer.class, RETURNS_SELF);
+        try (MockedStatic<Containerizer> containerizerMockedStatic = mockStatic(Containerizer.class)) {
+            containerizerMockedStatic.when(() -> Containerizer.to(any(RegistryImage.class))).thenReturn(containerizer);
+            // When
+            JibServiceUtil.buildAndPushContainer(jibContainerBuilder, ImageConfiguration.builder()
+                    .name("test/test-project:0.0.1")
+                    .build(BuildConfiguration.builder().from("busybox:latest").tags(Arrays.asList("latest")).build())
+                    .build(),
+                Credential.from("user", "pass"), null, mock(ExecutorService.class), false, new KitLogger.SilentLogger());
+            // Then
+            verify(containerizer, times(1)).addEventHandler(eq(LogEvent.class), any());
+            verify(containerizer, times(0)).addEventHandler(eq(ProgressEvent.class), any());
+            verify(jibContainerBuilder, times(1)).containerize(containerizer);
+        }
+    }
+
     @Test
     void testGetFullImageNameWithDefaultTag() {
         assertThat(JibServiceUtil.getFullImageName(getSampleImageConfiguration(), null))
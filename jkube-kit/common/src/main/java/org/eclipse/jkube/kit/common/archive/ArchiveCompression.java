@@ -36,6 +36,16 @@ public enum ArchiveCompression {
         }
     },
 
+    /**
+     * gzip compression performed by multiple threads, produces a standard gzip stream.
+     */
+    pgzip(TarCompressionMethod.gzip,"tar.gz") { // NOSONAR
+        @Override
+        public OutputStream wrapOutputStream(OutputStream out) throws IOException {
+            return new ParallelGzipOutputStream(out);
+        }
+    },
+
     bzip2(TarCompressionMethod.bzip2,"tar.bz") { // NOSONAR
         @Override
         public OutputStream wrapOutputStream(OutputStream out) throws IOException {
@@ -15,20 +15,25 @@ package org.eclipse.jkube.kit.common.archive;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.FileSystemLoopException;
 import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedHashSet;
+import java.util.Deque;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
 
@@ -46,6 +51,7 @@ public class AssemblyFileSetUtils {
   private static final String PATH_TO_SELF = ".";
   private static final String DIRECTORY_MODE_DEFAULT = "040755";
   private static final String FILE_MODE_DEFAULT = "0644";
+  private static final String EXCLUDED_CONTENT_SUFFIX = "/**";
 
   private AssemblyFileSetUtils() {}
 
@@ -84,12 +90,40 @@ public class AssemblyFileSetUtils {
    * @return List containing the copied {@link AssemblyFileEntry} for the processed {@link AssemblyFileSet}
    * @throws IOException in case something goes wrong when performing File operations.
    */
-  @SuppressWarnings("squid:S3864")
   @Nonnull
   public static List<AssemblyFileEntry> processAssemblyFileSet(
       File baseDirectory, File outputDirectory, AssemblyFileSet assemblyFileSet,
       Assembly layer, AssemblyConfiguration assemblyConfiguration) throws IOException {
 
+    return processAssemblyFileSet(baseDirectory, outputDirectory, assemblyFileSet, layer, assemblyConfiguration, true);
+  }
+
+  /**
+   * Same as {@link #processAssemblyFileSet(File, File, AssemblyFileSet, Assembly, AssemblyConfiguration)} but
+   * files are not copied, only the resulting {@link AssemblyFileEntry} list is computed.
+   *
+   * <p> Useful for builders that can consume the source files directly (e.g. JIB).
+   *
+   * @param baseDirectory directory from where to resolve source files.
+   * @param outputDirectory directory where files would be output.
+   * @param assemblyFileSet fileSet to process.
+   * @param layer the layer to which fileSet belongs to.
+   * @param assemblyConfiguration configuration for assembly.
+   * @return List containing the {@link AssemblyFileEntry} for the processed {@link AssemblyFileSet}
+   * @throws IOException in case something goes wrong when performing File operations.
+   */
+  @Nonnull
+  public static List<AssemblyFileEntry> resolveAssemblyFileSet(
+      File baseDirectory, File outputDirectory, AssemblyFileSet assemblyFileSet,
+      Assembly layer, AssemblyConfiguration assemblyConfiguration) throws IOException {
+
+    return processAssemblyFileSet(baseDirectory, outputDirectory, assemblyFileSet, layer, assemblyConfiguration, false);
+  }
+
+  private static List<AssemblyFileEntry> processAssemblyFileSet(
+      File baseDirectory, File outputDirectory, AssemblyFileSet assemblyFileSet,
+      Assembly layer, AssemblyConfiguration assemblyConfiguration, boolean stage) throws IOException {
+
     final File sourceDirectory = resolveSourceDirectory(baseDirectory, assemblyFileSet);
     Objects.requireNonNull(assemblyConfiguration.getTargetDir(), "Assembly Configuration target dir is required");
     if (!sourceDirectory.exists()) {
@@ -111,39 +145,17 @@ public class AssemblyFileSetUtils {
     } else {
       destinationDirectory = targetDirectory.toPath().resolve(assemblyFileSet.getOutputDirectory().getPath()).toFile();
     }
-    final List<String> includes = Optional.ofNullable(assemblyFileSet.getIncludes())
+    final List<PathMatcher> includes = Optional.ofNullable(assemblyFileSet.getIncludes())
         .filter(i -> !i.isEmpty())
-        .orElse(Collections.singletonList(PATH_TO_SELF));
-    final List<AssemblyFileEntry> allEntries = new ArrayList<>();
-    for (String include : includes) {
-      final String effectiveInclude = isSelfPath(include) ? "**" : include;
-      allEntries.addAll(processInclude(sourceDirectory.toPath(), effectiveInclude, destinationDirectory.toPath(), assemblyFileSet));
-    }
-    return allEntries;
-  }
-
-  private static Set<AssemblyFileEntry> processInclude(
-      Path sourceDirectory, String include, Path destinationDirectory, AssemblyFileSet assemblyFileSet) throws IOException {
-
-    final Set<AssemblyFileEntry> entries = new LinkedHashSet<>();
-    for (File sourceFile : findFilesUsingGlobMatcher(sourceDirectory, include, assemblyFileSet)) {
-      final File destFile = destinationDirectory.resolve(sourceDirectory.relativize(sourceFile.toPath())).toFile();
-      FileUtil.createDirectory(destFile.getParentFile());
-      entries.addAll(copy(sourceDirectory, sourceFile, destFile, assemblyFileSet));
-    }
-    return entries;
-  }
-
-  private static List<File> findFilesUsingGlobMatcher(
-      Path sourceDirectory, String include, AssemblyFileSet assemblyFileSet) throws IOException {
-    final PathMatcher pathMatcher = FileSystems.getDefault().getPathMatcher(String.format("glob:%s", include));
-    try (Stream<Path> sourceDirectoryStream = Files.walk(sourceDirectory)) {
-      return sourceDirectoryStream
-          .filter(p -> pathMatcher.matches(sourceDirectory.relativize(p)))
-          .filter(isNotExcluded(sourceDirectory, assemblyFileSet))
-          .map(Path::normalize)
-          .map(Path::toFile).collect(Collectors.toList());
-    }
+        .orElse(Collections.singletonList(PATH_TO_SELF))
+        .stream()
+        .map(include -> isSelfPath(include) ? "**" : include)
+        .map(AssemblyFileSetUtils::globPathMatcher)
+        .collect(Collectors.toList());
+    final FileSetVisitor visitor = new FileSetVisitor(sourceDirectory.toPath(), destinationDirectory.toPath(),
+        assemblyFileSet, includes, stage);
+    Files.walkFileTree(sourceDirectory.toPath(), EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, visitor);
+    return visitor.entries;
   }
 
   static File resolveSourceDirectory(File baseDirectory, AssemblyFileSet assemblyFileSet) {
@@ -161,22 +173,6 @@ public class AssemblyFileSetUtils {
     return StringUtils.isBlank(path) || path.equals(PATH_TO_SELF);
   }
 
-  private static List<AssemblyFileEntry> copy(Path sourceDirectory, File source, File target, AssemblyFileSet assemblyFileSet)
-      throws IOException {
-    if (source.exists() && isNotExcluded(sourceDirectory, assemblyFileSet).test(source.toPath())) {
-      if (source.isDirectory()) {
-        FileUtils.forceMkdir(target);
-        for (File sourceChild : Optional.ofNullable(source.listFiles()).orElse(new File[0])) {
-          copy(sourceDirectory, sourceChild, new File(target, sourceChild.getName()), assemblyFileSet);
-        }
-      } else {
-        FileUtil.copy(source, target);
-      }
-      return calculateFilePermissions(source, target, assemblyFileSet);
-    }
-    return Collections.emptyList();
-  }
-
   /**
    * Functional filter that will filter {@link AssemblyFileEntry#getSource()} files that match any of the excluded
    * paths provided in {@link AssemblyFileSet#getExcludes()} using {@link PathMatcher} glob syntax.
@@ -195,7 +191,126 @@ public class AssemblyFileSetUtils {
   private static List<PathMatcher> excludePathMatchers(@Nonnull AssemblyFileSet fileSet) {
     return Optional.ofNullable(fileSet.getExcludes()).orElse(Collections.emptyList())
         .stream()
-        .map(exclude -> FileSystems.getDefault().getPathMatcher(String.format("glob:%s", exclude)))
+        .map(AssemblyFileSetUtils::globPathMatcher)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Matchers for the directories whose whole content is excluded, i.e. the <code>X</code> in exclude patterns
+   * with the form <code>X/**</code>.
+   */
+  @Nonnull
+  private static List<PathMatcher> excludedContentPathMatchers(@Nonnull AssemblyFileSet fileSet) {
+    return Optional.ofNullable(fileSet.getExcludes()).orElse(Collections.emptyList())
+        .stream()
+        .filter(exclude -> exclude.endsWith(EXCLUDED_CONTENT_SUFFIX) && exclude.length() > EXCLUDED_CONTENT_SUFFIX.length())
+        .map(exclude -> globPathMatcher(exclude.substring(0, exclude.length() - EXCLUDED_CONTENT_SUFFIX.length())))
         .collect(Collectors.toList());
   }
+
+  private static PathMatcher globPathMatcher(String glob) {
+    return FileSystems.getDefault().getPathMatcher(String.format("glob:%s", glob));
+  }
+
+  private static boolean anyMatch(List<PathMatcher> pathMatchers, Path path) {
+    for (PathMatcher pathMatcher : pathMatchers) {
+      if (pathMatcher.matches(path)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Stages (or just resolves) the files of an {@link AssemblyFileSet} in a single walk of the source directory.
+   *
+   * <p> A file or directory is staged if it's not excluded and either matches any of the includes or its parent
+   * directory is staged (i.e. included directories are staged recursively). Subtrees with all of their content
+   * excluded are not visited.
+   */
+  private static final class FileSetVisitor extends SimpleFileVisitor<Path> {
+
+    private final Path sourceDirectory;
+    private final Path destinationDirectory;
+    private final List<PathMatcher> includes;
+    private final List<PathMatcher> excludes;
+    private final List<PathMatcher> excludedContent;
+    private final String fileMode;
+    private final String directoryMode;
+    private final boolean stage;
+    private final Deque<Boolean> stagedDirectories;
+    private final List<AssemblyFileEntry> entries;
+
+    private FileSetVisitor(Path sourceDirectory, Path destinationDirectory, AssemblyFileSet assemblyFileSet,
+        List<PathMatcher> includes, boolean stage) {
+      this.sourceDirectory = sourceDirectory;
+      this.destinationDirectory = destinationDirectory;
+      this.includes = includes;
+      this.excludes = excludePathMatchers(assemblyFileSet);
+      this.excludedContent = excludedContentPathMatchers(assemblyFileSet);
+      this.fileMode = Optional.ofNullable(assemblyFileSet.getFileMode()).orElse(FILE_MODE_DEFAULT);
+      this.directoryMode = Optional.ofNullable(assemblyFileSet.getDirectoryMode()).orElse(DIRECTORY_MODE_DEFAULT);
+      this.stage = stage;
+      this.stagedDirectories = new ArrayDeque<>();
+      this.entries = new ArrayList<>();
+    }
+
+    @Override
+    public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+      final Path relativePath = sourceDirectory.relativize(dir).normalize();
+      final boolean staged = isStaged(relativePath);
+      if (staged) {
+        final File destination = destination(relativePath);
+        if (stage) {
+          FileUtils.forceMkdir(destination);
+        }
+        entries.add(new AssemblyFileEntry(dir.toFile(), destination, directoryMode));
+      }
+      // The source directory itself (empty relative path) can't be excluded, patterns such as */** would match it
+      if (!dir.equals(sourceDirectory) && anyMatch(excludedContent, relativePath)) {
+        return FileVisitResult.SKIP_SUBTREE;
+      }
+      stagedDirectories.push(staged);
+      return FileVisitResult.CONTINUE;
+    }
+
+    @Override
+    public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+      stagedDirectories.pop();
+      return super.postVisitDirectory(dir, exc);
+    }
+
+    @Override
+    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+      final Path relativePath = sourceDirectory.relativize(file).normalize();
+      if (isStaged(relativePath)) {
+        final File destination = destination(relativePath);
+        if (stage) {
+          if (!Boolean.TRUE.equals(stagedDirectories.peek())) {
+            FileUtil.createDirectory(destination.getParentFile());
+          }
+          FileUtil.stage(file.toFile(), destination);
+        }
+        entries.add(new AssemblyFileEntry(file.toFile(), destination, fileMode));
+      }
+      return FileVisitResult.CONTINUE;
+    }
+
+    @Override
+    public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
+      if (exc instanceof FileSystemLoopException) {
+        return FileVisitResult.CONTINUE;
+      }
+      return super.visitFileFailed(file, exc);
+    }
+
+    private boolean isStaged(Path relativePath) {
+      return !anyMatch(excludes, relativePath) &&
+          (Boolean.TRUE.equals(stagedDirectories.peek()) || anyMatch(includes, relativePath));
+    }
+
+    private File destination(Path relativePath) {
+      return destinationDirectory.resolve(relativePath).toFile();
+    }
+  }
 }
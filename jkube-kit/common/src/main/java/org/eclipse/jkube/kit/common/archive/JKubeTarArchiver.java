@@ -17,16 +17,27 @@ import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
-import org.apache.commons.compress.utils.IOUtils;
-import org.eclipse.jkube.kit.common.util.FileUtil;
+import org.apache.commons.io.output.CloseShieldOutputStream;
 
 import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -34,13 +45,18 @@ import java.util.function.Consumer;
 
 public class JKubeTarArchiver {
 
+  private static final int BUFFER_SIZE = 64 * 1024;
+
   private JKubeTarArchiver() {}
 
   public static File createTarBallOfDirectory(
     File outputFile, File inputDirectory, ArchiveCompression compression) throws IOException {
 
-    return JKubeTarArchiver.createTarBall(outputFile, inputDirectory,
-        FileUtil.listFilesAndDirsRecursivelyInDirectory(inputDirectory), Collections.emptyMap(), compression);
+    try (FileOutputStream fileOutputStream = new FileOutputStream(outputFile)) {
+      writeTarBall(fileOutputStream, inputDirectory, walk(inputDirectory), Collections.emptyMap(), compression,
+          null, null, null);
+    }
+    return outputFile;
   }
 
   public static File createTarBall(
@@ -56,8 +72,122 @@ public class JKubeTarArchiver {
       ArchiveCompression compression,
       Consumer<TarArchiveOutputStream> tarCustomizer, Consumer<TarArchiveEntry> tarArchiveEntryCustomizer
   ) throws IOException {
-    try (FileOutputStream fileOutputStream = new FileOutputStream(outputFile);
-        BufferedOutputStream bufferedOutputStream = new BufferedOutputStream(fileOutputStream)) {
+    return createTarBall(outputFile, inputDirectory, fileList, fileModeMap, compression, null,
+        tarCustomizer, tarArchiveEntryCustomizer);
+  }
+
+  /**
+   * Creates a tar ball with the provided files.
+   *
+   * @param outputFile the tar ball file.
+   * @param inputDirectory the directory the archive entry names are relative to.
+   * @param fileList the files (and directories) to include in the archive.
+   * @param fileModeMap file modes to apply to specific files.
+   * @param compression the compression to apply to the tar ball.
+   * @param outputTimestamp if not null, the archive is reproducible (see
+   *   {@link #createTarBall(OutputStream, File, List, Map, ArchiveCompression, Instant, Consumer, Consumer)}).
+   * @param tarCustomizer optional customizer for the tar output stream.
+   * @param tarArchiveEntryCustomizer optional customizer for each of the tar entries.
+   * @return the tar ball file.
+   * @throws IOException if the tar ball can't be written.
+   */
+  public static File createTarBall(
+      File outputFile, File inputDirectory, List<File> fileList, Map<File, String> fileModeMap,
+      ArchiveCompression compression, Instant outputTimestamp,
+      Consumer<TarArchiveOutputStream> tarCustomizer, Consumer<TarArchiveEntry> tarArchiveEntryCustomizer
+  ) throws IOException {
+    try (FileOutputStream fileOutputStream = new FileOutputStream(outputFile)) {
+      createTarBall(fileOutputStream, inputDirectory, fileList, fileModeMap, compression, outputTimestamp,
+          tarCustomizer, tarArchiveEntryCustomizer);
+    }
+
+    return outputFile;
+  }
+
+  /**
+   * Writes a tar ball with the provided files to the provided {@link OutputStream}.
+   *
+   * <p> The provided stream is not closed, the archive (and compression) is finished and the stream flushed.
+   *
+   * @param outputStream the stream where the tar ball is written.
+   * @param inputDirectory the directory the archive entry names are relative to.
+   * @param fileList the files (and directories) to include in the archive.
+   * @param fileModeMap file modes to apply to specific files.
+   * @param compression the compression to apply to the tar ball.
+   * @param tarCustomizer optional customizer for the tar output stream.
+   * @param tarArchiveEntryCustomizer optional customizer for each of the tar entries.
+   * @throws IOException if the tar ball can't be written.
+   */
+  public static void createTarBall(
+      OutputStream outputStream, File inputDirectory, List<File> fileList, Map<File, String> fileModeMap,
+      ArchiveCompression compression,
+      Consumer<TarArchiveOutputStream> tarCustomizer, Consumer<TarArchiveEntry> tarArchiveEntryCustomizer
+  ) throws IOException {
+    createTarBall(outputStream, inputDirectory, fileList, fileModeMap, compression, null,
+        tarCustomizer, tarArchiveEntryCustomizer);
+  }
+
+  /**
+   * Writes a tar ball with the provided files to the provided {@link OutputStream}.
+   *
+   * <p> If an output timestamp is provided, the archive is reproducible: the entries are sorted by name, their
+   * modification time is set to the provided timestamp and their ownership is cleared, so the same files always
+   * result in the same archive (and digest) regardless of the file system order and modification times.
+   *
+   * @param outputStream the stream where the tar ball is written.
+   * @param inputDirectory the directory the archive entry names are relative to.
+   * @param fileList the files (and directories) to include in the archive.
+   * @param fileModeMap file modes to apply to specific files.
+   * @param compression the compression to apply to the tar ball.
+   * @param outputTimestamp the modification time for all the entries, or null to keep the file modification times.
+   * @param tarCustomizer optional customizer for the tar output stream.
+   * @param tarArchiveEntryCustomizer optional customizer for each of the tar entries.
+   * @throws IOException if the tar ball can't be written.
+   */
+  public static void createTarBall(
+      OutputStream outputStream, File inputDirectory, List<File> fileList, Map<File, String> fileModeMap,
+      ArchiveCompression compression, Instant outputTimestamp,
+      Consumer<TarArchiveOutputStream> tarCustomizer, Consumer<TarArchiveEntry> tarArchiveEntryCustomizer
+  ) throws IOException {
+    final Map<File, BasicFileAttributes> files = new LinkedHashMap<>();
+    for (File file : fileList) {
+      files.put(file, Files.readAttributes(file.toPath(), BasicFileAttributes.class));
+    }
+    writeTarBall(outputStream, inputDirectory, files, fileModeMap, compression, outputTimestamp,
+        tarCustomizer, tarArchiveEntryCustomizer);
+  }
+
+  /**
+   * Lists the files and directories in the provided directory (excluding the directory itself) along with their
+   * attributes, which are read only once while walking the file tree.
+   */
+  private static Map<File, BasicFileAttributes> walk(File inputDirectory) throws IOException {
+    final Path root = inputDirectory.toPath();
+    final Map<File, BasicFileAttributes> files = new LinkedHashMap<>();
+    Files.walkFileTree(root, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, new SimpleFileVisitor<Path>() {
+      @Override
+      public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+        if (!dir.equals(root)) {
+          files.put(dir.toFile(), attrs);
+        }
+        return FileVisitResult.CONTINUE;
+      }
+
+      @Override
+      public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+        files.put(file.toFile(), attrs);
+        return FileVisitResult.CONTINUE;
+      }
+    });
+    return files;
+  }
+
+  private static void writeTarBall(
+      OutputStream outputStream, File inputDirectory, Map<File, BasicFileAttributes> files, Map<File, String> fileModeMap,
+      ArchiveCompression compression, Instant outputTimestamp,
+      Consumer<TarArchiveOutputStream> tarCustomizer, Consumer<TarArchiveEntry> tarArchiveEntryCustomizer
+  ) throws IOException {
+    try (BufferedOutputStream bufferedOutputStream = new BufferedOutputStream(new CloseShieldOutputStream(outputStream))) {
 
       final TarArchiveOutputStream tarArchiveOutputStream;
       if (compression.equals(ArchiveCompression.gzip)) {
@@ -65,38 +195,61 @@ public class JKubeTarArchiver {
       } else if (compression.equals(ArchiveCompression.bzip2)) {
         tarArchiveOutputStream = new TarArchiveOutputStream(new BZip2CompressorOutputStream(bufferedOutputStream));
       } else {
-        tarArchiveOutputStream = new TarArchiveOutputStream(bufferedOutputStream);
+        tarArchiveOutputStream = new TarArchiveOutputStream(compression.wrapOutputStream(bufferedOutputStream));
       }
       tarArchiveOutputStream.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
       tarArchiveOutputStream.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
       Optional.ofNullable(tarCustomizer).ifPresent(tc -> tc.accept(tarArchiveOutputStream));
-      for (File currentFile : fileList) {
-
-        String relativeFilePath = inputDirectory.toURI().relativize(
-            new File(currentFile.getAbsolutePath()).toURI()).getPath();
+      final Path basePath = inputDirectory.getAbsoluteFile().toPath().normalize();
+      final List<Map.Entry<File, BasicFileAttributes>> entries = new ArrayList<>(files.entrySet());
+      if (outputTimestamp != null) {
+        entries.sort(Comparator.comparing(e -> entryName(basePath, e.getKey(), e.getValue())));
+      }
+      // Single buffer reused to copy the contents of all the files
+      final byte[] buffer = new byte[BUFFER_SIZE];
+      for (Map.Entry<File, BasicFileAttributes> file : entries) {
+        final File currentFile = file.getKey();
+        final BasicFileAttributes attributes = file.getValue();
 
-        final TarArchiveEntry tarEntry = new TarArchiveEntry(currentFile, relativeFilePath);
-        tarEntry.setSize(currentFile.length());
+        final TarArchiveEntry tarEntry = new TarArchiveEntry(entryName(basePath, currentFile, attributes));
+        tarEntry.setUserName("");
+        if (outputTimestamp != null) {
+          tarEntry.setModTime(Date.from(outputTimestamp));
+          tarEntry.setIds(0, 0);
+          tarEntry.setGroupName("");
+        } else {
+          tarEntry.setModTime(attributes.lastModifiedTime());
+        }
         if (fileModeMap.containsKey(currentFile)) {
           tarEntry.setMode(Integer.parseInt(fileModeMap.get(currentFile), 8));
-        } else if (currentFile.isDirectory()) {
+        } else if (attributes.isDirectory()) {
           tarEntry.setMode(TarArchiveEntry.DEFAULT_DIR_MODE);
         }
-        if (currentFile.isDirectory()) {
-          tarEntry.setSize(0L);
-        }
+        tarEntry.setSize(attributes.isRegularFile() ? attributes.size() : 0L);
         Optional.ofNullable(tarArchiveEntryCustomizer).ifPresent(tac -> tac.accept(tarEntry));
         tarArchiveOutputStream.putArchiveEntry(tarEntry);
-        if (currentFile.isFile()) {
-          try (InputStream fis = new FileInputStream(currentFile)) {
-            IOUtils.copy(fis, tarArchiveOutputStream);
+        if (attributes.isRegularFile()) {
+          try (InputStream fis = Files.newInputStream(currentFile.toPath())) {
+            int read;
+            while ((read = fis.read(buffer)) != -1) {
+              tarArchiveOutputStream.write(buffer, 0, read);
+            }
           }
         }
         tarArchiveOutputStream.closeArchiveEntry();
       }
       tarArchiveOutputStream.close();
     }
+  }
 
-    return outputFile;
+  private static String entryName(Path basePath, File file, BasicFileAttributes attributes) {
+    final Path path = file.getAbsoluteFile().toPath().normalize();
+    final String name;
+    if (path.startsWith(basePath)) {
+      name = basePath.relativize(path).toString().replace(File.separatorChar, '/');
+    } else {
+      name = path.toString().replace(File.separatorChar, '/');
+    }
+    return attributes.isDirectory() ? name + "/" : name;
   }
 }
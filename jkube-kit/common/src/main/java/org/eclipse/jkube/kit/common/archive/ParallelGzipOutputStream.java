@@ -0,0 +1,200 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.eclipse.jkube.kit.common.util.AsyncUtil;
+
+/**
+ * {@link OutputStream} that compresses the written data in the gzip format using multiple threads.
+ *
+ * <p> Same approach as <a href="https://zlib.net/pigz/">pigz</a>: the input is split into fixed size blocks which are
+ * deflated concurrently, each block is primed with the last 32 KiB of the previous block as dictionary and (except for
+ * the last one) terminated with a sync flush. The compressed blocks are written in order, so the result is a single
+ * standard gzip member that any gzip reader can decompress.
+ */
+public class ParallelGzipOutputStream extends FilterOutputStream {
+
+  private static final int DEFAULT_BLOCK_SIZE = 128 * 1024;
+  private static final int DICTIONARY_SIZE = 32 * 1024;
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final byte[] HEADER = new byte[] {
+      0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0
+  };
+
+  private final int level;
+  private final int blockSize;
+  private final int maxPendingBlocks;
+  private final CRC32 crc;
+  private final Deque<CompletableFuture<byte[]>> pending;
+  private byte[] block;
+  private int blockLength;
+  private byte[] dictionary;
+  private long size;
+  private boolean finished;
+
+  public ParallelGzipOutputStream(OutputStream out) throws IOException {
+    this(out, Deflater.DEFAULT_COMPRESSION, DEFAULT_BLOCK_SIZE);
+  }
+
+  ParallelGzipOutputStream(OutputStream out, int level, int blockSize) throws IOException {
+    super(out);
+    if (blockSize < DICTIONARY_SIZE) {
+      throw new IllegalArgumentException("Block size must be at least " + DICTIONARY_SIZE + " bytes");
+    }
+    this.level = level;
+    this.blockSize = blockSize;
+    this.maxPendingBlocks = Runtime.getRuntime().availableProcessors() * 2;
+    this.crc = new CRC32();
+    this.pending = new ArrayDeque<>();
+    this.block = new byte[blockSize];
+    out.write(HEADER);
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    write(new byte[] { (byte) b }, 0, 1);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    if (finished) {
+      throw new IOException("Stream already finished");
+    }
+    crc.update(b, off, len);
+    size += len;
+    while (len > 0) {
+      final int count = Math.min(len, blockSize - blockLength);
+      System.arraycopy(b, off, block, blockLength, count);
+      blockLength += count;
+      off += count;
+      len -= count;
+      if (blockLength == blockSize) {
+        submitBlock(false);
+      }
+    }
+  }
+
+  /**
+   * Writes the blocks that have already been compressed and flushes the underlying stream.
+   *
+   * <p> The current (incomplete) block is not compressed, flushing doesn't affect the compression ratio.
+   */
+  @Override
+  public void flush() throws IOException {
+    while (!pending.isEmpty() && pending.peekFirst().isDone()) {
+      writeNextBlock();
+    }
+    out.flush();
+  }
+
+  /**
+   * Compresses the remaining data and writes the gzip trailer without closing the underlying stream.
+   *
+   * @throws IOException if the compressed data can't be written.
+   */
+  public void finish() throws IOException {
+    if (finished) {
+      return;
+    }
+    submitBlock(true);
+    while (!pending.isEmpty()) {
+      writeNextBlock();
+    }
+    writeInt((int) crc.getValue());
+    writeInt((int) size);
+    finished = true;
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      finish();
+    } finally {
+      pending.forEach(f -> f.cancel(true));
+      out.close();
+    }
+  }
+
+  private void submitBlock(boolean last) throws IOException {
+    final byte[] input = block;
+    final int length = blockLength;
+    final byte[] blockDictionary = dictionary;
+    pending.addLast(AsyncUtil.async(() -> deflate(input, length, blockDictionary, last)));
+    if (!last) {
+      dictionary = Arrays.copyOfRange(input, length - DICTIONARY_SIZE, length);
+      block = new byte[blockSize];
+      blockLength = 0;
+    }
+    while (pending.size() > maxPendingBlocks || (!pending.isEmpty() && pending.peekFirst().isDone())) {
+      writeNextBlock();
+    }
+  }
+
+  private void writeNextBlock() throws IOException {
+    try {
+      out.write(pending.removeFirst().get());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while compressing", e);
+    } catch (ExecutionException e) {
+      throw new IOException("Error while compressing: " + e.getCause().getMessage(), e.getCause());
+    }
+  }
+
+  private void writeInt(int value) throws IOException {
+    out.write(value & 0xff);
+    out.write((value >> 8) & 0xff);
+    out.write((value >> 16) & 0xff);
+    out.write((value >> 24) & 0xff);
+  }
+
+  private byte[] deflate(byte[] input, int length, byte[] blockDictionary, boolean last) {
+    final Deflater deflater = new Deflater(level, true);
+    try {
+      if (blockDictionary != null) {
+        deflater.setDictionary(blockDictionary);
+      }
+      deflater.setInput(input, 0, length);
+      final ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 2 + 64);
+      final byte[] buffer = new byte[BUFFER_SIZE];
+      if (last) {
+        deflater.finish();
+        while (!deflater.finished()) {
+          compressed.write(buffer, 0, deflater.deflate(buffer));
+        }
+      } else {
+        int count;
+        do {
+          count = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+          compressed.write(buffer, 0, count);
+        } while (count == buffer.length);
+      }
+      return compressed.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+}
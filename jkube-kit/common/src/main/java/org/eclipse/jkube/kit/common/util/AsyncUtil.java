@@ -13,21 +13,131 @@
  */
 package org.eclipse.jkube.kit.common.util;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+/**
+ * Utilities to run tasks asynchronously.
+ *
+ * <p> Which executor to use:
+ * <ul>
+ *   <li>{@link #async(Callable)} (and {@link #await(Supplier)}) run in a JVM-wide bounded pool that queues tasks.
+ *   It's meant for short-lived leaf tasks (parsing, validating, compressing, downloading) that don't wait for other
+ *   tasks submitted to the same pool.</li>
+ *   <li>{@link #asyncInNewThread(String, Callable)} runs in a dedicated thread. It's meant for long-running tasks
+ *   (e.g. forwarders that run for the whole session) that would otherwise hold a pool thread indefinitely.</li>
+ *   <li>{@link #newExecutorService(String, int, boolean)} creates the build-scoped executor owned by the service hub.
+ *   It runs tasks in the submitting thread when it's saturated, so it's meant for tasks that wait for other tasks
+ *   (e.g. image builds and the Jib steps they spawn).</li>
+ * </ul>
+ */
 public class AsyncUtil {
 
+  /**
+   * Default maximum number of threads for the executors created by {@link #newExecutorService(String, int, boolean)}.
+   */
+  public static final int DEFAULT_MAX_THREADS = Math.max(16, Runtime.getRuntime().availableProcessors() * 4);
+
+  private static final long KEEP_ALIVE_SECONDS = 60L;
+  private static final long AWAIT_POLL_MILLIS = 100L;
+
   private AsyncUtil() {}
 
   // Initialization on demand
   private static class ExecutorServiceHolder {
-    public static final ExecutorService INSTANCE = Executors.newCachedThreadPool();
+    public static final ExecutorService INSTANCE = newQueueingExecutorService("jkube-async", DEFAULT_MAX_THREADS);
+  }
+
+  /**
+   * Creates a bounded executor service with named daemon threads that queues the tasks submitted while all of its
+   * threads are busy.
+   *
+   * <p> Threads are created on demand (up to <code>maxThreads</code>) and released after being idle for a minute.
+   * Tasks are never run by the submitting thread, so they must not wait for other tasks submitted to the same
+   * executor.
+   *
+   * @param name the prefix for the names of the threads.
+   * @param maxThreads the maximum number of threads.
+   * @return the new executor service, it's up to the caller to shut it down.
+   */
+  static ExecutorService newQueueingExecutorService(String name, int maxThreads) {
+    final int threads = Math.max(1, maxThreads);
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+      new LinkedBlockingQueue<>(), namedDaemonThreadFactory(name));
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /**
+   * Creates a bounded executor service with named daemon threads.
+   *
+   * <p> Threads are created on demand and released after being idle for a minute. Once the maximum number of threads
+   * is reached, tasks are run by the submitting thread instead of being queued, so tasks that wait for other tasks
+   * submitted to the same executor (e.g. Jib build steps) can't deadlock it.
+   *
+   * <p> If <code>virtualThreads</code> is enabled and the JVM supports them (JDK 21+), each task is run in a new named
+   * virtual thread instead (<code>maxThreads</code> is ignored), otherwise it falls back to platform threads.
+   *
+   * @param name the prefix for the names of the threads.
+   * @param maxThreads the maximum number of platform threads.
+   * @param virtualThreads whether to use virtual threads if available.
+   * @return the new executor service, it's up to the caller to shut it down.
+   */
+  public static ExecutorService newExecutorService(String name, int maxThreads, boolean virtualThreads) {
+    if (virtualThreads) {
+      final ExecutorService virtualThreadExecutor = newVirtualThreadPerTaskExecutor(name);
+      if (virtualThreadExecutor != null) {
+        return virtualThreadExecutor;
+      }
+    }
+    return new ThreadPoolExecutor(0, Math.max(1, maxThreads), KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+      new SynchronousQueue<>(), namedDaemonThreadFactory(name), new ThreadPoolExecutor.CallerRunsPolicy());
+  }
+
+  private static ThreadFactory namedDaemonThreadFactory(String name) {
+    final AtomicInteger count = new AtomicInteger();
+    final ThreadFactory defaultThreadFactory = Executors.defaultThreadFactory();
+    return runnable -> {
+      final Thread thread = defaultThreadFactory.newThread(runnable);
+      thread.setName(name + "-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  // Reflection so that the kit can still be compiled and run with Java 8
+  private static ExecutorService newVirtualThreadPerTaskExecutor(String name) {
+    try {
+      final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      final Object builder = builderClass.getMethod("name", String.class, long.class)
+        .invoke(Thread.class.getMethod("ofVirtual").invoke(null), name + "-", 1L);
+      final ThreadFactory threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+      return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+        .invoke(null, threadFactory);
+    } catch (ReflectiveOperationException | RuntimeException ex) {
+      return null;
+    }
   }
 
   public static <T> CompletableFuture<T> async(Callable<T> callable) {
@@ -47,13 +157,177 @@ public class AsyncUtil {
     return future;
   }
 
+  /**
+   * Runs the provided callable in a new dedicated daemon thread instead of the shared pool.
+   *
+   * <p> Meant for long-running tasks, cancelling the returned future interrupts the thread.
+   *
+   * @param name the name of the thread.
+   * @param callable the task to run.
+   * @param <T> the type of the task result.
+   * @return a future that completes with the result of the task.
+   */
+  public static <T> CompletableFuture<T> asyncInNewThread(String name, Callable<T> callable) {
+    final CompletableFuture<T> future = new CompletableFuture<>();
+    final Thread thread = new Thread(() -> {
+      try {
+        future.complete(callable.call());
+      } catch (Exception ex) {
+        future.completeExceptionally(ex);
+      }
+    }, name);
+    thread.setDaemon(true);
+    future.whenComplete((result, throwable) -> {
+      if (future.isCancelled()) {
+        thread.interrupt();
+      }
+    });
+    thread.start();
+    return future;
+  }
+
+  /**
+   * Waits for all the provided futures to complete and returns their results in the same order.
+   *
+   * <p> Futures are joined in order, the failure of the first failed future (in list order) is propagated.
+   * {@link IOException}s and unchecked exceptions are rethrown as-is, any other exception is wrapped
+   * in an {@link IOException}.
+   *
+   * @param futures the futures to join.
+   * @param <T> the type of the future results.
+   * @return the list of results.
+   * @throws IOException if any of the futures failed with an IOException (or a checked exception).
+   */
+  public static <T> List<T> joinAll(List<CompletableFuture<T>> futures) throws IOException {
+    final List<T> ret = new ArrayList<>(futures.size());
+    for (CompletableFuture<T> future : futures) {
+      try {
+        ret.add(future.get());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("Interrupted while waiting for asynchronous tasks", e);
+      } catch (ExecutionException e) {
+        final Throwable cause = e.getCause();
+        if (cause instanceof IOException) {
+          throw (IOException) cause;
+        } else if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        } else if (cause instanceof Error) {
+          throw (Error) cause;
+        }
+        throw new IOException(cause);
+      }
+    }
+    return ret;
+  }
+
+  /**
+   * Returns a function that, given a predicate, polls the provided supplier in the background until the supplied value
+   * matches the predicate.
+   *
+   * <p> Polling stops as soon as the returned future completes, so cancelling it releases the polling thread.
+   *
+   * @param supplier the supplier of the values to check.
+   * @param <T> the type of the supplied values.
+   * @return the function to start polling for a predicate.
+   */
   public static <T> Function<Predicate<T>, CompletableFuture<T>> await(Supplier<T> supplier) {
-    return predicate -> async(() -> {
-      T ret;
-      while(!predicate.test(ret = supplier.get())) {
-        Thread.sleep(100L);
+    return predicate -> poll(supplier, predicate, -1L);
+  }
+
+  /**
+   * Same as {@link #await(Supplier)}, but the returned future fails with a {@link TimeoutException} (and polling stops)
+   * if the supplied value doesn't match the predicate within the provided timeout.
+   *
+   * @param supplier the supplier of the values to check.
+   * @param timeout the maximum time to wait.
+   * @param unit the time unit of the timeout.
+   * @param <T> the type of the supplied values.
+   * @return the function to start polling for a predicate.
+   */
+  public static <T> Function<Predicate<T>, CompletableFuture<T>> await(Supplier<T> supplier, long timeout, TimeUnit unit) {
+    return predicate -> poll(supplier, predicate, unit.toNanos(timeout));
+  }
+
+  private static <T> CompletableFuture<T> poll(Supplier<T> supplier, Predicate<T> predicate, long timeoutNanos) {
+    final CompletableFuture<T> future = new CompletableFuture<>();
+    final long start = System.nanoTime();
+    ExecutorServiceHolder.INSTANCE.execute(() -> {
+      try {
+        while (!future.isDone()) {
+          final T value = supplier.get();
+          if (predicate.test(value)) {
+            future.complete(value);
+          } else if (timeoutNanos >= 0 && System.nanoTime() - start >= timeoutNanos) {
+            future.completeExceptionally(new TimeoutException("Condition not met within "
+              + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + " ms"));
+          } else {
+            Thread.sleep(AWAIT_POLL_MILLIS);
+          }
+        }
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        future.completeExceptionally(ex);
+      } catch (Exception ex) {
+        future.completeExceptionally(ex);
       }
-      return ret;
     });
+    return future;
+  }
+
+  /**
+   * Returns an executor that runs the submitted tasks in the provided executor, but never more than
+   * <code>maxConcurrency</code> of them at the same time; the remaining tasks wait in a queue without holding
+   * a thread of the provided executor.
+   *
+   * @param executor the executor to run the tasks in.
+   * @param maxConcurrency the maximum number of tasks to run at the same time.
+   * @return the concurrency limited executor.
+   */
+  public static Executor limitConcurrency(Executor executor, int maxConcurrency) {
+    return new ConcurrencyLimitedExecutor(executor, maxConcurrency);
+  }
+
+  private static final class ConcurrencyLimitedExecutor implements Executor {
+
+    private final Executor delegate;
+    private final Semaphore permits;
+    private final Queue<Runnable> pending;
+
+    private ConcurrencyLimitedExecutor(Executor delegate, int maxConcurrency) {
+      this.delegate = delegate;
+      this.permits = new Semaphore(Math.max(1, maxConcurrency));
+      this.pending = new ConcurrentLinkedQueue<>();
+    }
+
+    @Override
+    public void execute(Runnable command) {
+      pending.add(command);
+      drain();
+    }
+
+    // Both submitters and finishing tasks drain the queue, so a task can't be left behind while a permit is free
+    private void drain() {
+      while (!pending.isEmpty() && permits.tryAcquire()) {
+        final Runnable next = pending.poll();
+        if (next == null) {
+          permits.release();
+          continue;
+        }
+        try {
+          delegate.execute(() -> {
+            try {
+              next.run();
+            } finally {
+              permits.release();
+              drain();
+            }
+          });
+        } catch (RejectedExecutionException ex) {
+          permits.release();
+          throw ex;
+        }
+      }
+    }
   }
 }
@@ -13,20 +13,45 @@
  */
 package org.eclipse.jkube.kit.common.util;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 
+import org.apache.commons.io.IOUtils;
+
 /**
  * For java 7 or lower version, java.util doesn't provide a base64 encode/decode way
  */
 public class Base64Util {
 
+    private static final int BUFFER_SIZE = 8192;
+
     private Base64Util() { }
 
     public static String encodeToString(byte[] bytes) {
         return new String(Base64.getEncoder().encode(bytes));
     }
 
+    /**
+     * Encodes the provided stream using a bounded buffer, the raw content is never fully loaded into memory.
+     *
+     * <p> The stream is not closed.
+     *
+     * @param inputStream the stream to encode.
+     * @return the Base64 encoded content of the stream.
+     * @throws IOException if the stream can't be read.
+     */
+    public static String encodeToString(InputStream inputStream) throws IOException {
+        final ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        try (OutputStream encoder = Base64.getEncoder().wrap(encoded)) {
+            IOUtils.copy(inputStream, encoder, BUFFER_SIZE);
+        }
+        return encoded.toString(StandardCharsets.US_ASCII.name());
+    }
+
     public static byte[] encode(byte[] bytes) {
         return encodeToString(bytes).getBytes(StandardCharsets.UTF_8);
     }
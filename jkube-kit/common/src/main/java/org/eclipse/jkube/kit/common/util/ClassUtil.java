@@ -60,7 +60,7 @@ public class ClassUtil {
         return ret;
     }
 
-    private static ClassLoader[] mergeClassLoaders(List<ClassLoader> additionalClassLoaders) {
+    static ClassLoader[] mergeClassLoaders(List<ClassLoader> additionalClassLoaders) {
         ClassLoader[] classLoaders;
 
         if (additionalClassLoaders != null && !additionalClassLoaders.isEmpty()) {
@@ -28,6 +28,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -231,19 +232,29 @@ public class EnvUtil {
      * @return the extracted map or null if no such map exists
      */
     public static Map<String, String> extractFromPropertiesAsMap(String prefix, Properties properties) {
-        Map<String, String> ret = new HashMap<>();
-        Enumeration names = properties.propertyNames();
-        String prefixP = prefix + ".";
-        while (names.hasMoreElements()) {
-            String propName = (String) names.nextElement();
-            if (propMatchesPrefix(prefixP, propName)) {
-                String mapKey = propName.substring(prefixP.length());
-                if (PROPERTY_COMBINE_POLICY_SUFFIX.equals(mapKey)) {
-                    continue;
-                }
+        return toMap(prefix + ".", propertiesWithPrefix(prefix + ".", properties));
+    }
+
+    /**
+     * Same as {@link #extractFromPropertiesAsMap(String, Properties)} but using an indexed snapshot of the
+     * properties, which avoids scanning all the properties for each prefix.
+     *
+     * @param prefix     prefix which specifies the part which should be extracted as map
+     * @param properties indexed properties to extract from
+     * @return the extracted map or null if no such map exists
+     */
+    public static Map<String, String> extractFromPropertiesAsMap(String prefix, PropertyPrefixIndex properties) {
+        return toMap(prefix + ".", properties.withPrefix(prefix + "."));
+    }
 
-                ret.put(mapKey, properties.getProperty(propName));
+    private static Map<String, String> toMap(String prefixP, Map<String, String> properties) {
+        Map<String, String> ret = new HashMap<>();
+        for (Map.Entry<String, String> property : properties.entrySet()) {
+            String mapKey = property.getKey().substring(prefixP.length());
+            if (PROPERTY_COMBINE_POLICY_SUFFIX.equals(mapKey)) {
+                continue;
             }
+            ret.put(mapKey, property.getValue());
         }
         return ret.size() > 0 ? ret : null;
     }
@@ -261,26 +272,37 @@ public class EnvUtil {
      * @return parsed list or null if no element with prefixes exists
      */
     public static List<String> extractFromPropertiesAsList(String prefix, Properties properties) {
+        return toList(prefix + ".", propertiesWithPrefix(prefix + ".", properties));
+    }
+
+    /**
+     * Same as {@link #extractFromPropertiesAsList(String, Properties)} but using an indexed snapshot of the
+     * properties, which avoids scanning all the properties for each prefix.
+     *
+     * @param prefix     for selecting the properties from which the list should be extracted
+     * @param properties indexed properties from which to extract from
+     * @return parsed list or null if no element with prefixes exists
+     */
+    public static List<String> extractFromPropertiesAsList(String prefix, PropertyPrefixIndex properties) {
+        return toList(prefix + ".", properties.withPrefix(prefix + "."));
+    }
+
+    private static List<String> toList(String prefixP, Map<String, String> properties) {
         TreeMap<Integer, String> orderedMap = new TreeMap<>();
         List<String> rest = new ArrayList<>();
-        Enumeration names = properties.propertyNames();
-        String prefixP = prefix + ".";
-        while (names.hasMoreElements()) {
-            String key = (String) names.nextElement();
-            if (propMatchesPrefix(prefixP, key)) {
-                String index = key.substring(prefixP.length());
+        for (Map.Entry<String, String> property : properties.entrySet()) {
+            String index = property.getKey().substring(prefixP.length());
 
-                if (PROPERTY_COMBINE_POLICY_SUFFIX.equals(index)) {
-                    continue;
-                }
+            if (PROPERTY_COMBINE_POLICY_SUFFIX.equals(index)) {
+                continue;
+            }
 
-                String value = properties.getProperty(key);
-                try {
-                    Integer nrIndex = Integer.parseInt(index);
-                    orderedMap.put(nrIndex, value);
-                } catch (NumberFormatException exp) {
-                    rest.add(value);
-                }
+            String value = property.getValue();
+            try {
+                Integer nrIndex = Integer.parseInt(index);
+                orderedMap.put(nrIndex, value);
+            } catch (NumberFormatException exp) {
+                rest.add(value);
             }
         }
         List<String> ret = new ArrayList<>(orderedMap.values());
@@ -288,6 +310,18 @@ public class EnvUtil {
         return !ret.isEmpty() ? ret : null;
     }
 
+    private static Map<String, String> propertiesWithPrefix(String prefixP, Properties properties) {
+        Map<String, String> ret = new LinkedHashMap<>();
+        Enumeration<?> names = properties.propertyNames();
+        while (names.hasMoreElements()) {
+            String propName = (String) names.nextElement();
+            if (propMatchesPrefix(prefixP, propName)) {
+                ret.put(propName, properties.getProperty(propName));
+            }
+        }
+        return ret;
+    }
+
     /**
      * Extract from a Maven property which is in the form ${name} the name.
      *
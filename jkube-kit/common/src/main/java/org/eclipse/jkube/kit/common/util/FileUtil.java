@@ -31,11 +31,15 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
+import static java.nio.file.StandardCopyOption.COPY_ATTRIBUTES;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
 /**
@@ -98,6 +102,20 @@ public class FileUtil {
     }
 
     public static void downloadRemotes(final File outputDirectory, List<String> remotes, KitLogger log) {
+        downloadRemotes(outputDirectory, remotes, null, false, log);
+    }
+
+    /**
+     * Downloads the provided remote resources (concurrently) into the output directory.
+     *
+     * @param outputDirectory directory where the remote resources are downloaded
+     * @param remotes URLs of the remote resources
+     * @param cacheDirectory local cache directory for the remote resources, if null, resources aren't cached
+     * @param offline if true, cached copies of the remote resources are used without revalidation
+     * @param log logger
+     */
+    public static void downloadRemotes(
+        final File outputDirectory, List<String> remotes, File cacheDirectory, boolean offline, KitLogger log) {
 
         if (!outputDirectory.exists()) {
             try {
@@ -107,7 +125,7 @@ public class FileUtil {
             }
         }
 
-        remotes.stream()
+        final List<URL> urls = remotes.stream()
                 .map(remote -> {
                     try {
                         return new URL(remote);
@@ -115,13 +133,24 @@ public class FileUtil {
                         throw new IllegalArgumentException(e);
                     }
                 })
-                .forEach(url -> {
-                    try {
-                        IoUtil.download(log, url, new File(outputDirectory, getOutputName(url)));
-                    } catch (IOException e) {
-                        throw new IllegalArgumentException(e);
+                .collect(Collectors.toList());
+        try (RemoteResourceCache cache = cacheDirectory != null ? new RemoteResourceCache(cacheDirectory, offline, log) : null) {
+            final List<CompletableFuture<Void>> downloads = new ArrayList<>();
+            for (URL url : urls) {
+                final File target = new File(outputDirectory, getOutputName(url));
+                downloads.add(AsyncUtil.async(() -> {
+                    if (cache != null) {
+                        cache.download(url, target);
+                    } else {
+                        IoUtil.download(log, url, target);
                     }
-                });
+                    return null;
+                }));
+            }
+            AsyncUtil.joinAll(downloads);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
     }
 
     private static String getOutputName(URL url) {
@@ -204,6 +233,73 @@ public class FileUtil {
         Files.copy(sourcePath, targetPath, REPLACE_EXISTING);
     }
 
+    /**
+     * Stages the source file at the target location (e.g. to assemble a build context).
+     *
+     * <p> The target is created as a hard link to the source or, if the link can't be created (e.g. different
+     * file stores), as a copy preserving the file attributes. Targets which already link to the source, or copies
+     * with the same size and modification time, are left untouched.
+     *
+     * <p> Since the target might share its content and attributes with the source, staged files are read-only:
+     * changing their content or permissions in place would change the source file too. Writers must delete the
+     * staged file before writing it, or call {@link #unstage(File)} before modifying it.
+     *
+     * @param sourceFile the file to stage.
+     * @param targetFile the staged file.
+     * @throws IOException if the file can't be staged.
+     */
+    public static void stage(File sourceFile, File targetFile) throws IOException {
+        final Path source = sourceFile.toPath().toRealPath();
+        final Path target = targetFile.getAbsoluteFile().toPath();
+        final BasicFileAttributes sourceAttributes = Files.readAttributes(source, BasicFileAttributes.class);
+        if (!sourceAttributes.isRegularFile()) {
+            copy(source, target);
+            return;
+        }
+        if (isStaged(source, sourceAttributes, target)) {
+            return;
+        }
+        Files.deleteIfExists(target);
+        try {
+            Files.createLink(target, source);
+        } catch (IOException | UnsupportedOperationException | SecurityException e) {
+            Files.copy(source, target, REPLACE_EXISTING, COPY_ATTRIBUTES);
+        }
+    }
+
+    /**
+     * Replaces the staged file with an independent copy of its content so that it can be modified in place without
+     * affecting the source it was staged from.
+     *
+     * @param stagedFile the file previously staged with {@link #stage(File, File)}.
+     * @throws IOException if the staged file can't be replaced.
+     */
+    public static void unstage(File stagedFile) throws IOException {
+        final Path staged = stagedFile.getAbsoluteFile().toPath();
+        if (!Files.isRegularFile(staged, NOFOLLOW_LINKS)) {
+            return;
+        }
+        final Path copy = Files.createTempFile(staged.getParent(), staged.getFileName().toString(), ".unstage");
+        try {
+            Files.copy(staged, copy, REPLACE_EXISTING, COPY_ATTRIBUTES);
+            Files.move(copy, staged, REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(copy);
+        }
+    }
+
+    private static boolean isStaged(Path source, BasicFileAttributes sourceAttributes, Path target) throws IOException {
+        if (!Files.isRegularFile(target, NOFOLLOW_LINKS)) {
+            return false;
+        }
+        if (Files.isSameFile(source, target)) {
+            return true;
+        }
+        final BasicFileAttributes targetAttributes = Files.readAttributes(target, BasicFileAttributes.class, NOFOLLOW_LINKS);
+        return targetAttributes.size() == sourceAttributes.size() &&
+            targetAttributes.lastModifiedTime().equals(sourceAttributes.lastModifiedTime());
+    }
+
     public static void copyDirectoryIfNotExists(File sourceDir, File targetDir) throws IOException {
         if (targetDir.exists() && targetDir.isDirectory() && !isDirEmpty(targetDir.toPath())) {
             return;
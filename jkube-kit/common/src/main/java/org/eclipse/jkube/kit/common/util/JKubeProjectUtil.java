@@ -21,6 +21,9 @@ import org.eclipse.jkube.kit.common.Plugin;
 import java.io.File;
 import java.io.IOException;
 import java.net.URLClassLoader;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -30,6 +33,8 @@ import java.util.function.Predicate;
 public class JKubeProjectUtil {
 
     public static final int MAX_RESOURCE_NAME_LENGTH = 63;
+    public static final String OUTPUT_TIMESTAMP_PROPERTY = "project.build.outputTimestamp";
+    public static final String SOURCE_DATE_EPOCH = "SOURCE_DATE_EPOCH";
 
     private JKubeProjectUtil() { }
 
@@ -186,6 +191,40 @@ public class JKubeProjectUtil {
     return value;
   }
 
+  /**
+   * Returns the timestamp to use for reproducible builds.
+   *
+   * <p> The timestamp is taken from the <code>project.build.outputTimestamp</code> property (ISO-8601 date or seconds
+   * since the epoch, a single character value disables it) or, if not set, from the <code>SOURCE_DATE_EPOCH</code>
+   * environment variable (seconds since the epoch).
+   *
+   * @param project the project to get the property from.
+   * @return the timestamp or empty if reproducible builds aren't enabled.
+   */
+  public static Optional<Instant> getOutputTimestamp(JavaProject project) {
+    final String outputTimestamp = project == null ? null : getProperty(OUTPUT_TIMESTAMP_PROPERTY, project);
+    if (StringUtils.isNotBlank(outputTimestamp)) {
+      return parseTimestamp(outputTimestamp.trim());
+    }
+    return Optional.ofNullable(EnvUtil.getEnvVarOrSystemProperty(SOURCE_DATE_EPOCH, null))
+      .filter(StringUtils::isNotBlank)
+      .flatMap(sourceDateEpoch -> parseTimestamp(sourceDateEpoch.trim()));
+  }
+
+  private static Optional<Instant> parseTimestamp(String timestamp) {
+    if (StringUtils.isNumeric(timestamp)) {
+      return Optional.of(Instant.ofEpochSecond(Long.parseLong(timestamp)));
+    }
+    if (timestamp.length() < 2) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(OffsetDateTime.parse(timestamp).toInstant());
+    } catch (DateTimeParseException ex) {
+      throw new IllegalArgumentException("Invalid output timestamp: " + timestamp, ex);
+    }
+  }
+
   public static File resolveArtifact(JavaProject project, String groupId, String artifactId, String version, String type) {
     File artifact = project.getDependencies().stream()
         .filter(d -> d.getGroupId().equals(groupId)
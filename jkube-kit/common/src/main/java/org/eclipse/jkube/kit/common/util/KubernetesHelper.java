@@ -703,6 +703,27 @@ public class KubernetesHelper {
     }
 
     public static File[] listResourceFragments(List<String> remotes, KitLogger log, File... resourceDirs) {
+        return listResourceFragments(remotes, null, false, log, resourceDirs);
+    }
+
+    /**
+     * List the resource fragments in the provided directories and the (downloaded) remote resource fragments.
+     *
+     * @param remotes URLs of the remote resource fragments
+     * @param remotesCacheDir local cache directory for the remote fragments, if null, remote fragments aren't cached
+     * @param offline if true, cached copies of the remote fragments are used without revalidation
+     * @param log logger
+     * @param resourceDirs directories containing resource fragments
+     * @return the resource fragment files
+     */
+    public static File[] listResourceFragments(
+        List<String> remotes, File remotesCacheDir, boolean offline, KitLogger log, List<File> resourceDirs) {
+        return listResourceFragments(remotes, remotesCacheDir, offline, log,
+            resourceDirs.stream().filter(Objects::nonNull).toArray(File[]::new));
+    }
+
+    private static File[] listResourceFragments(
+        List<String> remotes, File remotesCacheDir, boolean offline, KitLogger log, File... resourceDirs) {
         final List<File> resourceFiles = new ArrayList<>();
         for (File resourceDir : resourceDirs) {
             final File[] resourceFragments = listResourceFragments(resourceDir);
@@ -712,7 +733,7 @@ public class KubernetesHelper {
         }
 
         if(remotes != null) {
-            File[] remoteResourceFiles = listRemoteResourceFragments(remotes, log);
+            File[] remoteResourceFiles = listRemoteResourceFragments(remotes, remotesCacheDir, offline, log);
             if (remoteResourceFiles.length > 0) {
                 Collections.addAll(resourceFiles, remoteResourceFiles);
             }
@@ -727,10 +748,11 @@ public class KubernetesHelper {
         return resourceDir.listFiles((File dir, String name) -> FILENAME_PATTERN.matcher(name).matches() && !PROFILES_PATTERN.matcher(name).matches());
     }
 
-    private static File[] listRemoteResourceFragments(List<String> remotes, KitLogger log) {
+    private static File[] listRemoteResourceFragments(
+        List<String> remotes, File remotesCacheDir, boolean offline, KitLogger log) {
         if (!remotes.isEmpty()) {
             final File remoteResources = FileUtil.createTempDirectory();
-            FileUtil.downloadRemotes(remoteResources, remotes, log);
+            FileUtil.downloadRemotes(remoteResources, remotes, remotesCacheDir, offline, log);
 
             if (remoteResources.isDirectory()) {
                 return remoteResources.listFiles();
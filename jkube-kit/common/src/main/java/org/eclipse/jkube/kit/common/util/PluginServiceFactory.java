@@ -13,18 +13,26 @@
  */
 package org.eclipse.jkube.kit.common.util;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.io.LineNumberReader;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -37,10 +45,16 @@ import java.util.stream.Stream;
  *   com.example.MyProjectLabelEnricher
  *   !org.eclipse.jkube.maven.jkube.enhancer.DefaultProjectLabelEnricher
  *   com.example.AnotherEnricher,50
+ *   com.example.NamedEnricher,60,name=example-named
  * }</pre>
  *
  * If a line starts with <code>!</code> it is removed if it has been added previously.
  * The optional second numeric value is the order in which the services are returned.
+ * The optional <code>name=</code> value is the name of the service, which allows to select services by name
+ * (see {@link LazyService#getName()}) without instantiating them.
+ *
+ * <p> Descriptors are read only once per classloader and service constructors are resolved only once per
+ * service class, so that creating services is cheap for repeated (and concurrent) invocations.
  *
  */
 public final class PluginServiceFactory<C> {
@@ -48,6 +62,15 @@ public final class PluginServiceFactory<C> {
     private static final int DEFAULT_ORDER = 100;
     // Matches comment lines and empty lines. these are skipped
     private static final Pattern COMMENT_LINE_PATTERN = Pattern.compile("^(\\s*#.*|\\s*)$");
+    // Service definition lines of the descriptors available in each classloader, by descriptor path and URL
+    private static final Map<ClassLoader, Map<String, Map<String, List<String>>>> DESCRIPTORS = new WeakHashMap<>();
+    // Service factories for each service class, by constructor parameter type
+    private static final ClassValue<Map<Class<?>, MethodHandle>> FACTORIES = new ClassValue<Map<Class<?>, MethodHandle>>() {
+        @Override
+        protected Map<Class<?>, MethodHandle> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
     private final List<ClassLoader> additionalClassLoaders;
 
     // Parameters for service constructors
@@ -73,9 +96,27 @@ public final class PluginServiceFactory<C> {
      * @return an ordered list of created services or an empty list.
      */
     public <T> List<T> createServiceObjects(String... descriptorPaths) {
+        final List<T> ret = new ArrayList<>();
+        for (LazyService<T> service : this.<T>createLazyServiceObjects(descriptorPaths)) {
+            ret.add(service.get());
+        }
+        return ret;
+    }
+
+    /**
+     * Same as {@link #createServiceObjects(String...)} but the services are not instantiated.
+     *
+     * <p> Each of the returned entries provides the service class and instantiates the service (only once) the
+     * first time {@link LazyService#get()} is invoked.
+     *
+     * @param descriptorPaths a list of resource paths which are handle in the given order.
+     * @param <T> type of the service objects to create
+     * @return an ordered list of lazy services or an empty list.
+     */
+    public <T> List<LazyService<T>> createLazyServiceObjects(String... descriptorPaths) {
         try {
             ServiceEntry.initDefaultOrder();
-            TreeMap<ServiceEntry,T> serviceMap = new TreeMap<>();
+            TreeMap<ServiceEntry, LazyService<T>> serviceMap = new TreeMap<>();
             for (String descriptor : descriptorPaths) {
                 readServiceDefinitions(serviceMap, descriptor);
             }
@@ -85,66 +126,145 @@ public final class PluginServiceFactory<C> {
         }
     }
 
-    private <T> void readServiceDefinitions(Map<ServiceEntry, T> extractorMap, String defPath) {
-        try {
-            for (String url : ClassUtil.getResources(defPath, additionalClassLoaders)) {
-                readServiceDefinitionFromUrl(extractorMap, url);
-            }
-        } catch (IOException e) {
-            throw new IllegalStateException("Cannot load service from " + defPath + ": " + e, e);
+    private <T> void readServiceDefinitions(Map<ServiceEntry, LazyService<T>> extractorMap, String defPath) {
+        final Map<String, List<String>> descriptors = new LinkedHashMap<>();
+        for (ClassLoader classLoader : ClassUtil.mergeClassLoaders(additionalClassLoaders)) {
+            descriptors.putAll(getDescriptors(classLoader, defPath));
+        }
+        for (Map.Entry<String, List<String>> descriptor : descriptors.entrySet()) {
+            readServiceDefinition(extractorMap, descriptor.getKey(), descriptor.getValue());
         }
     }
 
-    private <T> void readServiceDefinitionFromUrl(Map<ServiceEntry, T> extractorMap, String url) {
-        String line = null;
-        try (LineNumberReader reader = new LineNumberReader(new InputStreamReader(new URL(url).openStream(), StandardCharsets.UTF_8))) {
-            line = reader.readLine();
-            while (line != null) {
+    private <T> void readServiceDefinition(Map<ServiceEntry, LazyService<T>> extractorMap, String url, List<String> lines) {
+        for (String line : lines) {
+            try {
                 createOrRemoveService(extractorMap, line);
-                line = reader.readLine();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot load service " + line + " defined in " +
+                        url + " : " + e + ". Aborting", e);
             }
-        } catch (ReflectiveOperationException|IOException e) {
-            throw new IllegalStateException("Cannot load service " + line + " defined in " +
-                    url + " : " + e + ". Aborting", e);
         }
     }
 
-
-    private synchronized  <T> void createOrRemoveService(Map<ServiceEntry, T> serviceMap, String line)
+    private <T> void createOrRemoveService(Map<ServiceEntry, LazyService<T>> serviceMap, String line)
             throws ReflectiveOperationException {
-        if (line.length() > 0 && !COMMENT_LINE_PATTERN.matcher(line).matches()) {
-            ServiceEntry entry = new ServiceEntry(line);
-            if (entry.isRemove()) {
-                // Removing is a bit complex since we need to find out
-                // the proper key since the order is part of equals/hash,
-                // so we can't fetch/remove it directly
-                Set<ServiceEntry> toRemove = new HashSet<>();
-                for (ServiceEntry key : serviceMap.keySet()) {
-                    if (key.getClassName().equals(entry.getClassName())) {
-                        toRemove.add(key);
-                    }
+        ServiceEntry entry = new ServiceEntry(line);
+        if (entry.isRemove()) {
+            // Removing is a bit complex since we need to find out
+            // the proper key since the order is part of equals/hash,
+            // so we can't fetch/remove it directly
+            Set<ServiceEntry> toRemove = new HashSet<>();
+            for (ServiceEntry key : serviceMap.keySet()) {
+                if (key.getClassName().equals(entry.getClassName())) {
+                    toRemove.add(key);
                 }
-                for (ServiceEntry key : toRemove) {
-                    serviceMap.remove(key);
-                }
-            } else {
-                Class<T> clazz = ClassUtil.classForName(entry.getClassName(), additionalClassLoaders);
-                if (clazz == null) {
-                    throw new ClassNotFoundException("Class " + entry.getClassName() + " could not be found");
+            }
+            for (ServiceEntry key : toRemove) {
+                serviceMap.remove(key);
+            }
+        } else {
+            Class<T> clazz = ClassUtil.classForName(entry.getClassName(), additionalClassLoaders);
+            if (clazz == null) {
+                throw new ClassNotFoundException("Class " + entry.getClassName() + " could not be found");
+            }
+            final MethodHandle factory = findFactory(clazz);
+            serviceMap.put(entry, new LazyService<>(clazz, entry.getName(), () -> newInstance(clazz, factory)));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T newInstance(Class<T> clazz, MethodHandle factory) {
+        try {
+            return constructorParameter == null ?
+              (T) (Object) factory.invokeExact() : (T) (Object) factory.invokeExact((Object) constructorParameter);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot load service " + clazz.getName() + " : " + e + ". Aborting", e);
+        }
+    }
+
+    /**
+     * Returns the (service definition) lines of the descriptors with the provided path available in the
+     * provided classloader, mapped by descriptor URL.
+     *
+     * <p> Descriptors are read only once per classloader.
+     */
+    private static Map<String, List<String>> getDescriptors(ClassLoader classLoader, String defPath) {
+        Map<String, Map<String, List<String>>> classLoaderDescriptors;
+        synchronized (DESCRIPTORS) {
+            classLoaderDescriptors = DESCRIPTORS.computeIfAbsent(classLoader, cl -> new ConcurrentHashMap<>());
+        }
+        Map<String, List<String>> descriptors = classLoaderDescriptors.get(defPath);
+        if (descriptors == null) {
+            descriptors = readDescriptors(classLoader, defPath);
+            classLoaderDescriptors.putIfAbsent(defPath, descriptors);
+        }
+        return descriptors;
+    }
+
+    private static Map<String, List<String>> readDescriptors(ClassLoader classLoader, String defPath) {
+        final Map<String, List<String>> descriptors = new LinkedHashMap<>();
+        try {
+            final Enumeration<URL> urls = classLoader.getResources(defPath);
+            while (urls.hasMoreElements()) {
+                final URL url = urls.nextElement();
+                descriptors.put(url.toExternalForm(), readDescriptor(url));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot load service from " + defPath + ": " + e, e);
+        }
+        return Collections.unmodifiableMap(descriptors);
+    }
+
+    private static List<String> readDescriptor(URL url) {
+        final List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            while (line != null) {
+                if (line.length() > 0 && !COMMENT_LINE_PATTERN.matcher(line).matches()) {
+                    lines.add(line);
                 }
-                final Constructor<T> constructor = findConstructor(clazz);
-                final T service = constructorParameter == null ?
-                  constructor.newInstance() : constructor.newInstance(constructorParameter);
-                serviceMap.put(entry, service);
+                line = reader.readLine();
             }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot load service defined in " + url + " : " + e + ". Aborting", e);
         }
+        return Collections.unmodifiableList(lines);
     }
 
     public void addAdditionalClassLoader(ClassLoader classLoader) {
         this.additionalClassLoaders.add(classLoader);
     }
 
-    private <T> Constructor<T> findConstructor(Class<T> clazz) {
+    /**
+     * Returns a factory {@link MethodHandle} for the service constructor matching the constructor parameter,
+     * with a <code>()Object</code> or <code>(Object)Object</code> type.
+     *
+     * <p> Factories are resolved only once per service class and constructor parameter type.
+     */
+    private MethodHandle findFactory(Class<?> clazz) {
+        final Class<?> parameterType = constructorParameter == null ? Void.class : constructorParameter.getClass();
+        final Map<Class<?>, MethodHandle> factories = FACTORIES.get(clazz);
+        MethodHandle factory = factories.get(parameterType);
+        if (factory == null) {
+            factory = toFactory(findConstructor(clazz));
+            factories.putIfAbsent(parameterType, factory);
+        }
+        return factory;
+    }
+
+    private static MethodHandle toFactory(Constructor<?> constructor) {
+        try {
+            final MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor);
+            return handle.asType(handle.type().generic());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot load service " + constructor.getDeclaringClass().getName(), e);
+        }
+    }
+
+    private Constructor<?> findConstructor(Class<?> clazz) {
         if (constructorParameter == null) {
             try {
                 return clazz.getConstructor();
@@ -174,11 +294,53 @@ public final class PluginServiceFactory<C> {
         return interfacesList;
     }
 
+    /**
+     * A service whose instance is created (only once) on first access.
+     *
+     * @param <T> type of the service object
+     */
+    public static final class LazyService<T> {
+
+        private final Class<T> serviceClass;
+        private final String name;
+        private final LazyBuilder.VoidLazyBuilder<T> instance;
+
+        LazyService(Class<T> serviceClass, String name, Supplier<T> factory) {
+            this.serviceClass = serviceClass;
+            this.name = name;
+            this.instance = new LazyBuilder.VoidLazyBuilder<>(factory);
+        }
+
+        public Class<T> getServiceClass() {
+            return serviceClass;
+        }
+
+        /**
+         * The name of the service as declared in the service descriptor.
+         *
+         * @return the declared name of the service, or null if the descriptor doesn't declare it.
+         */
+        public String getName() {
+            return name;
+        }
+
+        public T get() {
+            return instance.get();
+        }
+
+        public boolean hasInstance() {
+            return instance.hasInstance();
+        }
+    }
+
     static class ServiceEntry implements Comparable<ServiceEntry> {
 
+        private static final String NAME_PREFIX = "name=";
+
         private final String className;
         private final boolean remove;
         private Integer order;
+        private String name;
 
         /**
          * Initialise with start value for entries without an explicit order.
@@ -190,6 +352,7 @@ public final class PluginServiceFactory<C> {
          * of a service, optional prefixed with "<code>!</code>" in which case the service is removed
          * from the default list. An order value can be appended after the classname with a comma for give an
          * indication for the ordering of services. If not given, 100 is taken for the first entry, counting up.
+         * The name of the service can be appended with a <code>name=</code> prefixed value.
          *
          * @param line line to parse
          */
@@ -202,13 +365,18 @@ public final class PluginServiceFactory<C> {
                 remove = false;
                 className = parts[0];
             }
-            if (parts.length > 1) {
-                try {
-                    order = Integer.parseInt(parts[1]);
-                } catch (NumberFormatException exp) {
-                    order = nextDefaultOrder();
+            for (int i = 1; i < parts.length; i++) {
+                if (parts[i].startsWith(NAME_PREFIX)) {
+                    name = parts[i].substring(NAME_PREFIX.length()).trim();
+                } else if (order == null) {
+                    try {
+                        order = Integer.parseInt(parts[i]);
+                    } catch (NumberFormatException exp) {
+                        order = nextDefaultOrder();
+                    }
                 }
-            } else {
+            }
+            if (order == null) {
                 order = nextDefaultOrder();
             }
         }
@@ -231,6 +399,10 @@ public final class PluginServiceFactory<C> {
             return className;
         }
 
+        private String getName() {
+            return name;
+        }
+
         private boolean isRemove() {
             return remove;
         }
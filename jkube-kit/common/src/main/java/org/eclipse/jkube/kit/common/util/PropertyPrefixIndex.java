@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.util;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Sorted index of a snapshot of {@link Properties} providing efficient prefix queries.
+ *
+ * <p> The index is built once (<code>O(n log n)</code>), each prefix query takes <code>O(log n + k)</code>
+ * where <code>k</code> is the number of matching properties, instead of scanning all the properties.
+ */
+public class PropertyPrefixIndex {
+
+  private final NavigableMap<String, String> properties;
+
+  public PropertyPrefixIndex(Properties properties) {
+    final NavigableMap<String, String> index = new TreeMap<>();
+    for (String name : properties.stringPropertyNames()) {
+      index.put(name, properties.getProperty(name));
+    }
+    this.properties = Collections.unmodifiableNavigableMap(index);
+  }
+
+  /**
+   * Returns the value of the property with the provided name.
+   *
+   * @param name the property name.
+   * @return the property value or null if not found.
+   */
+  public String getProperty(String name) {
+    return properties.get(name);
+  }
+
+  /**
+   * Returns the properties whose name starts with the provided prefix, sorted by name.
+   *
+   * @param prefix the property name prefix.
+   * @return a map with the matching property names and values, might be empty.
+   */
+  public Map<String, String> withPrefix(String prefix) {
+    final Map<String, String> ret = new LinkedHashMap<>();
+    for (Map.Entry<String, String> entry : properties.tailMap(prefix, true).entrySet()) {
+      if (!entry.getKey().startsWith(prefix)) {
+        break;
+      }
+      ret.put(entry.getKey(), entry.getValue());
+    }
+    return ret;
+  }
+}
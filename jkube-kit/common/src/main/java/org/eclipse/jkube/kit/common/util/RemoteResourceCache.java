@@ -0,0 +1,190 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.util;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.hash.Hashing;
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.HttpResponse;
+import io.fabric8.kubernetes.client.utils.HttpClientUtils;
+import org.eclipse.jkube.kit.common.KitLogger;
+
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Local cache for remote resources (e.g. remote resource fragments).
+ *
+ * <p> Each URL is stored in its own cache entry along with the <code>ETag</code> and <code>Last-Modified</code>
+ * response headers. Cached entries are revalidated with a conditional request, the content is only downloaded
+ * again if the remote resource changed. In offline mode, cached entries are served without contacting the server
+ * and resources that aren't cached fail immediately.
+ */
+public class RemoteResourceCache implements Closeable {
+
+  private static final String CONTENT = "content";
+  private static final String METADATA = "metadata.properties";
+  private static final String URL_KEY = "url";
+  private static final String ETAG = "ETag";
+  private static final String LAST_MODIFIED = "Last-Modified";
+  private static final int HTTP_NOT_MODIFIED = 304;
+  // Striped locks, downloads of the same URL are serialized with a bounded number of lock objects
+  private static final int LOCK_STRIPES = 64;
+  private static final Object[] LOCKS = new Object[LOCK_STRIPES];
+
+  static {
+    for (int i = 0; i < LOCK_STRIPES; i++) {
+      LOCKS[i] = new Object();
+    }
+  }
+
+  private final File cacheDirectory;
+  private final boolean offline;
+  private final KitLogger log;
+  private final HttpClient httpClient;
+
+  public RemoteResourceCache(File cacheDirectory, boolean offline, KitLogger log) {
+    this.cacheDirectory = cacheDirectory;
+    this.offline = offline;
+    this.log = log;
+    this.httpClient = HttpClientUtils.createHttpClient(Config.empty()).newBuilder().build();
+  }
+
+  /**
+   * Default location of the remote resource cache, shared by all the projects of the current user.
+   *
+   * @return the default cache directory.
+   */
+  public static File getDefaultCacheDirectory() {
+    return new File(System.getProperty("user.home"), String.join(File.separator, ".jkube", "cache", "remotes"));
+  }
+
+  /**
+   * Copies the content of the provided URL into the target file, the content is downloaded (or revalidated)
+   * only if required.
+   *
+   * <p> If the cache entry can't be revalidated (e.g. the server is not reachable), the cached copy is used.
+   *
+   * @param url the URL of the remote resource.
+   * @param target the file where the content of the remote resource is copied.
+   * @throws IOException if the resource can't be downloaded (or isn't cached in offline mode) and there's no cached
+   *                     copy available.
+   */
+  public void download(URL url, File target) throws IOException {
+    final String key = Hashing.sha256().hashString(url.toString(), StandardCharsets.UTF_8).toString();
+    synchronized (lockFor(key)) {
+      final Path entry = cacheDirectory.toPath().resolve(key);
+      final Path content = entry.resolve(CONTENT);
+      final boolean cached = Files.isRegularFile(content);
+      if (offline) {
+        if (!cached) {
+          throw new IOException("Offline mode, " + url + " is not cached in " + cacheDirectory.getAbsolutePath());
+        }
+        log.debug("Offline mode, using cached copy of %s", url);
+      } else {
+        try {
+          fetch(url, entry, content, cached ? readMetadata(entry) : new Properties());
+        } catch (IOException e) {
+          if (!cached) {
+            throw e;
+          }
+          log.warn("Couldn't revalidate %s, using cached copy: %s", url, e.getMessage());
+        }
+      }
+      Files.copy(content, target.toPath(), REPLACE_EXISTING);
+    }
+  }
+
+  private static Object lockFor(String key) {
+    return LOCKS[Math.floorMod(key.hashCode(), LOCK_STRIPES)];
+  }
+
+  @Override
+  public void close() {
+    httpClient.close();
+  }
+
+  private void fetch(URL url, Path entry, Path content, Properties metadata) throws IOException {
+    final HttpRequest.Builder request = httpClient.newHttpRequestBuilder().timeout(30, TimeUnit.MINUTES).url(url);
+    if (metadata.getProperty(ETAG) != null) {
+      request.header("If-None-Match", metadata.getProperty(ETAG));
+    }
+    if (metadata.getProperty(LAST_MODIFIED) != null) {
+      request.header("If-Modified-Since", metadata.getProperty(LAST_MODIFIED));
+    }
+    final HttpResponse<InputStream> response = send(url, request.build());
+    try (InputStream is = response.body()) {
+      if (response.code() == HTTP_NOT_MODIFIED) {
+        log.debug("%s not modified, using cached copy", url);
+        return;
+      }
+      if (!response.isSuccessful()) {
+        throw new IOException("Failed to download URL " + url + ": HTTP " + response.code());
+      }
+      log.debug("Downloading %s", url);
+      Files.createDirectories(entry);
+      final Path tempContent = Files.createTempFile(entry, CONTENT, ".tmp");
+      Files.copy(is, tempContent, REPLACE_EXISTING);
+      Files.move(tempContent, content, REPLACE_EXISTING);
+    }
+    final Properties newMetadata = new Properties();
+    newMetadata.setProperty(URL_KEY, url.toString());
+    response.headers(ETAG).stream().findFirst().ifPresent(v -> newMetadata.setProperty(ETAG, v));
+    response.headers(LAST_MODIFIED).stream().findFirst().ifPresent(v -> newMetadata.setProperty(LAST_MODIFIED, v));
+    writeMetadata(entry, newMetadata);
+  }
+
+  private HttpResponse<InputStream> send(URL url, HttpRequest request) throws IOException {
+    try {
+      return httpClient.sendAsync(request, InputStream.class).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Download interrupted", e);
+    } catch (ExecutionException e) {
+      throw new IOException("Failed to download URL " + url + ": " + e.getCause(), e);
+    }
+  }
+
+  private static Properties readMetadata(Path entry) throws IOException {
+    final Properties metadata = new Properties();
+    final Path metadataFile = entry.resolve(METADATA);
+    if (Files.isRegularFile(metadataFile)) {
+      try (InputStream is = Files.newInputStream(metadataFile)) {
+        metadata.load(is);
+      }
+    }
+    return metadata;
+  }
+
+  private static void writeMetadata(Path entry, Properties metadata) throws IOException {
+    final Path tempMetadata = Files.createTempFile(entry, METADATA, ".tmp");
+    try (OutputStream os = Files.newOutputStream(tempMetadata)) {
+      metadata.store(os, null);
+    }
+    Files.move(tempMetadata, entry.resolve(METADATA), REPLACE_EXISTING);
+  }
+}
@@ -22,7 +22,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
@@ -30,10 +33,12 @@ import javax.validation.Path;
 import javax.validation.metadata.ConstraintDescriptor;
 
 import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.common.util.AsyncUtil;
 import org.eclipse.jkube.kit.common.util.ResourceClassifier;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.google.gson.JsonIOException;
 import com.google.gson.JsonObject;
@@ -52,6 +57,10 @@ import com.networknt.schema.ValidationMessage;
 public class ResourceValidator {
 
     public static final String SCHEMA_JSON = "schema/validation-schema.json";
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final ObjectMapper YAML_MAPPER = new ObjectMapper(new YAMLFactory());
+    private static final Map<String, List<JsonSchema>> SCHEMA_CACHE = new ConcurrentHashMap<>();
+    private static List<ObjectNode> schemaJsons;
     private KitLogger log;
     private final File[] resources;
     private ResourceClassifier target = ResourceClassifier.KUBERNETES;
@@ -97,27 +106,40 @@ public class ResourceValidator {
      * Validates the resource descriptors as per JSON schema. If any resource is invalid it throws @{@link ConstraintViolationException} with
      * all violated constraints
      *
+     * <p> Resources are validated concurrently, JSON schemas are compiled once per resource kind and cached.
+     *
      * @return number of resources processed
      * @throws ConstraintViolationException  ConstraintViolationException
      * @throws IOException IOException
      */
     public int validate() throws IOException {
+        final List<CompletableFuture<Void>> validations = new ArrayList<>();
         for(File resource: resources) {
             if (resource.isFile() && resource.exists()) {
-                log.info("validating %s resource", resource.toString());
-                JsonNode inputSpecNode = geFileContent(resource);
-                String kind = inputSpecNode.get("kind").toString();
-                for (URL schemaFile : Collections.list(ResourceValidator.class.getClassLoader().getResources(SCHEMA_JSON))) {
-                    JsonSchema schema = getJsonSchema(schemaFile, kind);
-                    Set<ValidationMessage> errors = schema.validate(inputSpecNode);
-                    processErrors(errors, resource);
-                }
+                validations.add(AsyncUtil.async(() -> {
+                    validate(resource);
+                    return null;
+                }));
             }
         }
+        // Joined in order so that the reported failure is deterministic
+        AsyncUtil.joinAll(validations);
 
         return resources.length;
     }
 
+    private void validate(File resource) throws IOException {
+        log.info("validating %s resource", resource.toString());
+        JsonNode inputSpecNode = geFileContent(resource);
+        final JsonNode kindNode = inputSpecNode.get("kind");
+        final String kind = kindNode == null ? null : kindNode.toString();
+        checkIfKindPropertyExists(kind);
+        for (JsonSchema schema : getJsonSchemas(kind)) {
+            Set<ValidationMessage> errors = schema.validate(inputSpecNode);
+            processErrors(errors, resource);
+        }
+    }
+
     private void processErrors(Set<ValidationMessage> errors, File resource) {
         Set<ConstraintViolationImpl> constraintViolations = new HashSet<>();
         for (ValidationMessage errorMsg: errors) {
@@ -153,30 +175,50 @@ public class ResourceValidator {
         return  validationError.toString();
     }
 
-    private JsonSchema getJsonSchema(URL schemaUrl, String kind) throws IOException {
-        final JsonMetaSchema v7 = JsonMetaSchema.getV7();
-        final String defaultUri = v7.getUri();
-        JsonObject jsonSchema = fixUrlIfUnversioned(getSchemaJson(schemaUrl), defaultUri);
-        checkIfKindPropertyExists(kind);
-        getResourceProperties(kind, jsonSchema);
-        final JsonMetaSchema metaSchema = JsonMetaSchema.builder(v7.getUri(), v7)
-            .addKeywords(createNonValidationKeywordList())
-            .build();
-        return new JsonSchemaFactory.Builder()
-            .defaultMetaSchemaURI(defaultUri).addMetaSchema(metaSchema).build()
-            .getSchema(jsonSchema.toString());
+    private static List<JsonSchema> getJsonSchemas(String kind) throws IOException {
+        final String kindKey = kind.replace("\"", "").toLowerCase();
+        final List<JsonSchema> cached = SCHEMA_CACHE.get(kindKey);
+        if (cached != null) {
+            return cached;
+        }
+        final List<JsonSchema> schemas = new ArrayList<>();
+        for (ObjectNode schemaJson : getSchemaJsons()) {
+            schemas.add(getJsonSchema(schemaJson, kindKey));
+        }
+        SCHEMA_CACHE.putIfAbsent(kindKey, Collections.unmodifiableList(schemas));
+        return SCHEMA_CACHE.get(kindKey);
+    }
+
+    private static JsonSchema getJsonSchema(ObjectNode schemaJson, String kindKey) {
+        // Only top-level fields are modified, nested nodes are safely shared among all the compiled schemas
+        final ObjectNode jsonSchema = JSON_MAPPER.createObjectNode();
+        jsonSchema.setAll(schemaJson);
+        fixUrlIfUnversioned(jsonSchema, JsonMetaSchema.getV7().getUri());
+        getResourceProperties(kindKey, jsonSchema);
+        return SchemaFactoryHolder.INSTANCE.getSchema(jsonSchema);
     }
 
-    private void getResourceProperties(String kind, JsonObject jsonSchema) {
-        String kindKey = kind.replaceAll("\"", "").toLowerCase();
-        if (jsonSchema.get("resources") != null && jsonSchema.get("resources").getAsJsonObject().get(kindKey) != null) {
-            jsonSchema.add("properties" , jsonSchema.get("resources").getAsJsonObject()
-                    .getAsJsonObject(kindKey)
-                    .getAsJsonObject("properties"));
+    private static void getResourceProperties(String kindKey, ObjectNode jsonSchema) {
+        final JsonNode resourceSchema = jsonSchema.path("resources").get(kindKey);
+        if (resourceSchema != null) {
+            jsonSchema.set("properties", resourceSchema.get("properties"));
         }
     }
 
-    private void checkIfKindPropertyExists(String kind) {
+    private static synchronized List<ObjectNode> getSchemaJsons() throws IOException {
+        if (schemaJsons == null) {
+            final List<ObjectNode> parsedSchemas = new ArrayList<>();
+            for (URL schemaFile : Collections.list(ResourceValidator.class.getClassLoader().getResources(SCHEMA_JSON))) {
+                final ObjectNode schemaJson = (ObjectNode) JSON_MAPPER.readTree(schemaFile);
+                schemaJson.remove("id");
+                parsedSchemas.add(schemaJson);
+            }
+            schemaJsons = parsedSchemas;
+        }
+        return schemaJsons;
+    }
+
+    private static void checkIfKindPropertyExists(String kind) {
         if(kind == null) {
             throw new JsonIOException("Invalid kind of resource or 'kind' is missing from resource definition");
         }
@@ -184,14 +226,16 @@ public class ResourceValidator {
 
     private JsonNode geFileContent(File file) throws IOException {
         try (InputStream resourceStream = new FileInputStream(file)) {
-            ObjectMapper jsonMapper = new ObjectMapper(new YAMLFactory());
-            return jsonMapper.readTree(resourceStream);
+            return YAML_MAPPER.readTree(resourceStream);
         }
     }
 
+    /**
+     * @deprecated schemas are now read and compiled once and processed as Jackson trees, this method is no longer used.
+     */
+    @Deprecated
     public JsonObject getSchemaJson(URL schemaUrl) throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        String rootNode = objectMapper.readValue(schemaUrl, JsonNode.class).toString();
+        String rootNode = JSON_MAPPER.readValue(schemaUrl, JsonNode.class).toString();
         JsonObject jsonObject = new JsonParser().parse(rootNode).getAsJsonObject();
         jsonObject.remove("id");
         return jsonObject;
@@ -277,14 +321,25 @@ public class ResourceValidator {
         }
     }
 
-    private static JsonObject fixUrlIfUnversioned(JsonObject jsonSchema, String versionedUri) {
-        final String uri = jsonSchema.get("$schema").getAsString();
+    private static void fixUrlIfUnversioned(ObjectNode jsonSchema, String versionedUri) {
+        final String uri = jsonSchema.path("$schema").asText();
         if (uri.matches("^https?://json-schema.org/draft-05/schema[^/]*$")) {
-            final JsonObject ret = jsonSchema.deepCopy();
-            ret.addProperty("$schema", versionedUri);
-            return ret;
+            jsonSchema.put("$schema", versionedUri);
+        }
+    }
+
+    // Initialization on demand
+    private static class SchemaFactoryHolder {
+        private static final JsonSchemaFactory INSTANCE = createSchemaFactory();
+
+        private static JsonSchemaFactory createSchemaFactory() {
+            final JsonMetaSchema v7 = JsonMetaSchema.getV7();
+            final JsonMetaSchema metaSchema = JsonMetaSchema.builder(v7.getUri(), v7)
+                .addKeywords(createNonValidationKeywordList())
+                .build();
+            return new JsonSchemaFactory.Builder()
+                .defaultMetaSchemaURI(v7.getUri()).addMetaSchema(metaSchema).build();
         }
-        return jsonSchema;
     }
 
 }
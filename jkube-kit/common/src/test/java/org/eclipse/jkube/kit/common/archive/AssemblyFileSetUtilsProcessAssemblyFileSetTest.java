@@ -31,9 +31,12 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.jkube.kit.common.archive.AssemblyFileSetUtils.processAssemblyFileSet;
+import static org.eclipse.jkube.kit.common.archive.AssemblyFileSetUtils.resolveAssemblyFileSet;
 import static org.eclipse.jkube.kit.common.archive.AssemblyFileSetUtils.resolveSourceDirectory;
 import static org.eclipse.jkube.kit.common.util.EnvUtil.isWindows;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -566,4 +569,104 @@ class AssemblyFileSetUtilsProcessAssemblyFileSetTest {
         );
   }
 
+  @Test
+  void overlappingIncludes_shouldStageEachFileOnce() throws Exception {
+    // Given
+    final AssemblyFileSet afs = AssemblyFileSet.builder()
+        .directory(sourceDirectory)
+        .include("two")
+        .include("two/1.txt")
+        .include("**/1.txt")
+        .build();
+    final Assembly layer = new Assembly();
+    final AssemblyConfiguration ac = AssemblyConfiguration.builder()
+        .targetDir("deployments")
+        .build();
+    // When
+    final List<AssemblyFileEntry> result = processAssemblyFileSet(baseDirectory, outputDirectory, afs, layer, ac);
+    // Then
+    assertThat(result)
+        .extracting(AssemblyFileEntry::getDest)
+        .doesNotHaveDuplicates()
+        .hasSize(6);
+    FileAssertions.assertThat(new File(outputDirectory, "deployments"))
+        .exists()
+        .fileTree()
+        .containsExactlyInAnyOrder(
+            "source-directory",
+            "source-directory/one", "source-directory/one/1.txt",
+            "source-directory/two", "source-directory/two/1.txt", "source-directory/two/3.other", "source-directory/two/37",
+            "source-directory/three", "source-directory/three/1.txt"
+        );
+  }
+
+  @Test
+  void directoryContentExcludes_shouldNotStageAnyFileInExcludedDirectories() throws Exception {
+    // Given
+    final AssemblyFileSet afs = AssemblyFileSet.builder()
+        .directory(sourceDirectory)
+        .include("**/1.txt")
+        .include("one")
+        .exclude("one/**")
+        .exclude("t*/**")
+        .build();
+    final Assembly layer = new Assembly();
+    final AssemblyConfiguration ac = AssemblyConfiguration.builder()
+        .targetDir("deployments")
+        .build();
+    // When
+    final List<AssemblyFileEntry> result = processAssemblyFileSet(baseDirectory, outputDirectory, afs, layer, ac);
+    // Then
+    assertThat(result).hasSize(1);
+    FileAssertions.assertThat(new File(outputDirectory, "deployments"))
+        .exists()
+        .fileTree()
+        .containsExactlyInAnyOrder("source-directory", "source-directory/one");
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @ValueSource(strings = {"*/**", "**/**"})
+  void directoryContentExcludes_withPatternMatchingAllDirectories_shouldStageTopLevelFiles(String exclude) throws Exception {
+    // Given
+    final AssemblyFileSet afs = AssemblyFileSet.builder()
+        .directory(sourceDirectory)
+        .exclude(exclude)
+        .build();
+    final Assembly layer = new Assembly();
+    final AssemblyConfiguration ac = AssemblyConfiguration.builder()
+        .targetDir("deployments")
+        .build();
+    // When
+    final List<AssemblyFileEntry> result = processAssemblyFileSet(baseDirectory, outputDirectory, afs, layer, ac);
+    // Then
+    assertThat(result).hasSize(7);
+    FileAssertions.assertThat(new File(outputDirectory, "deployments"))
+        .exists()
+        .fileTree()
+        .containsExactlyInAnyOrder(
+            "source-directory",
+            "source-directory/1.txt", "source-directory/3.other", "source-directory/37",
+            "source-directory/one", "source-directory/two", "source-directory/three"
+        );
+  }
+
+  @Test
+  void resolveAssemblyFileSet_shouldReturnEntriesWithoutStagingFiles() throws Exception {
+    // Given
+    final AssemblyFileSet afs = AssemblyFileSet.builder()
+        .directory(sourceDirectory)
+        .build();
+    final Assembly layer = new Assembly();
+    final AssemblyConfiguration ac = AssemblyConfiguration.builder()
+        .targetDir("deployments")
+        .build();
+    // When
+    final List<AssemblyFileEntry> result = resolveAssemblyFileSet(baseDirectory, outputDirectory, afs, layer, ac);
+    // Then
+    assertThat(result)
+        .hasSize(16)
+        .extracting(AssemblyFileEntry::getSource)
+        .contains(new File(sourceDirectory, "1.txt"), new File(sourceDirectory, "three/37"));
+    assertThat(outputDirectory).doesNotExist();
+  }
 }
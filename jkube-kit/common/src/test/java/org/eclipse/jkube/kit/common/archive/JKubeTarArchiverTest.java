@@ -15,10 +15,15 @@ package org.eclipse.jkube.kit.common.archive;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 
@@ -32,6 +37,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
 
 class JKubeTarArchiverTest {
@@ -93,6 +99,25 @@ class JKubeTarArchiverTest {
             "nested/directory/" + LONG_FILE_NAME);
   }
 
+  @Test
+  void createTarBallOfDirectory_pgzipCompression_createsTar() throws Exception {
+    // Given
+    final File outputFile = File.createTempFile("target", "tar.gzip", temporaryFolder);
+    // When
+    final File result = JKubeTarArchiver.createTarBallOfDirectory(outputFile, toCompress, ArchiveCompression.pgzip);
+    // Then
+    ArchiveAssertions.assertThat(result)
+        .isSameAs(outputFile)
+        .isNotEmpty()
+        .isGZip()
+        .fileTree()
+        .containsExactlyInAnyOrder(
+            "file.txt",
+            "nested/",
+            "nested/directory/",
+            "nested/directory/" + LONG_FILE_NAME);
+  }
+
   @Test
   void createTarBallOfDirectory_bzip2Compression_createsTar() throws Exception {
     // Given
@@ -112,6 +137,28 @@ class JKubeTarArchiverTest {
             "nested/directory/" + LONG_FILE_NAME);
   }
 
+  @Test
+  void createTarBall_withOutputStream_writesTarWithoutClosingStream() throws Exception {
+    // Given
+    final File outputFile = File.createTempFile("target", "tar", temporaryFolder);
+    // When
+    try (OutputStream os = Files.newOutputStream(outputFile.toPath())) {
+      JKubeTarArchiver.createTarBall(os, toCompress, FileUtil.listFilesAndDirsRecursivelyInDirectory(toCompress),
+          Collections.emptyMap(), ArchiveCompression.none, null, null);
+      os.flush();
+    }
+    // Then
+    ArchiveAssertions.assertThat(outputFile)
+        .isNotEmpty()
+        .isUncompressed()
+        .fileTree()
+        .containsExactlyInAnyOrder(
+            "file.txt",
+            "nested/",
+            "nested/directory/",
+            "nested/directory/" + LONG_FILE_NAME);
+  }
+
   @Test
   void createTarBallOfDirectory_defaultCompressionWithEntryCustomizer_createsCustomizedTar() throws Exception {
     // Given
@@ -223,4 +270,58 @@ class JKubeTarArchiverTest {
             tuple("nested/directory/", 0L, defaultDirMode)
         );
   }
+
+  @Test
+  void createTarBallOfDirectory_defaultCompression_createsTarWithModificationTimeAndWithoutOwner() throws Exception {
+    // Given
+    final File outputFile = File.createTempFile("target", "noExtension", temporaryFolder);
+    assertThat(new File(toCompress, "file.txt").setLastModified(1_600_000_000_000L)).isTrue();
+    // When
+    final File result = JKubeTarArchiver.createTarBallOfDirectory(outputFile, toCompress, ArchiveCompression.none);
+    // Then
+    ArchiveAssertions.assertThat(result)
+        .entries()
+        .filteredOn(tae -> tae.getName().equals("file.txt"))
+        .singleElement()
+        .hasFieldOrPropertyWithValue("modTime", new Date(1_600_000_000_000L))
+        .hasFieldOrPropertyWithValue("userName", "")
+        .hasFieldOrPropertyWithValue("longUserId", 0L);
+  }
+
+  @Test
+  void createTarBall_withOutputTimestamp_createsSortedTarWithNormalizedModificationTime() throws Exception {
+    // Given
+    final File outputFile = File.createTempFile("target", "noExtension", temporaryFolder);
+    final List<File> files = FileUtil.listFilesAndDirsRecursivelyInDirectory(toCompress);
+    Collections.reverse(files);
+    // When
+    final File result = JKubeTarArchiver.createTarBall(outputFile, toCompress, files, Collections.emptyMap(),
+        ArchiveCompression.none, Instant.ofEpochSecond(1_700_000_000L), null, null);
+    // Then
+    ArchiveAssertions.assertThat(result)
+        .entries()
+        .extracting("name", "modTime", "longUserId", "longGroupId")
+        .containsExactly(
+            tuple("file.txt", new Date(1_700_000_000_000L), 0L, 0L),
+            tuple("nested/", new Date(1_700_000_000_000L), 0L, 0L),
+            tuple("nested/directory/", new Date(1_700_000_000_000L), 0L, 0L),
+            tuple("nested/directory/" + LONG_FILE_NAME, new Date(1_700_000_000_000L), 0L, 0L));
+  }
+
+  @Test
+  void createTarBall_withOutputTimestamp_createsSameTarRegardlessOfFileOrderAndModificationTime() throws Exception {
+    // Given
+    final Instant outputTimestamp = Instant.ofEpochSecond(1_700_000_000L);
+    final List<File> files = FileUtil.listFilesAndDirsRecursivelyInDirectory(toCompress);
+    final File first = JKubeTarArchiver.createTarBall(File.createTempFile("first", "tar", temporaryFolder),
+        toCompress, files, Collections.emptyMap(), ArchiveCompression.gzip, outputTimestamp, null, null);
+    assertThat(new File(toCompress, "file.txt").setLastModified(1_600_000_000_000L)).isTrue();
+    final List<File> reversedFiles = new ArrayList<>(files);
+    Collections.reverse(reversedFiles);
+    // When
+    final File second = JKubeTarArchiver.createTarBall(File.createTempFile("second", "tar", temporaryFolder),
+        toCompress, reversedFiles, Collections.emptyMap(), ArchiveCompression.gzip, outputTimestamp, null, null);
+    // Then
+    assertThat(second).hasSameBinaryContentAs(first);
+  }
 }
@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.archive;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+
+class ParallelGzipOutputStreamTest {
+
+  @Test
+  void write_withMultipleBlocks_producesStandardGzip() throws IOException {
+    // Given
+    final byte[] data = compressibleData(1024 * 1024 + 17);
+    final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    // When
+    try (ParallelGzipOutputStream pgzip = new ParallelGzipOutputStream(compressed, Deflater.DEFAULT_COMPRESSION, 32 * 1024)) {
+      pgzip.write(data, 0, 1000);
+      pgzip.write(data[1000]);
+      pgzip.write(data, 1001, data.length - 1001);
+    }
+    // Then
+    assertThat(compressed.size()).isLessThan(data.length);
+    assertThat(decompress(new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))))
+        .isEqualTo(data);
+  }
+
+  @Test
+  void write_withMultipleBlocks_producesSingleGzipMember() throws IOException {
+    // Given
+    final byte[] data = compressibleData(512 * 1024);
+    final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    // When
+    try (ParallelGzipOutputStream pgzip = new ParallelGzipOutputStream(compressed, Deflater.DEFAULT_COMPRESSION, 32 * 1024)) {
+      pgzip.write(data);
+    }
+    // Then
+    assertThat(decompress(new GzipCompressorInputStream(new ByteArrayInputStream(compressed.toByteArray()), false)))
+        .isEqualTo(data);
+  }
+
+  @Test
+  void close_withNoData_producesEmptyGzip() throws IOException {
+    // Given
+    final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    // When
+    new ParallelGzipOutputStream(compressed).close();
+    // Then
+    assertThat(decompress(new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))))
+        .isEmpty();
+  }
+
+  @Test
+  void write_afterFinish_throwsException() throws IOException {
+    // Given
+    final ParallelGzipOutputStream pgzip = new ParallelGzipOutputStream(new ByteArrayOutputStream());
+    pgzip.finish();
+    // When + Then
+    assertThatIOException()
+        .isThrownBy(() -> pgzip.write(1))
+        .withMessage("Stream already finished");
+  }
+
+  private static byte[] compressibleData(int size) {
+    final Random random = new Random(1L);
+    final byte[] data = new byte[size];
+    for (int i = 0; i < size; i++) {
+      data[i] = (byte) ('a' + random.nextInt(8));
+    }
+    return data;
+  }
+
+  private static byte[] decompress(InputStream is) throws IOException {
+    try (InputStream gzip = is) {
+      return IOUtils.toByteArray(gzip);
+    }
+  }
+}
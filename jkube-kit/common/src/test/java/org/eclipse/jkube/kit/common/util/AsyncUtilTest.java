@@ -0,0 +1,259 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncUtilTest {
+
+  @Test
+  void joinAll_withSuccessfulFutures_returnsResultsInOrder() throws IOException {
+    // Given
+    final List<CompletableFuture<Integer>> futures = new ArrayList<>();
+    for (int it = 0; it < 10; it++) {
+      final int value = it;
+      futures.add(AsyncUtil.async(() -> {
+        Thread.sleep(10L * (10 - value));
+        return value;
+      }));
+    }
+    // When
+    final List<Integer> result = AsyncUtil.joinAll(futures);
+    // Then
+    assertThat(result).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+  }
+
+  @Test
+  void joinAll_withIOException_rethrowsOriginalException() {
+    // Given
+    final List<CompletableFuture<String>> futures = Arrays.asList(
+        AsyncUtil.async(() -> "ok"),
+        AsyncUtil.async(() -> { throw new IOException("first failure"); }),
+        AsyncUtil.async(() -> { throw new IOException("second failure"); }));
+    // When + Then
+    assertThatIOException()
+        .isThrownBy(() -> AsyncUtil.joinAll(futures))
+        .withMessage("first failure");
+  }
+
+  @Test
+  void joinAll_withRuntimeException_rethrowsOriginalException() {
+    // Given
+    final List<CompletableFuture<String>> futures = Arrays.asList(
+        AsyncUtil.async(() -> { throw new IllegalStateException("failure"); }));
+    // When + Then
+    assertThatIllegalStateException()
+        .isThrownBy(() -> AsyncUtil.joinAll(futures))
+        .withMessage("failure");
+  }
+
+  @Test
+  void joinAll_withCheckedException_wrapsInIOException() {
+    // Given
+    final List<CompletableFuture<String>> futures = Arrays.asList(
+        AsyncUtil.async(() -> { throw new Exception("checked"); }));
+    // When + Then
+    assertThatIOException()
+        .isThrownBy(() -> AsyncUtil.joinAll(futures))
+        .havingCause()
+        .withMessage("checked");
+  }
+
+  @Test
+  void newExecutorService_runsTasksInNamedDaemonThreads() throws Exception {
+    // Given
+    final ExecutorService executorService = AsyncUtil.newExecutorService("test", 2, false);
+    try {
+      // When
+      final Thread result = executorService.submit(Thread::currentThread).get(10, TimeUnit.SECONDS);
+      // Then
+      assertThat(result)
+          .returns("test-1", Thread::getName)
+          .returns(true, Thread::isDaemon);
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  @Test
+  void newExecutorService_withAllThreadsBusy_runsTaskInSubmittingThread() throws Exception {
+    // Given
+    final ExecutorService executorService = AsyncUtil.newExecutorService("test", 1, false);
+    final CountDownLatch release = new CountDownLatch(1);
+    try {
+      executorService.submit(() -> release.await(10, TimeUnit.SECONDS));
+      // When
+      final Thread result = executorService.submit(Thread::currentThread).get(10, TimeUnit.SECONDS);
+      // Then
+      assertThat(result).isSameAs(Thread.currentThread());
+    } finally {
+      release.countDown();
+      executorService.shutdownNow();
+    }
+  }
+
+  @Test
+  void newExecutorService_withVirtualThreads_runsTasks() throws Exception {
+    // Given
+    final ExecutorService executorService = AsyncUtil.newExecutorService("test", 1, true);
+    try {
+      // When
+      final String result = executorService.submit(() -> Thread.currentThread().getName()).get(10, TimeUnit.SECONDS);
+      // Then
+      assertThat(result).isEqualTo("test-1");
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  @Test
+  void newQueueingExecutorService_withAllThreadsBusy_queuesTask() throws Exception {
+    // Given
+    final ExecutorService executorService = AsyncUtil.newQueueingExecutorService("test", 1);
+    final CountDownLatch release = new CountDownLatch(1);
+    try {
+      executorService.submit(() -> release.await(10, TimeUnit.SECONDS));
+      // When
+      final CompletableFuture<Thread> result = CompletableFuture.supplyAsync(Thread::currentThread, executorService);
+      // Then
+      assertThat(result).isNotDone();
+      release.countDown();
+      assertThat(result.get(10, TimeUnit.SECONDS))
+          .isNotSameAs(Thread.currentThread())
+          .returns("test-1", Thread::getName);
+    } finally {
+      release.countDown();
+      executorService.shutdownNow();
+    }
+  }
+
+  @Test
+  void await_withMatchingValue_completesWithValue() throws Exception {
+    // Given
+    final AtomicInteger counter = new AtomicInteger();
+    // When
+    final Integer result = AsyncUtil.await(counter::incrementAndGet).apply(i -> i >= 3).get(10, TimeUnit.SECONDS);
+    // Then
+    assertThat(result).isEqualTo(3);
+  }
+
+  @Test
+  void await_withTimeout_failsWithTimeoutExceptionAndStopsPolling() throws Exception {
+    // Given
+    final AtomicInteger polls = new AtomicInteger();
+    // When
+    final CompletableFuture<Integer> result = AsyncUtil.await(polls::incrementAndGet, 250, TimeUnit.MILLISECONDS)
+        .apply(i -> false);
+    // Then
+    assertThatThrownBy(() -> result.get(10, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(TimeoutException.class);
+    final int pollsAfterTimeout = polls.get();
+    Thread.sleep(300L);
+    assertThat(polls).hasValue(pollsAfterTimeout);
+  }
+
+  @Test
+  void await_withCancelledFuture_stopsPolling() throws Exception {
+    // Given
+    final AtomicInteger polls = new AtomicInteger();
+    final CompletableFuture<Integer> future = AsyncUtil.await(polls::incrementAndGet).apply(i -> false);
+    // When
+    future.cancel(true);
+    // Then
+    Thread.sleep(150L);
+    final int pollsAfterCancel = polls.get();
+    Thread.sleep(300L);
+    assertThat(polls).hasValue(pollsAfterCancel);
+  }
+
+  @Test
+  void asyncInNewThread_runsTaskInNamedDaemonThread() throws Exception {
+    // When
+    final Thread result = AsyncUtil.asyncInNewThread("long-running-task", Thread::currentThread)
+        .get(5, TimeUnit.SECONDS);
+    // Then
+    assertThat(result)
+        .hasFieldOrPropertyWithValue("name", "long-running-task")
+        .hasFieldOrPropertyWithValue("daemon", true);
+  }
+
+  @Test
+  void asyncInNewThread_withCancelledFuture_interruptsThread() throws Exception {
+    // Given
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch interrupted = new CountDownLatch(1);
+    final CompletableFuture<Void> future = AsyncUtil.asyncInNewThread("long-running-task", () -> {
+      started.countDown();
+      try {
+        Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+      } catch (InterruptedException ex) {
+        interrupted.countDown();
+      }
+      return null;
+    });
+    started.await(5, TimeUnit.SECONDS);
+    // When
+    future.cancel(true);
+    // Then
+    assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void limitConcurrency_runsAtMostMaxConcurrencyTasksAtOnce() throws Exception {
+    // Given
+    final ExecutorService executorService = AsyncUtil.newExecutorService("test", 8, false);
+    final Executor limited = AsyncUtil.limitConcurrency(executorService, 2);
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger maxRunning = new AtomicInteger();
+    final List<CompletableFuture<Void>> tasks = new ArrayList<>();
+    try {
+      // When
+      for (int it = 0; it < 10; it++) {
+        tasks.add(CompletableFuture.runAsync(() -> {
+          maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+          try {
+            Thread.sleep(20L);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          running.decrementAndGet();
+        }, limited));
+      }
+      CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+      // Then
+      assertThat(maxRunning.get()).isBetween(1, 2);
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+}
@@ -13,6 +13,11 @@
  */
 package org.eclipse.jkube.kit.common.util;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -26,4 +31,15 @@ class Base64UtilTest {
         assertThat(Base64Util.encodeToString(raw)).isEqualTo(encode);
         assertThat(Base64Util.decodeToString(encode)).isEqualTo(raw);
     }
+
+    @Test
+    void encodeToString_withInputStream_shouldEncodeFullStream() throws IOException {
+        // Given
+        final byte[] bytes = new byte[100_001];
+        new Random(42L).nextBytes(bytes);
+        // When
+        final String result = Base64Util.encodeToString(new ByteArrayInputStream(bytes));
+        // Then
+        assertThat(result).isEqualTo(Base64.getEncoder().encodeToString(bytes));
+    }
 }
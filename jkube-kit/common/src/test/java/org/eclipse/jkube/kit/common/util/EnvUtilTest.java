@@ -148,6 +148,50 @@ class EnvUtilTest {
             .containsEntry("name", "value");
     }
 
+    @Test
+    void testExtractFromPropertiesAsMapWithIndex(){
+        //Given
+        Properties properties = new Properties();
+        properties.put("key.name","value");
+        properties.put("key.value","valu");
+        properties.put("keys.name","other");
+        properties.put("art","id");
+        properties.put("key._combine","bool");
+        //when
+        Map<String, String> result = EnvUtil.extractFromPropertiesAsMap("key", new PropertyPrefixIndex(properties));
+        //Then
+        assertThat(result)
+            .hasSize(2)
+            .containsEntry("name", "value")
+            .containsEntry("value", "valu");
+    }
+
+    @Test
+    void testExtractFromPropertiesAsListWithIndex(){
+        //Given
+        Properties properties = new Properties();
+        properties.put("key.2","second");
+        properties.put("key.1","first");
+        properties.put("key.10","tenth");
+        properties.put("keys.1","other");
+        properties.put("key._combine","bool");
+        //When
+        List<String> result = EnvUtil.extractFromPropertiesAsList("key", new PropertyPrefixIndex(properties));
+        //Then
+        assertThat(result).containsExactly("first", "second", "tenth");
+    }
+
+    @Test
+    void testExtractFromPropertiesAsMapWithIndexAndNoMatches(){
+        //Given
+        Properties properties = new Properties();
+        properties.put("art","id");
+        //When
+        Map<String, String> result = EnvUtil.extractFromPropertiesAsMap("key", new PropertyPrefixIndex(properties));
+        //Then
+        assertThat(result).isNull();
+    }
+
     @Test
     void testFormatDurationTill() {
         long startTime = System.currentTimeMillis() - 200L;
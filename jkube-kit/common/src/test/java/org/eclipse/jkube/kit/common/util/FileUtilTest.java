@@ -16,6 +16,8 @@ package org.eclipse.jkube.kit.common.util;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -151,6 +153,86 @@ class FileUtilTest {
     assertThat(relativeFile.getPath()).isEqualTo("foo" + File.separator + "fileInFoo1");
   }
 
+  @Test
+  void stage_withNewTarget_createsTargetSharingSourceContent() throws IOException {
+    // Given
+    final File source = Files.write(folder.toPath().resolve("source.jar"), "content".getBytes()).toFile();
+    final File target = new File(folder, "target.jar");
+    // When
+    FileUtil.stage(source, target);
+    // Then
+    assertThat(target).hasContent("content");
+    assertThat(Files.isSameFile(source.toPath(), target.toPath())).isTrue();
+  }
+
+  @Test
+  void stage_withUpToDateTarget_keepsTarget() throws IOException {
+    // Given
+    final File source = Files.write(folder.toPath().resolve("source.jar"), "content".getBytes()).toFile();
+    final File target = Files.write(folder.toPath().resolve("target.jar"), "CONTENT".getBytes()).toFile();
+    assertThat(target.setLastModified(source.lastModified())).isTrue();
+    // When
+    FileUtil.stage(source, target);
+    // Then
+    assertThat(target).hasContent("CONTENT");
+  }
+
+  @Test
+  void stage_withOutdatedTarget_replacesTarget() throws IOException {
+    // Given
+    final File source = Files.write(folder.toPath().resolve("source.jar"), "new content".getBytes()).toFile();
+    final File target = Files.write(folder.toPath().resolve("target.jar"), "old".getBytes()).toFile();
+    // When
+    FileUtil.stage(source, target);
+    // Then
+    assertThat(target).hasContent("new content");
+  }
+
+  @Test
+  void stage_thenReplaceTarget_keepsSourceUnchanged() throws IOException {
+    // Given
+    final File source = Files.write(folder.toPath().resolve("source.jar"), "content".getBytes()).toFile();
+    final File target = new File(folder, "target.jar");
+    FileUtil.stage(source, target);
+    // When
+    FileUtil.copy(Files.write(folder.toPath().resolve("other.jar"), "other".getBytes()).toFile(), target);
+    // Then
+    assertThat(source).hasContent("content");
+    assertThat(target).hasContent("other");
+  }
+
+  @Test
+  void unstage_thenWriteTarget_keepsSourceUnchanged() throws IOException {
+    // Given
+    final File source = Files.write(folder.toPath().resolve("source.jar"), "content".getBytes()).toFile();
+    final File target = new File(folder, "target.jar");
+    FileUtil.stage(source, target);
+    // When
+    FileUtil.unstage(target);
+    Files.write(target.toPath(), " appended".getBytes(), StandardOpenOption.APPEND);
+    // Then
+    assertThat(Files.isSameFile(source.toPath(), target.toPath())).isFalse();
+    assertThat(source).hasContent("content");
+    assertThat(target).hasContent("content appended");
+  }
+
+  @Test
+  @DisabledOnOs(OS.WINDOWS)
+  void unstage_thenChangeTargetPermissions_keepsSourceUnchanged() throws IOException {
+    // Given
+    final File source = Files.write(folder.toPath().resolve("source.sh"), "content".getBytes()).toFile();
+    Files.setPosixFilePermissions(source.toPath(), PosixFilePermissions.fromString("rw-r--r--"));
+    final File target = new File(folder, "target.sh");
+    FileUtil.stage(source, target);
+    // When
+    FileUtil.unstage(target);
+    Files.setPosixFilePermissions(target.toPath(), PosixFilePermissions.fromString("rwxr-xr-x"));
+    // Then
+    assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(source.toPath()))).isEqualTo("rw-r--r--");
+    assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(target.toPath()))).isEqualTo("rwxr-xr-x");
+    assertThat(target).hasContent("content");
+  }
+
   private void prepareDirectory() throws IOException {
     final File dir1 = Files.createDirectories(folder.toPath().resolve("foo")).toFile();
     assertThat(new File(dir1, "fileInFoo1").createNewFile()).isTrue();
@@ -20,11 +20,14 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Optional;
 import java.util.Properties;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -257,4 +260,59 @@ class JKubeProjectUtilTest {
     // Then
     assertThat(illegalStateException).hasMessage("Cannot find artifact test-artifact-0.0.1.jar within the resolved resources");
   }
+
+  @Test
+  void getOutputTimestamp_whenIsoDateOutputTimestampProperty_returnsTimestamp() {
+    // Given
+    Properties properties = new Properties();
+    properties.put("project.build.outputTimestamp", "2023-11-14T22:13:20Z");
+    JavaProject javaProject = JavaProject.builder().properties(properties).build();
+
+    // When
+    Optional<Instant> result = JKubeProjectUtil.getOutputTimestamp(javaProject);
+
+    // Then
+    assertThat(result).contains(Instant.ofEpochSecond(1_700_000_000L));
+  }
+
+  @Test
+  void getOutputTimestamp_whenEpochSecondsOutputTimestampProperty_returnsTimestamp() {
+    // Given
+    Properties properties = new Properties();
+    properties.put("project.build.outputTimestamp", "1700000000");
+    JavaProject javaProject = JavaProject.builder().properties(properties).build();
+
+    // When
+    Optional<Instant> result = JKubeProjectUtil.getOutputTimestamp(javaProject);
+
+    // Then
+    assertThat(result).contains(Instant.ofEpochSecond(1_700_000_000L));
+  }
+
+  @Test
+  void getOutputTimestamp_whenSingleCharacterOutputTimestampProperty_returnsEmpty() {
+    // Given
+    Properties properties = new Properties();
+    properties.put("project.build.outputTimestamp", "-");
+    JavaProject javaProject = JavaProject.builder().properties(properties).build();
+
+    // When
+    Optional<Instant> result = JKubeProjectUtil.getOutputTimestamp(javaProject);
+
+    // Then
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  void getOutputTimestamp_whenInvalidOutputTimestampProperty_throwsException() {
+    // Given
+    Properties properties = new Properties();
+    properties.put("project.build.outputTimestamp", "yesterday");
+    JavaProject javaProject = JavaProject.builder().properties(properties).build();
+
+    // When + Then
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> JKubeProjectUtil.getOutputTimestamp(javaProject))
+        .withMessage("Invalid output timestamp: yesterday");
+  }
 }
@@ -15,11 +15,13 @@ package org.eclipse.jkube.kit.common.util;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
@@ -50,6 +52,71 @@ class PluginServiceFactoryTest {
         .containsExactly("three", "two", "five", "one");
   }
 
+  @Test
+  void createServiceObjects_invokedConcurrently_shouldReturnNewInstancesInCorrectOrder() throws Exception {
+    // Given
+    final String[] descriptorPaths = new String[] { "service/test-services-default", "service/test-services" };
+    final List<CompletableFuture<List<TestService>>> futures = new ArrayList<>();
+    // When
+    for (int it = 0; it < 10; it++) {
+      futures.add(CompletableFuture.supplyAsync(() -> pluginServiceFactory.createServiceObjects(descriptorPaths)));
+    }
+    // Then
+    final List<TestService> first = futures.get(0).get();
+    for (CompletableFuture<List<TestService>> future : futures) {
+      assertThat(future.get())
+          .extracting("name")
+          .containsExactly("three", "two", "five", "one");
+    }
+    assertThat(futures.get(1).get()).doesNotContainAnyElementsOf(first);
+  }
+
+  @Test
+  void createLazyServiceObjects_withOrdersAndExclusions_shouldReturnInCorrectOrderWithoutInstantiating() {
+    // Given
+    final String[] descriptorPaths = new String[] { "service/test-services-default", "service/test-services" };
+    // When
+    final List<PluginServiceFactory.LazyService<TestService>> result =
+        pluginServiceFactory.createLazyServiceObjects(descriptorPaths);
+    // Then
+    assertThat(result)
+        .hasSize(4)
+        .noneMatch(PluginServiceFactory.LazyService::hasInstance)
+        .extracting(PluginServiceFactory.LazyService::getServiceClass)
+        .containsExactly(Test3.class, Test2.class, Test5.class, Test1.class);
+  }
+
+  @Test
+  void createLazyServiceObjects_withDeclaredNames_shouldExposeNamesWithoutInstantiating() {
+    // When
+    final List<PluginServiceFactory.LazyService<TestService>> result =
+        pluginServiceFactory.createLazyServiceObjects("service/test-services-named");
+    // Then
+    assertThat(result)
+        .hasSize(4)
+        .noneMatch(PluginServiceFactory.LazyService::hasInstance)
+        .extracting(PluginServiceFactory.LazyService::getServiceClass, PluginServiceFactory.LazyService::getName)
+        .containsExactly(
+            tuple(Test3.class, "three"),
+            tuple(Test2.class, "two"),
+            tuple(Test1.class, "one"),
+            tuple(Test5.class, null));
+  }
+
+  @Test
+  void createLazyServiceObjects_get_shouldInstantiateServiceOnce() {
+    // Given
+    final PluginServiceFactory.LazyService<TestService> service = pluginServiceFactory
+        .<TestService>createLazyServiceObjects("service/test-services-default").get(0);
+    // When
+    final TestService result = service.get();
+    // Then
+    assertThat(result)
+        .isSameAs(service.get())
+        .isInstanceOf(Test3.class);
+    assertThat(service.hasInstance()).isTrue();
+  }
+
   @Test
   void createServiceObjects_withNonExistentClass_shouldThrowException() {
     // When
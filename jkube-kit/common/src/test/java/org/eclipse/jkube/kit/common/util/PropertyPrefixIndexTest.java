@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.util;
+
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class PropertyPrefixIndexTest {
+
+  private Properties properties;
+
+  @BeforeEach
+  void setUp() {
+    properties = new Properties();
+    properties.put("docker.name", "image");
+    properties.put("docker.from", "base");
+    properties.put("docker.env.ONE", "1");
+    properties.put("dockerfile", "Dockerfile");
+    properties.put("jkube.docker.name", "other");
+  }
+
+  @Test
+  void getProperty_withExistingProperty_returnsValue() {
+    // Given
+    final PropertyPrefixIndex index = new PropertyPrefixIndex(properties);
+    // When
+    final String result = index.getProperty("docker.from");
+    // Then
+    assertThat(result).isEqualTo("base");
+  }
+
+  @Test
+  void getProperty_withMissingProperty_returnsNull() {
+    // Given
+    final PropertyPrefixIndex index = new PropertyPrefixIndex(properties);
+    // When
+    final String result = index.getProperty("docker.missing");
+    // Then
+    assertThat(result).isNull();
+  }
+
+  @Test
+  void withPrefix_returnsOnlyMatchingPropertiesSortedByName() {
+    // Given
+    final PropertyPrefixIndex index = new PropertyPrefixIndex(properties);
+    // When
+    final Map<String, String> result = index.withPrefix("docker.");
+    // Then
+    assertThat(result).containsExactly(
+        entry("docker.env.ONE", "1"),
+        entry("docker.from", "base"),
+        entry("docker.name", "image"));
+  }
+
+  @Test
+  void withPrefix_isNotAffectedByLaterChangesToProperties() {
+    // Given
+    final PropertyPrefixIndex index = new PropertyPrefixIndex(properties);
+    properties.put("docker.added", "later");
+    // When
+    final Map<String, String> result = index.withPrefix("docker.added");
+    // Then
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  void withPrefix_withDefaultProperties_includesDefaults() {
+    // Given
+    final Properties withDefaults = new Properties(properties);
+    withDefaults.put("docker.name", "overridden");
+    final PropertyPrefixIndex index = new PropertyPrefixIndex(withDefaults);
+    // When
+    final Map<String, String> result = index.withPrefix("docker.");
+    // Then
+    assertThat(result).containsExactly(
+        entry("docker.env.ONE", "1"),
+        entry("docker.from", "base"),
+        entry("docker.name", "overridden"));
+  }
+}
@@ -0,0 +1,182 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.common.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.sun.net.httpserver.HttpServer;
+import org.eclipse.jkube.kit.common.KitLogger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+
+class RemoteResourceCacheTest {
+
+  @TempDir
+  Path temporaryFolder;
+
+  private HttpServer server;
+  private AtomicInteger fullResponses;
+  private AtomicInteger notModifiedResponses;
+  private AtomicReference<String> content;
+  private File cacheDirectory;
+  private URL url;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    fullResponses = new AtomicInteger();
+    notModifiedResponses = new AtomicInteger();
+    content = new AtomicReference<>("kind: ConfigMap");
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/", exchange -> {
+      final String etag = "\"" + content.get().hashCode() + "\"";
+      if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+        notModifiedResponses.incrementAndGet();
+        exchange.sendResponseHeaders(304, -1);
+        exchange.close();
+        return;
+      }
+      fullResponses.incrementAndGet();
+      final byte[] body = content.get().getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("ETag", etag);
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream os = exchange.getResponseBody()) {
+        os.write(body);
+      }
+    });
+    server.start();
+    cacheDirectory = temporaryFolder.resolve("cache").toFile();
+    url = new URL("http://localhost:" + server.getAddress().getPort() + "/fragment-cm.yml");
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  void download_withEmptyCache_downloadsContent() throws IOException {
+    // Given
+    final File target = temporaryFolder.resolve("target.yml").toFile();
+    try (RemoteResourceCache cache = new RemoteResourceCache(cacheDirectory, false, new KitLogger.SilentLogger())) {
+      // When
+      cache.download(url, target);
+    }
+    // Then
+    assertThat(target).hasContent("kind: ConfigMap");
+    assertThat(fullResponses).hasValue(1);
+  }
+
+  @Test
+  void download_withCachedUnchangedResource_revalidatesWithoutDownloading() throws IOException {
+    // Given
+    final File target = temporaryFolder.resolve("target.yml").toFile();
+    try (RemoteResourceCache cache = new RemoteResourceCache(cacheDirectory, false, new KitLogger.SilentLogger())) {
+      cache.download(url, temporaryFolder.resolve("first.yml").toFile());
+      // When
+      cache.download(url, target);
+    }
+    // Then
+    assertThat(target).hasContent("kind: ConfigMap");
+    assertThat(fullResponses).hasValue(1);
+    assertThat(notModifiedResponses).hasValue(1);
+  }
+
+  @Test
+  void download_withCachedChangedResource_downloadsNewContent() throws IOException {
+    // Given
+    final File target = temporaryFolder.resolve("target.yml").toFile();
+    try (RemoteResourceCache cache = new RemoteResourceCache(cacheDirectory, false, new KitLogger.SilentLogger())) {
+      cache.download(url, temporaryFolder.resolve("first.yml").toFile());
+      content.set("kind: Secret");
+      // When
+      cache.download(url, target);
+    }
+    // Then
+    assertThat(target).hasContent("kind: Secret");
+    assertThat(fullResponses).hasValue(2);
+  }
+
+  @Test
+  void download_withCachedResourceInOfflineMode_doesNotContactServer() throws IOException {
+    // Given
+    final File target = temporaryFolder.resolve("target.yml").toFile();
+    try (RemoteResourceCache cache = new RemoteResourceCache(cacheDirectory, false, new KitLogger.SilentLogger())) {
+      cache.download(url, temporaryFolder.resolve("first.yml").toFile());
+    }
+    try (RemoteResourceCache offlineCache = new RemoteResourceCache(cacheDirectory, true, new KitLogger.SilentLogger())) {
+      // When
+      offlineCache.download(url, target);
+    }
+    // Then
+    assertThat(target).hasContent("kind: ConfigMap");
+    assertThat(fullResponses).hasValue(1);
+    assertThat(notModifiedResponses).hasValue(0);
+  }
+
+  @Test
+  void download_withUncachedResourceInOfflineMode_failsWithoutContactingServer() {
+    // Given
+    final File target = temporaryFolder.resolve("target.yml").toFile();
+    try (RemoteResourceCache offlineCache = new RemoteResourceCache(cacheDirectory, true, new KitLogger.SilentLogger())) {
+      // When + Then
+      assertThatIOException()
+        .isThrownBy(() -> offlineCache.download(url, target))
+        .withMessageContaining("Offline mode")
+        .withMessageContaining("is not cached");
+    }
+    assertThat(target).doesNotExist();
+    assertThat(fullResponses).hasValue(0);
+    assertThat(notModifiedResponses).hasValue(0);
+  }
+
+  @Test
+  void download_withCachedResourceAndUnreachableServer_usesCachedCopy() throws IOException {
+    // Given
+    final File target = temporaryFolder.resolve("target.yml").toFile();
+    try (RemoteResourceCache cache = new RemoteResourceCache(cacheDirectory, false, new KitLogger.SilentLogger())) {
+      cache.download(url, temporaryFolder.resolve("first.yml").toFile());
+      server.stop(0);
+      // When
+      cache.download(url, target);
+    }
+    // Then
+    assertThat(target).hasContent("kind: ConfigMap");
+  }
+
+  @Test
+  void download_withMissingResource_throwsException() {
+    // Given
+    server.removeContext("/");
+    final File target = temporaryFolder.resolve("target.yml").toFile();
+    try (RemoteResourceCache cache = new RemoteResourceCache(cacheDirectory, false, new KitLogger.SilentLogger())) {
+      // When + Then
+      assertThatIOException()
+          .isThrownBy(() -> cache.download(url, target))
+          .withMessageContaining("HTTP 404");
+    }
+  }
+}
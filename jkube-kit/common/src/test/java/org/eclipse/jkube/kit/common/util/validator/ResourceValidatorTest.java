@@ -21,9 +21,13 @@ import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.util.ResourceClassifier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 
@@ -69,6 +73,37 @@ class ResourceValidatorTest {
         .has(new HasErrMessage("$.spec.replicas: string found, integer expected"));
   }
 
+  @Test
+  void validateWithDirectoryOfValidResources(@TempDir Path temporaryFolder) throws Exception {
+    // Given
+    final Path validService = Paths.get(ResourceValidatorTest.class.getResource("/util/validator/valid-service.yml").toURI());
+    for (int it = 0; it < 5; it++) {
+      Files.copy(validService, temporaryFolder.resolve("service-" + it + ".yml"));
+    }
+    final ResourceValidator validator = new ResourceValidator(temporaryFolder.toFile(), ResourceClassifier.KUBERNETES, logger);
+    // When
+    final int result = validator.validate();
+    // Then
+    assertThat(result).isEqualTo(5);
+  }
+
+  @Test
+  void validateWithDirectoryContainingInvalidResource(@TempDir Path temporaryFolder) throws Exception {
+    // Given
+    Files.copy(Paths.get(ResourceValidatorTest.class.getResource("/util/validator/valid-service.yml").toURI()),
+        temporaryFolder.resolve("valid-service.yml"));
+    Files.copy(Paths.get(ResourceValidatorTest.class.getResource("/util/validator/invalid-deployment.yml").toURI()),
+        temporaryFolder.resolve("invalid-deployment.yml"));
+    final File directory = temporaryFolder.toFile();
+    final ResourceValidator validator = new ResourceValidator(directory, ResourceClassifier.KUBERNETES, logger);
+    // When
+    final ConstraintViolationException result = assertThrows(ConstraintViolationException.class, validator::validate);
+    // Then
+    assertThat(result)
+        .hasMessageContaining("invalid-deployment.yml")
+        .has(new HasErrMessage("$.spec.replicas: string found, integer expected"));
+  }
+
   @Test
   void createNonValidationKeywordList_whenInvoked_shouldReturnNonValidationKeywordList() {
     // Given + When
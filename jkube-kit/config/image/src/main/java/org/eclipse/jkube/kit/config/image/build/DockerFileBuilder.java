@@ -18,6 +18,7 @@ import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -98,6 +99,8 @@ public class DockerFileBuilder {
      */
     public File write(File destDir) throws IOException {
         File target = new File(destDir, "Dockerfile");
+        // The target might be a hard link to a staged assembly file, replace it instead of overwriting it
+        Files.deleteIfExists(target.toPath());
         FileUtils.write(target, content(), Charset.defaultCharset());
         return target;
     }
@@ -44,5 +44,14 @@ public class ResourceServiceConfig {
   private ResourceConfig resourceConfig;
   private ResourceService.ResourceFileProcessor resourceFilesProcessor;
   private boolean interpolateTemplateParameters;
+  /**
+   * Local cache directory for remote resource fragments, if null, the default cache directory is used.
+   */
+  private File remotesCacheDir;
+  /**
+   * If true (i.e. the build tool runs in offline mode), cached copies of remote resource fragments are used without
+   * contacting the remote server and remote resource fragments that aren't cached fail.
+   */
+  private boolean remotesOffline;
 
 }
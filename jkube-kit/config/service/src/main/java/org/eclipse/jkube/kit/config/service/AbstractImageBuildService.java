@@ -13,10 +13,28 @@
  */
 package org.eclipse.jkube.kit.config.service;
 
+import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.common.PrefixedLogger;
 import org.eclipse.jkube.kit.common.RegistryConfig;
+import org.eclipse.jkube.kit.common.util.AsyncUtil;
 import org.eclipse.jkube.kit.config.image.ImageConfiguration;
+import org.eclipse.jkube.kit.config.image.ImageName;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 public abstract class AbstractImageBuildService implements BuildService {
   private final JKubeServiceHub jKubeServiceHub;
@@ -48,15 +66,179 @@ public abstract class AbstractImageBuildService implements BuildService {
 
   private void processImage(ImageConfigurationProcessor imageConfigurationConsumer, String skipMessage, ImageConfiguration... imageConfigurations) throws JKubeServiceException {
     if (imageConfigurations != null) {
+      final List<ImageConfiguration> images = new ArrayList<>();
       for (ImageConfiguration imageConfiguration : imageConfigurations) {
         if (imageConfiguration.getBuildConfiguration() != null && imageConfiguration.getBuildConfiguration().getSkip()) {
           jKubeServiceHub.getLog().info("%s : %s", imageConfiguration.getDescription(), skipMessage);
         } else if (imageConfiguration.getBuildConfiguration() == null) {
           jKubeServiceHub.getLog().info("%s : %s (Image configuration has no build settings)", imageConfiguration.getDescription(), skipMessage);
         } else {
+          images.add(imageConfiguration);
+        }
+      }
+      final int threads = Math.min(getBuildThreads(), images.size());
+      if (threads > 1) {
+        processConcurrently(imageConfigurationConsumer, images, threads);
+      } else {
+        for (ImageConfiguration imageConfiguration : images) {
           imageConfigurationConsumer.process(imageConfiguration);
         }
       }
     }
   }
+
+  private int getBuildThreads() {
+    return Optional.ofNullable(jKubeServiceHub.getBuildServiceConfig())
+      .map(BuildServiceConfig::getBuildThreads)
+      .orElse(1);
+  }
+
+  /**
+   * Whether the images can be processed concurrently (more than one build thread is configured).
+   *
+   * @return true if images can be processed concurrently.
+   */
+  protected boolean isConcurrent() {
+    return getBuildThreads() > 1;
+  }
+
+  /**
+   * Returns the logger for the provided image.
+   *
+   * <p> When images are processed concurrently, the messages are prefixed with the image alias (or name) so that
+   * the interleaved output of the different images can be told apart.
+   *
+   * @param imageConfiguration the image being processed.
+   * @return the logger for the image.
+   */
+  protected KitLogger getImageLog(ImageConfiguration imageConfiguration) {
+    if (isConcurrent()) {
+      return new PrefixedLogger(getImageId(imageConfiguration), jKubeServiceHub.getLog());
+    }
+    return jKubeServiceHub.getLog();
+  }
+
+  private static String getImageId(ImageConfiguration imageConfiguration) {
+    return Optional.ofNullable(imageConfiguration.getAlias()).orElse(imageConfiguration.getName());
+  }
+
+  /**
+   * Processes the provided images in the executor shared by the {@link JKubeServiceHub}, with at most the provided
+   * number of images processed at the same time.
+   *
+   * <p> An image is only processed once the images it depends on (e.g. its base image) have been successfully
+   * processed, independent images are processed concurrently.
+   */
+  private void processConcurrently(
+    ImageConfigurationProcessor imageConfigurationConsumer, List<ImageConfiguration> images, int threads)
+    throws JKubeServiceException {
+
+    final Map<ImageConfiguration, List<ImageConfiguration>> dependencies = resolveDependencies(images);
+    final Map<ImageConfiguration, CompletableFuture<Void>> tasks = new IdentityHashMap<>();
+    final List<CompletableFuture<Void>> orderedTasks = new ArrayList<>();
+    final Executor executor = AsyncUtil.limitConcurrency(jKubeServiceHub.getExecutorService(), threads);
+    try {
+      for (ImageConfiguration imageConfiguration : sortByDependencies(images, dependencies)) {
+        final CompletableFuture<?>[] dependencyTasks = dependencies.get(imageConfiguration).stream()
+          .map(tasks::get).toArray(CompletableFuture[]::new);
+        final CompletableFuture<Void> task = CompletableFuture.allOf(dependencyTasks)
+          .thenRunAsync(() -> process(imageConfigurationConsumer, imageConfiguration), executor);
+        tasks.put(imageConfiguration, task);
+        orderedTasks.add(task);
+      }
+      CompletableFuture.allOf(orderedTasks.toArray(new CompletableFuture[0])).exceptionally(t -> null).get();
+      for (ImageConfiguration imageConfiguration : images) {
+        final CompletableFuture<Void> task = tasks.get(imageConfiguration);
+        if (task.isCompletedExceptionally()) {
+          task.get();
+        }
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new JKubeServiceException("Interrupted while processing the images", ex);
+    } catch (ExecutionException ex) {
+      final Throwable cause = ex.getCause() instanceof CompletionException ? ex.getCause().getCause() : ex.getCause();
+      if (cause instanceof JKubeServiceException) {
+        throw (JKubeServiceException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new JKubeServiceException(cause.getMessage(), cause);
+    }
+  }
+
+  private void process(ImageConfigurationProcessor imageConfigurationConsumer, ImageConfiguration imageConfiguration) {
+    // The thread isn't renamed after the image, it might be the caller's thread, the log prefix identifies the image
+    final KitLogger log = getImageLog(imageConfiguration);
+    try {
+      log.info("%s : Started", imageConfiguration.getDescription());
+      imageConfigurationConsumer.process(imageConfiguration);
+      log.info("%s : Finished", imageConfiguration.getDescription());
+    } catch (JKubeServiceException ex) {
+      log.error("%s : Failed: %s", imageConfiguration.getDescription(), ex.getMessage());
+      throw new CompletionException(ex);
+    }
+  }
+
+  /**
+   * Computes, for each of the provided images, the other provided images it depends on, either because they are
+   * its base image or because they are referenced in its run configuration (volumes, links, dependsOn).
+   */
+  static Map<ImageConfiguration, List<ImageConfiguration>> resolveDependencies(List<ImageConfiguration> images) {
+    final Map<ImageConfiguration, List<ImageConfiguration>> ret = new IdentityHashMap<>();
+    for (ImageConfiguration imageConfiguration : images) {
+      final Set<String> references = new HashSet<>(imageConfiguration.getDependencies());
+      Optional.ofNullable(imageConfiguration.getBuildConfiguration().getFrom()).ifPresent(references::add);
+      final Set<String> normalizedReferences = references.stream()
+        .map(AbstractImageBuildService::normalizeImageName).collect(Collectors.toSet());
+      ret.put(imageConfiguration, images.stream()
+        .filter(other -> other != imageConfiguration)
+        .filter(other -> references.contains(other.getAlias())
+          || normalizedReferences.contains(normalizeImageName(other.getName())))
+        .collect(Collectors.toList()));
+    }
+    return ret;
+  }
+
+  /**
+   * Sorts the provided images so that each image comes after the images it depends on.
+   */
+  static List<ImageConfiguration> sortByDependencies(
+    List<ImageConfiguration> images, Map<ImageConfiguration, List<ImageConfiguration>> dependencies)
+    throws JKubeServiceException {
+
+    final List<ImageConfiguration> ret = new ArrayList<>();
+    final Set<ImageConfiguration> resolved = Collections.newSetFromMap(new IdentityHashMap<>());
+    final List<ImageConfiguration> remaining = new ArrayList<>(images);
+    while (!remaining.isEmpty()) {
+      boolean changed = false;
+      final Iterator<ImageConfiguration> it = remaining.iterator();
+      while (it.hasNext()) {
+        final ImageConfiguration imageConfiguration = it.next();
+        if (resolved.containsAll(dependencies.get(imageConfiguration))) {
+          ret.add(imageConfiguration);
+          resolved.add(imageConfiguration);
+          it.remove();
+          changed = true;
+        }
+      }
+      if (!changed) {
+        throw new JKubeServiceException("Cannot resolve the dependencies between images: " + remaining.stream()
+          .map(ImageConfiguration::getDescription).collect(Collectors.joining(", ")));
+      }
+    }
+    return ret;
+  }
+
+  private static String normalizeImageName(String name) {
+    if (name == null) {
+      return null;
+    }
+    try {
+      return new ImageName(name).getFullName();
+    } catch (IllegalArgumentException ex) {
+      return name;
+    }
+  }
 }
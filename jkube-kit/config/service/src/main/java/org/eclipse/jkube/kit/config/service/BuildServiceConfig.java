@@ -51,6 +51,9 @@ public class BuildServiceConfig {
     private ResourceConfig resourceConfig;
     private File resourceDir;
     private String buildOutputKind;
+    private File jibCacheDir;
+    private boolean jibBuildToRegistry;
+    private int buildThreads;
 
     public void attachArtifact(String classifier, File destFile) {
         if (attacher != null) {
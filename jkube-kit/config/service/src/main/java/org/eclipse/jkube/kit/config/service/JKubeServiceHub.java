@@ -16,15 +16,19 @@ package org.eclipse.jkube.kit.config.service;
 import java.io.Closeable;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 import org.eclipse.jkube.kit.build.service.docker.access.DockerAccess;
+import org.eclipse.jkube.kit.build.service.docker.auth.AuthConfigCache;
 import org.eclipse.jkube.kit.common.service.MigrateService;
 import org.eclipse.jkube.kit.build.service.docker.DockerServiceHub;
 import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.common.util.AsyncUtil;
+import org.eclipse.jkube.kit.common.util.JKubeProjectUtil;
 import org.eclipse.jkube.kit.common.util.LazyBuilder;
 import org.eclipse.jkube.kit.config.access.ClusterAccess;
 import org.eclipse.jkube.kit.config.access.ClusterConfiguration;
@@ -41,6 +45,9 @@ import static org.eclipse.jkube.kit.common.util.OpenshiftHelper.isOpenShift;
 
 public class JKubeServiceHub implements Closeable {
 
+    static final String EXECUTOR_MAX_THREADS = "jkube.executor.maxThreads";
+    static final String EXECUTOR_VIRTUAL_THREADS = "jkube.executor.virtualThreads";
+
     @Getter
     private final JKubeConfiguration configuration;
     @Getter
@@ -51,6 +58,9 @@ public class JKubeServiceHub implements Closeable {
     private final BuildServiceConfig buildServiceConfig;
     @Getter
     private final ResourceServiceConfig resourceServiceConfig;
+    // Registry credentials resolved from credential helpers or ECR, reused by the build services of this hub only
+    @Getter
+    private final AuthConfigCache authConfigCache;
     private final ClusterAccess clusterAccess;
     @Getter
     @Setter
@@ -66,6 +76,7 @@ public class JKubeServiceHub implements Closeable {
     private LazyBuilder<JKubeServiceHub, HelmService> helmService;
     private LazyBuilder<JKubeServiceHub, ClusterAccess> clusterAccessLazyBuilder;
     private LazyBuilder<JKubeServiceHub, KubernetesClient> kubernetesClientLazyBuilder;
+    private LazyBuilder<JKubeServiceHub, ExecutorService> executorService;
     private final boolean offline;
 
     @Builder
@@ -84,6 +95,7 @@ public class JKubeServiceHub implements Closeable {
         this.resourceServiceConfig = resourceServiceConfig;
         this.resourceService = resourceService;
         this.offline = offline;
+        this.authConfigCache = new AuthConfigCache();
         init();
     }
 
@@ -92,6 +104,9 @@ public class JKubeServiceHub implements Closeable {
         if (kubernetesClientLazyBuilder.hasInstance()) {
             kubernetesClientLazyBuilder.get(this).close();
         }
+        if (executorService.hasInstance()) {
+            executorService.get(this).shutdownNow();
+        }
         Optional.ofNullable(dockerServiceHub).map(DockerServiceHub::getDockerAccess).ifPresent(DockerAccess::shutdown);
     }
 
@@ -123,6 +138,16 @@ public class JKubeServiceHub implements Closeable {
         });
         migrateService = new LazyBuilder<>(hub -> new MigrateService(getConfiguration().getBasedir(), log));
         helmService = new LazyBuilder<>(hub -> new HelmService(hub.getConfiguration(), hub.getResourceServiceConfig(), log));
+        executorService = new LazyBuilder<>(hub -> AsyncUtil.newExecutorService("jkube",
+            Optional.ofNullable(getProperty(EXECUTOR_MAX_THREADS)).map(Integer::parseInt).orElse(AsyncUtil.DEFAULT_MAX_THREADS),
+            Boolean.parseBoolean(getProperty(EXECUTOR_VIRTUAL_THREADS))));
+    }
+
+    private String getProperty(String key) {
+        if (configuration.getProject() == null) {
+            return System.getProperty(key);
+        }
+        return JKubeProjectUtil.getProperty(key, configuration.getProject());
     }
 
     private ClusterAccess initClusterAccessIfNecessary() {
@@ -184,4 +209,19 @@ public class JKubeServiceHub implements Closeable {
         return clusterAccessLazyBuilder.get(this);
     }
 
+    /**
+     * Returns the executor service shared by the services of this hub for their background work.
+     *
+     * <p> The executor is bounded (<code>jkube.executor.maxThreads</code>) and can be backed by virtual threads on JDK
+     * 21+ (<code>jkube.executor.virtualThreads</code>), it's shut down when the hub is closed.
+     * Once saturated, tasks run in the submitting thread, so it's meant for tasks that wait for other tasks
+     * (e.g. image builds). Short-lived leaf tasks use {@link AsyncUtil#async(java.util.concurrent.Callable)} and
+     * long-running ones {@link AsyncUtil#asyncInNewThread(String, java.util.concurrent.Callable)}.
+     *
+     * @return the shared executor service.
+     */
+    public ExecutorService getExecutorService() {
+        return executorService.get(this);
+    }
+
 }
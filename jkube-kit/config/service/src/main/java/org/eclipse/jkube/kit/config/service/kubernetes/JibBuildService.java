@@ -20,11 +20,14 @@ import org.eclipse.jkube.kit.build.api.assembly.AssemblyManager;
 import org.eclipse.jkube.kit.build.api.assembly.BuildDirs;
 import org.eclipse.jkube.kit.build.api.assembly.JKubeBuildTarArchiver;
 import org.eclipse.jkube.kit.build.api.auth.AuthConfig;
+import org.eclipse.jkube.kit.build.service.docker.auth.AuthConfigCache;
 import org.eclipse.jkube.kit.build.service.docker.auth.AuthConfigFactory;
 import org.eclipse.jkube.kit.common.Assembly;
 import org.eclipse.jkube.kit.common.AssemblyFileEntry;
 import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.archive.ArchiveCompression;
+import org.eclipse.jkube.kit.common.util.FileUtil;
+import org.eclipse.jkube.kit.common.util.JKubeProjectUtil;
 import org.eclipse.jkube.kit.config.image.ImageConfiguration;
 import org.eclipse.jkube.kit.config.image.ImageName;
 import org.eclipse.jkube.kit.common.RegistryConfig;
@@ -38,9 +41,11 @@ import org.eclipse.jkube.kit.service.jib.JibServiceUtil;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import static org.eclipse.jkube.kit.build.api.helper.RegistryUtil.getApplicablePullRegistryFrom;
 import static org.eclipse.jkube.kit.build.api.helper.RegistryUtil.getApplicablePushRegistryFrom;
@@ -49,13 +54,14 @@ import static org.eclipse.jkube.kit.service.jib.JibServiceUtil.getBaseImage;
 
 public class JibBuildService extends AbstractImageBuildService {
 
-    private final KitLogger log;
+    private final JKubeServiceHub jKubeServiceHub;
     private final BuildServiceConfig buildServiceConfig;
     private final JKubeConfiguration configuration;
 
     public JibBuildService(JKubeServiceHub jKubeServiceHub) {
         super(jKubeServiceHub);
-        this.log = Objects.requireNonNull(jKubeServiceHub.getLog(), "Log is required");
+        this.jKubeServiceHub = jKubeServiceHub;
+        Objects.requireNonNull(jKubeServiceHub.getLog(), "Log is required");
         this.buildServiceConfig = Objects.requireNonNull(jKubeServiceHub.getBuildServiceConfig(),
             "BuildServiceConfig is required");
         this.configuration = Objects.requireNonNull(jKubeServiceHub.getConfiguration(),
@@ -69,8 +75,9 @@ public class JibBuildService extends AbstractImageBuildService {
 
     @Override
     public void buildSingleImage(ImageConfiguration imageConfig) throws JKubeServiceException {
+        final KitLogger imageLog = getImageLog(imageConfig);
         try {
-            log.info("[[B]]JIB[[B]] image build started");
+            imageLog.info("[[B]]JIB[[B]] image build started");
             if (imageConfig.getBuildConfiguration().isDockerFileMode()) {
                 throw new JKubeServiceException("Dockerfile mode is not supported with JIB build strategy");
             }
@@ -79,23 +86,32 @@ public class JibBuildService extends AbstractImageBuildService {
             BuildDirs buildDirs = new BuildDirs(imageConfig.getName(), configuration);
             String pullRegistry = getApplicableRegistry(false, imageConfig, configuration.getRegistryConfig());
             final Credential pullRegistryCredential = getRegistryCredentials(
-                configuration.getRegistryConfig(), false, pullRegistry, log);
+                jKubeServiceHub.getAuthConfigCache(), configuration.getRegistryConfig(), false, pullRegistry, imageLog);
             final JibContainerBuilder containerBuilder = containerFromImageConfiguration(imageConfig, pullRegistry, pullRegistryCredential);
+            // Jib layers are already reproducible, the creation time is the only varying input for the image digest
+            JKubeProjectUtil.getOutputTimestamp(configuration.getProject()).ifPresent(containerBuilder::setCreationTime);
 
+            // Layers are created straight from the source files, no need to stage them or create an intermediate tar
+            imageLog.info("Preparing assembly files");
             final Map<Assembly, List<AssemblyFileEntry>> layers = AssemblyManager.getInstance()
-                .copyFilesToFinalTarballDirectory(configuration, buildDirs,
+                .resolveFiles(configuration, buildDirs,
                     AssemblyManager.getAssemblyConfiguration(imageConfig.getBuildConfiguration(), configuration));
             JibServiceUtil.layers(buildDirs, layers).forEach(containerBuilder::addFileEntriesLayer);
 
-            // TODO: Improve Assembly Manager so that the effective assemblyFileEntries computed can be properly shared
-            // the call to AssemblyManager.getInstance().createDockerTarArchive should not be necessary,
-            // files should be added using the AssemblyFileEntry list. AssemblyManager, should provide
-            // a common way to achieve this so that both the tar builder and any other builder could get a hold of
-            // archive customizers, file entries, etc.
-            File dockerTarArchive = getAssemblyTarArchive(imageConfig, configuration, log);
-            JibServiceUtil.buildContainer(containerBuilder,
-                TarImage.at(dockerTarArchive.toPath()).named(imageConfig.getName()), log);
-            log.info(" %s successfully built", dockerTarArchive.getAbsolutePath());
+            if (buildServiceConfig.isJibBuildToRegistry()) {
+                // Straight to the registry, layers already present in the registry are skipped
+                JibServiceUtil.buildAndPushContainer(containerBuilder, imageConfig,
+                    getRegistryCredentials(jKubeServiceHub.getAuthConfigCache(), configuration.getRegistryConfig(), true, pushRegistry, imageLog),
+                    getApplicationLayersCache(), jKubeServiceHub.getExecutorService(), !isConcurrent(), imageLog);
+                imageLog.info(" %s successfully built and pushed", imageConfig.getName());
+            } else {
+                final File imageTarArchive = getBuildTarArchive(imageConfig, configuration);
+                FileUtil.createDirectory(imageTarArchive.getParentFile());
+                JibServiceUtil.buildContainer(containerBuilder,
+                    TarImage.at(imageTarArchive.toPath()).named(imageConfig.getName()), getApplicationLayersCache(),
+                    jKubeServiceHub.getExecutorService(), !isConcurrent(), imageLog);
+                imageLog.info(" %s successfully built", imageTarArchive.getAbsolutePath());
+            }
         } catch (InterruptedException ex) {
             Thread.currentThread().interrupt();
         } catch (Exception ex) {
@@ -105,15 +121,23 @@ public class JibBuildService extends AbstractImageBuildService {
 
     @Override
     protected void pushSingleImage(ImageConfiguration imageConfiguration, int retries, RegistryConfig registryConfig, boolean skipTag) throws JKubeServiceException {
+        final KitLogger imageLog = getImageLog(imageConfiguration);
+        if (buildServiceConfig.isJibBuildToRegistry()) {
+            imageLog.info("Image %s was pushed to the registry during build. Skipping...", imageConfiguration.getName());
+            return;
+        }
         try {
             String pushRegistry = getApplicableRegistry(true, imageConfiguration, registryConfig);
             prependRegistry(imageConfiguration, pushRegistry);
-            log.info("This push refers to: %s", imageConfiguration.getName());
+            imageLog.info("This push refers to: %s", imageConfiguration.getName());
             JibServiceUtil.jibPush(
                 imageConfiguration,
-                getRegistryCredentials(registryConfig, true, pushRegistry, log),
+                getRegistryCredentials(jKubeServiceHub.getAuthConfigCache(), registryConfig, true, pushRegistry, imageLog),
                 getBuildTarArchive(imageConfiguration, configuration),
-                log
+                JKubeProjectUtil.getOutputTimestamp(configuration.getProject()).orElse(null),
+                jKubeServiceHub.getExecutorService(),
+                !isConcurrent(),
+                imageLog
             );
         } catch (Exception ex) {
             throw new JKubeServiceException("Error when push JIB image", ex);
@@ -125,6 +149,12 @@ public class JibBuildService extends AbstractImageBuildService {
         // No post processing required
     }
 
+    private Path getApplicationLayersCache() {
+        return Optional.ofNullable(buildServiceConfig.getJibCacheDir())
+            .map(File::toPath)
+            .orElseGet(JibServiceUtil::getDefaultApplicationLayersCacheDirectory);
+    }
+
     static ImageConfiguration prependRegistry(ImageConfiguration imageConfiguration, String registry) {
         ImageName imageName = new ImageName(imageConfiguration.getName());
         if (!imageName.hasRegistry() && registry != null) {
@@ -134,17 +164,16 @@ public class JibBuildService extends AbstractImageBuildService {
         return imageConfiguration;
     }
 
-    static File getAssemblyTarArchive(ImageConfiguration imageConfig, JKubeConfiguration configuration, KitLogger log) throws IOException {
-        log.info("Preparing assembly files");
-        final String targetImage = imageConfig.getName();
-        return AssemblyManager.getInstance()
-                .createDockerTarArchive(targetImage, configuration, imageConfig.getBuildConfiguration(), log, null);
+    static Credential getRegistryCredentials(
+        RegistryConfig registryConfig, boolean isPush, String registry, KitLogger log)
+        throws IOException {
+        return getRegistryCredentials(new AuthConfigCache(), registryConfig, isPush, registry, log);
     }
 
     static Credential getRegistryCredentials(
-        RegistryConfig registryConfig, boolean isPush, String registry, KitLogger log)
+        AuthConfigCache authConfigCache, RegistryConfig registryConfig, boolean isPush, String registry, KitLogger log)
         throws IOException {
-        AuthConfigFactory authConfigFactory = new AuthConfigFactory(log);
+        AuthConfigFactory authConfigFactory = new AuthConfigFactory(log, authConfigCache);
         AuthConfig standardAuthConfig = authConfigFactory.createAuthConfig(isPush, registryConfig.isSkipExtendedAuth(), registryConfig.getAuthConfig(), registryConfig.getSettings(), null, registry, registryConfig.getPasswordDecryptionMethod());
         Credential credentials = null;
         if (standardAuthConfig != null) {
@@ -241,7 +241,7 @@ public class OpenshiftBuildService extends AbstractImageBuildService {
         return applicableImageConfigBuilder.build();
     }
 
-    private void initClient() {
+    private synchronized void initClient() {
         KubernetesClient k8sClient = jKubeServiceHub.getClient();
         if (!isOpenShift(k8sClient)) {
             throw new IllegalStateException("OpenShift platform has been specified but OpenShift has not been detected!");
@@ -345,7 +345,7 @@ public class OpenshiftBuildService extends AbstractImageBuildService {
 
         if (pullRegistry != null) {
             RegistryConfig registryConfig = jKubeConfiguration.getRegistryConfig();
-            final AuthConfig authConfig = new AuthConfigFactory(log).createAuthConfig(false, registryConfig.isSkipExtendedAuth(), registryConfig.getAuthConfig(),
+            final AuthConfig authConfig = new AuthConfigFactory(log, jKubeServiceHub.getAuthConfigCache()).createAuthConfig(false, registryConfig.isSkipExtendedAuth(), registryConfig.getAuthConfig(),
                     registryConfig.getSettings(), null, pullRegistry, registryConfig.getPasswordDecryptionMethod());
 
             final Secret secret = Optional.ofNullable(pullSecretName)
@@ -614,7 +614,7 @@ public class OpenshiftBuildService extends AbstractImageBuildService {
         }
     }
 
-    private void addImageStreamToFile(File imageStreamFile, ImageName imageName, OpenShiftClient client) throws IOException {
+    private synchronized void addImageStreamToFile(File imageStreamFile, ImageName imageName, OpenShiftClient client) throws IOException {
         ImageStreamService imageStreamHandler = new ImageStreamService(client, applicableOpenShiftNamespace, log);
         imageStreamHandler.appendImageStreamResource(imageName, imageStreamFile);
     }
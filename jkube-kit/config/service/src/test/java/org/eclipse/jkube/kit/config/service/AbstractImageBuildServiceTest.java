@@ -0,0 +1,269 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.kit.config.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.common.RegistryConfig;
+import org.eclipse.jkube.kit.common.util.AsyncUtil;
+import org.eclipse.jkube.kit.config.image.ImageConfiguration;
+import org.eclipse.jkube.kit.config.image.build.BuildConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AbstractImageBuildServiceTest {
+
+  private ExecutorService executorService;
+
+  private JKubeServiceHub jKubeServiceHub;
+
+  @BeforeEach
+  void setUp() {
+    executorService = AsyncUtil.newExecutorService("test", 8, false);
+    jKubeServiceHub = mock(JKubeServiceHub.class, RETURNS_DEEP_STUBS);
+    when(jKubeServiceHub.getLog()).thenReturn(new KitLogger.SilentLogger());
+    when(jKubeServiceHub.getExecutorService()).thenReturn(executorService);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  void build_withDefaultBuildThreads_shouldBuildImagesSequentiallyInOrder() throws JKubeServiceException {
+    // Given
+    when(jKubeServiceHub.getBuildServiceConfig()).thenReturn(BuildServiceConfig.builder().build());
+    final TestImageBuildService buildService = new TestImageBuildService(jKubeServiceHub);
+    // When
+    buildService.build(image("first", "base:latest"), image("second", "base:latest"), image("third", "base:latest"));
+    // Then
+    assertThat(buildService.processed).containsExactly("first", "second", "third");
+    assertThat(buildService.threads).containsOnly(Thread.currentThread().getName());
+  }
+
+  @Test
+  void build_withMultipleBuildThreads_shouldBuildIndependentImagesConcurrently() throws JKubeServiceException {
+    // Given
+    when(jKubeServiceHub.getBuildServiceConfig()).thenReturn(BuildServiceConfig.builder().buildThreads(2).build());
+    final CountDownLatch bothStarted = new CountDownLatch(2);
+    final TestImageBuildService buildService = new TestImageBuildService(jKubeServiceHub) {
+      @Override
+      protected void buildSingleImage(ImageConfiguration imageConfiguration) throws JKubeServiceException {
+        bothStarted.countDown();
+        try {
+          if (!bothStarted.await(10, TimeUnit.SECONDS)) {
+            throw new JKubeServiceException("Images weren't built concurrently");
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        super.buildSingleImage(imageConfiguration);
+      }
+    };
+    // When
+    buildService.build(image("first", "base:latest"), image("second", "base:latest"));
+    // Then
+    assertThat(buildService.processed).containsExactlyInAnyOrder("first", "second");
+    assertThat(buildService.threads).hasSize(2).doesNotHaveDuplicates();
+  }
+
+  @Test
+  void build_withMultipleBuildThreads_shouldNotRenameThreads() throws JKubeServiceException {
+    // Given
+    when(jKubeServiceHub.getBuildServiceConfig()).thenReturn(BuildServiceConfig.builder().buildThreads(2).build());
+    final String callerThreadName = Thread.currentThread().getName();
+    final TestImageBuildService buildService = new TestImageBuildService(jKubeServiceHub);
+    // When
+    buildService.build(image("first", "base:latest"), image("second", "base:latest"), image("third", "base:latest"));
+    // Then
+    assertThat(buildService.threads).doesNotContain("first", "second", "third");
+    assertThat(Thread.currentThread().getName()).isEqualTo(callerThreadName);
+  }
+
+  @Test
+  void build_withMultipleBuildThreads_shouldNotProcessMoreImagesThanBuildThreadsAtOnce() throws JKubeServiceException {
+    // Given
+    when(jKubeServiceHub.getBuildServiceConfig()).thenReturn(BuildServiceConfig.builder().buildThreads(2).build());
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger maxRunning = new AtomicInteger();
+    final TestImageBuildService buildService = new TestImageBuildService(jKubeServiceHub) {
+      @Override
+      protected void buildSingleImage(ImageConfiguration imageConfiguration) throws JKubeServiceException {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+          Thread.sleep(20L);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        running.decrementAndGet();
+        super.buildSingleImage(imageConfiguration);
+      }
+    };
+    // When
+    buildService.build(image("first", "base:latest"), image("second", "base:latest"),
+      image("third", "base:latest"), image("fourth", "base:latest"));
+    // Then
+    assertThat(buildService.processed).containsExactlyInAnyOrder("first", "second", "third", "fourth");
+    assertThat(maxRunning.get()).isBetween(1, 2);
+  }
+
+  @Test
+  void build_withMultipleBuildThreads_shouldPrefixImageMessagesWithImageAlias() throws JKubeServiceException {
+    // Given
+    final KitLogger logger = spy(new KitLogger.SilentLogger());
+    when(jKubeServiceHub.getLog()).thenReturn(logger);
+    when(jKubeServiceHub.getBuildServiceConfig()).thenReturn(BuildServiceConfig.builder().buildThreads(2).build());
+    final TestImageBuildService buildService = new TestImageBuildService(jKubeServiceHub);
+    // When
+    buildService.build(image("first", "base:latest"), image("second", "base:latest"));
+    // Then
+    verify(logger).info(eq("first: %s : Started"), any());
+    verify(logger).info(eq("second: %s : Finished"), any());
+  }
+
+  @Test
+  void build_withDefaultBuildThreads_shouldNotPrefixImageMessages() throws JKubeServiceException {
+    // Given
+    final KitLogger logger = spy(new KitLogger.SilentLogger());
+    when(jKubeServiceHub.getLog()).thenReturn(logger);
+    when(jKubeServiceHub.getBuildServiceConfig()).thenReturn(BuildServiceConfig.builder().build());
+    final TestImageBuildService buildService = new TestImageBuildService(jKubeServiceHub);
+    // When
+    final KitLogger result = buildService.getImageLog(image("first", "base:latest"));
+    // Then
+    assertThat(result).isSameAs(logger);
+  }
+
+  @Test
+  void build_withMultipleBuildThreads_shouldBuildBaseImageBeforeDependentImages() throws JKubeServiceException {
+    // Given
+    when(jKubeServiceHub.getBuildServiceConfig()).thenReturn(BuildServiceConfig.builder().buildThreads(4).build());
+    final TestImageBuildService buildService = new TestImageBuildService(jKubeServiceHub);
+    // When
+    buildService.build(
+      image("app", "test/base:latest"),
+      image("sidecar", "test/base"),
+      image("base", "busybox:latest"));
+    // Then
+    assertThat(buildService.processed)
+      .hasSize(3)
+      .startsWith("base")
+      .containsExactlyInAnyOrder("base", "app", "sidecar");
+  }
+
+  @Test
+  void build_withFailingBaseImage_shouldThrowExceptionAndNotBuildDependentImages() {
+    // Given
+    when(jKubeServiceHub.getBuildServiceConfig()).thenReturn(BuildServiceConfig.builder().buildThreads(2).build());
+    final TestImageBuildService buildService = new TestImageBuildService(jKubeServiceHub) {
+      @Override
+      protected void buildSingleImage(ImageConfiguration imageConfiguration) throws JKubeServiceException {
+        if (imageConfiguration.getAlias().equals("base")) {
+          throw new JKubeServiceException("Failure in base");
+        }
+        super.buildSingleImage(imageConfiguration);
+      }
+    };
+    // When + Then
+    assertThatThrownBy(() -> buildService.build(
+      image("app", "test/base:latest"), image("base", "busybox:latest"), image("other", "busybox:latest")))
+      .isInstanceOf(JKubeServiceException.class)
+      .hasMessage("Failure in base");
+    assertThat(buildService.processed).containsExactly("other");
+  }
+
+  @Test
+  void build_withCyclicDependencies_shouldThrowException() {
+    // Given
+    when(jKubeServiceHub.getBuildServiceConfig()).thenReturn(BuildServiceConfig.builder().buildThreads(2).build());
+    final TestImageBuildService buildService = new TestImageBuildService(jKubeServiceHub);
+    // When + Then
+    assertThatThrownBy(() -> buildService.build(image("app", "test/base:latest"), image("base", "test/app:latest")))
+      .isInstanceOf(JKubeServiceException.class)
+      .hasMessageStartingWith("Cannot resolve the dependencies between images: ");
+    assertThat(buildService.processed).isEmpty();
+  }
+
+  @Test
+  void push_withMultipleBuildThreads_shouldPushAllImages() throws JKubeServiceException {
+    // Given
+    when(jKubeServiceHub.getBuildServiceConfig()).thenReturn(BuildServiceConfig.builder().buildThreads(2).build());
+    final TestImageBuildService buildService = new TestImageBuildService(jKubeServiceHub);
+    // When
+    buildService.push(
+      Arrays.asList(image("first", "base:latest"), image("second", "base:latest")), 0, null, false);
+    // Then
+    assertThat(buildService.processed).containsExactlyInAnyOrder("first", "second");
+  }
+
+  private static ImageConfiguration image(String alias, String from) {
+    return ImageConfiguration.builder()
+      .name("test/" + alias + ":latest")
+      .alias(alias)
+      .build(BuildConfiguration.builder().from(from).build())
+      .build();
+  }
+
+  private static class TestImageBuildService extends AbstractImageBuildService {
+
+    final List<String> processed = Collections.synchronizedList(new ArrayList<>());
+    final List<String> threads = Collections.synchronizedList(new ArrayList<>());
+
+    TestImageBuildService(JKubeServiceHub jKubeServiceHub) {
+      super(jKubeServiceHub);
+    }
+
+    @Override
+    protected void buildSingleImage(ImageConfiguration imageConfiguration) throws JKubeServiceException {
+      processed.add(imageConfiguration.getAlias());
+      threads.add(Thread.currentThread().getName());
+    }
+
+    @Override
+    protected void pushSingleImage(ImageConfiguration imageConfiguration, int retries, RegistryConfig registryConfig,
+      boolean skipTag) {
+      processed.add(imageConfiguration.getAlias());
+    }
+
+    @Override
+    public boolean isApplicable() {
+      return true;
+    }
+
+    @Override
+    public void postProcess() {
+      // NO-OP
+    }
+  }
+}
@@ -13,6 +13,8 @@
  */
 package org.eclipse.jkube.kit.config.service;
 
+import java.util.concurrent.ExecutorService;
+
 import org.eclipse.jkube.kit.build.service.docker.DockerServiceHub;
 import org.eclipse.jkube.kit.common.JKubeConfiguration;
 import org.eclipse.jkube.kit.common.KitLogger;
@@ -306,4 +308,25 @@ class JKubeServiceHubTest {
     // Then
     verify(openShiftClient, times(1)).close();
   }
+
+  @Test
+  void getExecutorService_returnsSameInstance() {
+    try (final JKubeServiceHub jKubeServiceHub = jKubeServiceHubBuilder.build()) {
+      // When
+      final ExecutorService result = jKubeServiceHub.getExecutorService();
+      // Then
+      assertThat(result).isNotNull().isSameAs(jKubeServiceHub.getExecutorService());
+    }
+  }
+
+  @Test
+  void closeShutsDownInitializedExecutorService() {
+    // Given
+    final ExecutorService executorService;
+    try (final JKubeServiceHub jKubeServiceHub = jKubeServiceHubBuilder.build()) {
+      executorService = jKubeServiceHub.getExecutorService();
+    }
+    // Then
+    assertThat(executorService.isShutdown()).isTrue();
+  }
 }
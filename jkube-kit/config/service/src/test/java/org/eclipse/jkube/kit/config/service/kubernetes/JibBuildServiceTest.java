@@ -17,11 +17,16 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
 
+import org.eclipse.jkube.kit.build.service.docker.auth.AuthConfigCache;
 import org.eclipse.jkube.kit.common.JKubeConfiguration;
 import org.eclipse.jkube.kit.common.JavaProject;
 import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.common.PrefixedLogger;
 import org.eclipse.jkube.kit.common.RegistryConfig;
 import org.eclipse.jkube.kit.common.RegistryServerConfiguration;
 import org.eclipse.jkube.kit.config.image.ImageConfiguration;
@@ -32,6 +37,7 @@ import org.eclipse.jkube.kit.config.service.JKubeServiceHub;
 import org.eclipse.jkube.kit.service.jib.JibServiceUtil;
 
 import com.google.cloud.tools.jib.api.Credential;
+import com.google.cloud.tools.jib.api.JibContainerBuilder;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -40,7 +46,9 @@ import org.mockito.MockedStatic;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -67,6 +75,7 @@ class JibBuildServiceTest {
         mockedLogger = mock(KitLogger.class, RETURNS_DEEP_STUBS);
         mockedServiceHub = mock(JKubeServiceHub.class, RETURNS_DEEP_STUBS);
         when(mockedServiceHub.getLog()).thenReturn(mockedLogger);
+        when(mockedServiceHub.getAuthConfigCache()).thenReturn(new AuthConfigCache());
         jibServiceUtilMockedStatic = mockStatic(JibServiceUtil.class);
         imageConfiguration = ImageConfiguration.builder()
             .name("test/testimage:0.0.1")
@@ -152,18 +161,6 @@ class JibBuildServiceTest {
     }
 
 
-    @Test
-    void getAssemblyTarArchive() throws IOException {
-        // Given
-        File projectBaseDir = Files.createDirectory(temporaryFolder.resolve("test")).toFile();
-        // When
-        File tarArchive = JibBuildService.getAssemblyTarArchive(imageConfiguration, createJKubeConfiguration(projectBaseDir), mockedLogger);
-        // Then
-        assertThat(tarArchive).isNotNull()
-            .isEqualTo(projectBaseDir.toPath().resolve("target").resolve("test").resolve("testimage").resolve("0.0.1")
-                .resolve("tmp").resolve("docker-build.tar").toFile());
-    }
-
     @Test
     void prependRegistry() {
         // When
@@ -178,7 +175,7 @@ class JibBuildServiceTest {
         // When
         new JibBuildService(mockedServiceHub).push(Collections.emptyList(), 1, null, false);
         // Then
-        jibServiceUtilMockedStatic.verify(() -> JibServiceUtil.jibPush(any(), any(), any(), eq(mockedLogger)), times(0));
+        jibServiceUtilMockedStatic.verify(() -> JibServiceUtil.jibPush(any(), any(), any(), any(), any(), anyBoolean(), eq(mockedLogger)), times(0));
     }
 
     @Test
@@ -188,10 +185,12 @@ class JibBuildServiceTest {
             .settings(Collections.singletonList(createNewRegistryServerConfiguration("docker.io", "testuserpush", "testpass")))
             .passwordDecryptionMethod(s -> s)
             .build();
+        final ExecutorService executorService = mock(ExecutorService.class);
+        when(mockedServiceHub.getExecutorService()).thenReturn(executorService);
         // When
         new JibBuildService(mockedServiceHub).push(Collections.singletonList(imageConfiguration), 1, registryConfig, false);
         // Then
-        jibServiceUtilMockedStatic.verify(() -> JibServiceUtil.jibPush(eq(imageConfiguration), eq(Credential.from("testuserpush", "testpass")), any(), eq(mockedLogger)), times(1));
+        jibServiceUtilMockedStatic.verify(() -> JibServiceUtil.jibPush(eq(imageConfiguration), eq(Credential.from("testuserpush", "testpass")), any(), any(), eq(executorService), eq(true), eq(mockedLogger)), times(1));
     }
 
     @Test
@@ -207,7 +206,7 @@ class JibBuildServiceTest {
         // When
         new JibBuildService(mockedServiceHub).push(Collections.singletonList(imageConfiguration), 1, registryConfig, false);
         // Then
-        jibServiceUtilMockedStatic.verify(() -> JibServiceUtil.jibPush(any(), any(), any(), any()), times(0));
+        jibServiceUtilMockedStatic.verify(() -> JibServiceUtil.jibPush(any(), any(), any(), any(), any(), anyBoolean(), any()), times(0));
     }
 
     @Test
@@ -219,7 +218,7 @@ class JibBuildServiceTest {
         // When
         new JibBuildService(mockedServiceHub).build(imageConfiguration);
         // Then
-        jibServiceUtilMockedStatic.verify(() -> JibServiceUtil.buildContainer(any(), any(), any()), times(0));
+        jibServiceUtilMockedStatic.verify(() -> JibServiceUtil.buildContainer(any(), any(), any(), any(), anyBoolean(), any()), times(0));
     }
 
     @Test
@@ -235,7 +234,7 @@ class JibBuildServiceTest {
         // When
         new JibBuildService(mockedServiceHub).build(imageConfiguration);
         // Then
-        jibServiceUtilMockedStatic.verify(() -> JibServiceUtil.buildContainer(any(), any(), any()), times(0));
+        jibServiceUtilMockedStatic.verify(() -> JibServiceUtil.buildContainer(any(), any(), any(), any(), anyBoolean(), any()), times(0));
     }
 
     @Test
@@ -250,6 +249,109 @@ class JibBuildServiceTest {
         verify(mockedServiceHub.getPluginManager().resolvePluginService(), times(1)).addExtraFiles();
     }
 
+    @Test
+    void build_withJibCacheDir_shouldUseItAsApplicationLayersCache() throws Exception {
+        // Given
+        final File projectBaseDir = Files.createDirectory(temporaryFolder.resolve("test")).toFile();
+        final File jibCacheDir = temporaryFolder.resolve("jib-cache").toFile();
+        when(mockedServiceHub.getConfiguration()).thenReturn(createJKubeConfiguration(projectBaseDir).toBuilder()
+            .registryConfig(registryConfig)
+            .build());
+        when(mockedServiceHub.getBuildServiceConfig().getJibCacheDir()).thenReturn(jibCacheDir);
+        jibServiceUtilMockedStatic.when(() -> JibServiceUtil.containerFromImageConfiguration(any(), any(), any()))
+            .thenReturn(mock(JibContainerBuilder.class));
+        // When
+        new JibBuildService(mockedServiceHub).build(imageConfiguration);
+        // Then
+        jibServiceUtilMockedStatic.verify(() -> JibServiceUtil.buildContainer(
+            any(), any(), eq(jibCacheDir.toPath()), any(), eq(true), eq(mockedLogger)), times(1));
+    }
+
+    @Test
+    void build_shouldUseServiceHubExecutorService() throws Exception {
+        // Given
+        final File projectBaseDir = Files.createDirectory(temporaryFolder.resolve("test")).toFile();
+        final ExecutorService executorService = mock(ExecutorService.class);
+        when(mockedServiceHub.getConfiguration()).thenReturn(createJKubeConfiguration(projectBaseDir).toBuilder()
+            .registryConfig(registryConfig)
+            .build());
+        when(mockedServiceHub.getExecutorService()).thenReturn(executorService);
+        jibServiceUtilMockedStatic.when(() -> JibServiceUtil.containerFromImageConfiguration(any(), any(), any()))
+            .thenReturn(mock(JibContainerBuilder.class));
+        // When
+        new JibBuildService(mockedServiceHub).build(imageConfiguration);
+        // Then
+        jibServiceUtilMockedStatic.verify(() -> JibServiceUtil.buildContainer(
+            any(), any(), any(), eq(executorService), eq(true), eq(mockedLogger)), times(1));
+    }
+
+    @Test
+    void build_withMultipleBuildThreads_shouldUsePrefixedLoggerWithoutAnsiProgress() throws Exception {
+        // Given
+        final File projectBaseDir = Files.createDirectory(temporaryFolder.resolve("test")).toFile();
+        when(mockedServiceHub.getConfiguration()).thenReturn(createJKubeConfiguration(projectBaseDir).toBuilder()
+            .registryConfig(registryConfig)
+            .build());
+        when(mockedServiceHub.getBuildServiceConfig().getBuildThreads()).thenReturn(2);
+        jibServiceUtilMockedStatic.when(() -> JibServiceUtil.containerFromImageConfiguration(any(), any(), any()))
+            .thenReturn(mock(JibContainerBuilder.class));
+        // When
+        new JibBuildService(mockedServiceHub).build(imageConfiguration);
+        // Then
+        jibServiceUtilMockedStatic.verify(() -> JibServiceUtil.buildContainer(
+            any(), any(), any(), any(), eq(false), isA(PrefixedLogger.class)), times(1));
+    }
+
+    @Test
+    void build_withOutputTimestamp_shouldSetImageCreationTime() throws Exception {
+        // Given
+        final File projectBaseDir = Files.createDirectory(temporaryFolder.resolve("test")).toFile();
+        final Properties properties = new Properties();
+        properties.put("project.build.outputTimestamp", "2023-11-14T22:13:20Z");
+        final JibContainerBuilder containerBuilder = mock(JibContainerBuilder.class);
+        when(mockedServiceHub.getConfiguration()).thenReturn(JKubeConfiguration.builder()
+            .outputDirectory("target")
+            .project(JavaProject.builder().baseDirectory(projectBaseDir).properties(properties).build())
+            .registryConfig(registryConfig)
+            .build());
+        jibServiceUtilMockedStatic.when(() -> JibServiceUtil.containerFromImageConfiguration(any(), any(), any()))
+            .thenReturn(containerBuilder);
+        // When
+        new JibBuildService(mockedServiceHub).build(imageConfiguration);
+        // Then
+        verify(containerBuilder).setCreationTime(Instant.ofEpochSecond(1_700_000_000L));
+    }
+
+    @Test
+    void build_withJibBuildToRegistry_shouldBuildAndPushWithoutTarball() throws Exception {
+        // Given
+        final File projectBaseDir = Files.createDirectory(temporaryFolder.resolve("test")).toFile();
+        when(mockedServiceHub.getConfiguration()).thenReturn(createJKubeConfiguration(projectBaseDir).toBuilder()
+            .registryConfig(registryConfig)
+            .build());
+        when(mockedServiceHub.getBuildServiceConfig().isJibBuildToRegistry()).thenReturn(true);
+        jibServiceUtilMockedStatic.when(() -> JibServiceUtil.containerFromImageConfiguration(any(), any(), any()))
+            .thenReturn(mock(JibContainerBuilder.class));
+        // When
+        new JibBuildService(mockedServiceHub).build(imageConfiguration);
+        // Then
+        jibServiceUtilMockedStatic.verify(() -> JibServiceUtil.buildAndPushContainer(
+            any(), eq(imageConfiguration), any(), any(), any(), eq(true), eq(mockedLogger)), times(1));
+        jibServiceUtilMockedStatic.verify(() -> JibServiceUtil.buildContainer(any(), any(), any(), any(), anyBoolean(), any()), times(0));
+        assertThat(JibBuildService.getBuildTarArchive(imageConfiguration, createJKubeConfiguration(projectBaseDir)))
+            .doesNotExist();
+    }
+
+    @Test
+    void push_withJibBuildToRegistry_shouldNotPushImage() throws JKubeServiceException {
+        // Given
+        when(mockedServiceHub.getBuildServiceConfig().isJibBuildToRegistry()).thenReturn(true);
+        // When
+        new JibBuildService(mockedServiceHub).push(Collections.singletonList(imageConfiguration), 1, registryConfig, false);
+        // Then
+        jibServiceUtilMockedStatic.verify(() -> JibServiceUtil.jibPush(any(), any(), any(), any(), any(), anyBoolean(), any()), times(0));
+    }
+
     private static JKubeConfiguration createJKubeConfiguration(File projectBaseDir) {
         return JKubeConfiguration.builder()
             .outputDirectory("target")
@@ -15,6 +15,7 @@ package org.eclipse.jkube.kit.enricher.api;
 
 import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
 import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.common.Named;
 import org.eclipse.jkube.kit.common.util.ClassUtil;
 import org.eclipse.jkube.kit.common.util.PluginServiceFactory;
 import org.eclipse.jkube.kit.config.resource.EnricherManager;
@@ -25,8 +26,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
-
-import static org.eclipse.jkube.kit.enricher.api.util.Misc.filterEnrichers;
+import java.util.stream.Collectors;
 
 public class DefaultEnricherManager implements EnricherManager {
 
@@ -38,7 +38,7 @@ public class DefaultEnricherManager implements EnricherManager {
   };
 
   // List of enrichers used for customizing the generated deployment descriptors
-  private final List<Enricher> enrichers;
+  private final List<LazyEnricher> enrichers;
 
   // context used by enrichers
   private final ProcessorConfig defaultEnricherConfig;
@@ -58,7 +58,9 @@ public class DefaultEnricherManager implements EnricherManager {
       pluginFactory.addAdditionalClassLoader(
           ClassUtil.createProjectClassLoader(extraClasspathElements, enricherContext.getLog()));
     }
-    this.enrichers = pluginFactory.createServiceObjects(SERVICE_PATHS);
+    this.enrichers = pluginFactory.<Enricher>createLazyServiceObjects(SERVICE_PATHS).stream()
+        .map(LazyEnricher::new)
+        .collect(Collectors.toList());
 
     logEnrichers(filterEnrichers(defaultEnricherConfig, enrichers));
   }
@@ -109,4 +111,33 @@ public class DefaultEnricherManager implements EnricherManager {
       function.apply(enricher);
     }
   }
+
+  private static List<Enricher> filterEnrichers(ProcessorConfig config, List<LazyEnricher> enrichers) {
+    return config.prepareProcessors(enrichers, "enricher").stream()
+        .map(LazyEnricher::get)
+        .collect(Collectors.toList());
+  }
+
+  private static final class LazyEnricher implements Named {
+
+    private final PluginServiceFactory.LazyService<Enricher> service;
+
+    private LazyEnricher(PluginServiceFactory.LazyService<Enricher> service) {
+      this.service = service;
+    }
+
+    /**
+     * Returns the name declared in the enricher descriptor, the enricher is only instantiated to resolve
+     * its name if the descriptor doesn't declare it (e.g. third-party descriptors).
+     */
+    @Override
+    public String getName() {
+      final String name = service.getName();
+      return name != null ? name : get().getName();
+    }
+
+    private Enricher get() {
+      return service.get();
+    }
+  }
 }
@@ -13,14 +13,20 @@
  */
 package org.eclipse.jkube.kit.enricher.api.util;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.net.UnknownHostException;
 import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -33,11 +39,13 @@ import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Matcher;
 import java.util.stream.Stream;
 import java.util.stream.Collectors;
@@ -46,7 +54,10 @@ import io.fabric8.kubernetes.api.model.ContainerBuilder;
 import io.fabric8.kubernetes.api.model.PodTemplateSpecBuilder;
 import io.fabric8.kubernetes.api.model.VolumeMount;
 import io.fabric8.kubernetes.api.model.VolumeMountBuilder;
+import org.apache.commons.io.IOUtils;
 import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.common.util.AsyncUtil;
+import org.eclipse.jkube.kit.common.util.Base64Util;
 import org.eclipse.jkube.kit.common.util.KindFilenameMapperUtil;
 import org.eclipse.jkube.kit.common.util.KubernetesHelper;
 import org.eclipse.jkube.kit.common.util.MapUtil;
@@ -61,6 +72,7 @@ import org.eclipse.jkube.kit.config.resource.PlatformMode;
 import org.eclipse.jkube.kit.config.resource.ResourceVersioning;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.hash.Hashing;
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import io.fabric8.kubernetes.api.model.Container;
@@ -116,6 +128,18 @@ public class KubernetesResourceUtil {
 
     private static final String CONTAINER_NAME_REGEX = "^[a-z0-9]([-a-z0-9]*[a-z0-9])?$";
 
+    private static final int FILE_CONTENT_BLOCK_SIZE = 8192;
+
+    private static final int PARSED_FRAGMENT_CACHE_MAX_SIZE = 4096;
+    // Least recently used entries are evicted once the cache is full
+    private static final Map<String, Map<String, Object>> PARSED_FRAGMENT_CACHE = Collections.synchronizedMap(
+        new LinkedHashMap<String, Map<String, Object>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<String, Object>> eldest) {
+                return size() > PARSED_FRAGMENT_CACHE_MAX_SIZE;
+            }
+        });
+
     static {
         KubernetesResourceUtil.SIMPLE_FIELD_TYPES.add(String.class);
         KubernetesResourceUtil.SIMPLE_FIELD_TYPES.add(Double.class);
@@ -148,6 +172,8 @@ public class KubernetesResourceUtil {
      * Read all Kubernetes resource fragments from a directory and create a {@link KubernetesListBuilder} which
      * can be adapted later.
      *
+     * <p> Fragments are read concurrently, the order of the resulting items respects the order of the provided files.
+     *
      * @param platformMode platform whether it's Kubernetes/OpenShift
      * @param apiVersions the api versions to use
      * @param defaultName the default name to use when none is given
@@ -161,12 +187,14 @@ public class KubernetesResourceUtil {
 
         final KubernetesListBuilder builder = new KubernetesListBuilder();
         if (resourceFiles != null) {
+            final List<CompletableFuture<HasMetadata>> resources = new ArrayList<>();
             for (File file : resourceFiles) {
                 if (EXCLUDED_RESOURCE_FILENAME_SUFFIXES.stream()
                   .noneMatch(s -> file.getName().toLowerCase(Locale.ROOT).endsWith(s))) {
-                    builder.addToItems(getResource(platformMode, apiVersions, file, defaultName));
+                    resources.add(AsyncUtil.async(() -> getResource(platformMode, apiVersions, file, defaultName)));
                 }
             }
+            builder.addAllToItems(AsyncUtil.joinAll(resources));
         }
         return builder;
     }
@@ -254,7 +282,7 @@ public class KubernetesResourceUtil {
         String name = matcher.group("name");
         String type = matcher.group("type");
 
-        final Map<String,Object> fragment = Serialization.unmarshal(file, new TypeReference<Map<String, Object>>() {});
+        final Map<String,Object> fragment = readFragment(file);
 
         final String kind;
         if (type != null) {
@@ -319,6 +347,36 @@ public class KubernetesResourceUtil {
         return fragment;
     }
 
+    /*
+     * Parsed fragments are cached in memory keyed by the hash of the file contents, so files whose contents didn't
+     * change are not parsed again by the modules and goals run in the same JVM (nothing is persisted across builds).
+     * A deep copy is returned since the fragment is further enriched.
+     */
+    private static Map<String, Object> readFragment(File file) throws IOException {
+        final byte[] content = Files.readAllBytes(file.toPath());
+        final String hash = Hashing.sha256().hashBytes(content).toString();
+        Map<String, Object> parsed = PARSED_FRAGMENT_CACHE.get(hash);
+        if (parsed == null) {
+            parsed = Serialization.unmarshal(new ByteArrayInputStream(content), new TypeReference<Map<String, Object>>() {});
+            PARSED_FRAGMENT_CACHE.put(hash, parsed);
+        }
+        return deepCopy(parsed);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T deepCopy(T value) {
+        if (value instanceof Map) {
+            final Map<String, Object> copy = new LinkedHashMap<>();
+            ((Map<String, Object>) value).forEach((k, v) -> copy.put(k, deepCopy(v)));
+            return (T) copy;
+        } else if (value instanceof List) {
+            final List<Object> copy = new ArrayList<>();
+            ((List<Object>) value).forEach(v -> copy.add(deepCopy(v)));
+            return (T) copy;
+        }
+        return value;
+    }
+
     private static String getAndValidateKindFromType(File file, String type) {
         String kind;
         kind = FILENAME_TO_KIND_MAPPER.get(type.toLowerCase());
@@ -643,13 +701,7 @@ public class KubernetesResourceUtil {
      */
     @Deprecated
     public static Map.Entry<String, String> createConfigMapEntry(final String key, final Path file) throws IOException {
-        final byte[] bytes = Files.readAllBytes(file);
-        if (isFileWithBinaryContent(file)) {
-            final String value = Base64.getEncoder().encodeToString(bytes);
-            return new AbstractMap.SimpleEntry<>(key, value);
-        } else {
-            return new AbstractMap.SimpleEntry<>(key, new String(bytes));
-        }
+        return new AbstractMap.SimpleEntry<>(key, readFileContent(file).value);
     }
 
     /**
@@ -662,16 +714,7 @@ public class KubernetesResourceUtil {
      */
     @Deprecated
     public static boolean isFileWithBinaryContent(final Path file) throws IOException {
-        final byte[] bytes = Files.readAllBytes(file);
-        try {
-            StandardCharsets.UTF_8.newDecoder()
-                .onMalformedInput(CodingErrorAction.REPORT)
-                .onUnmappableCharacter(CodingErrorAction.REPORT)
-                .decode(ByteBuffer.wrap(bytes));
-            return false;
-        } catch (CharacterCodingException e) {
-            return true;
-        }
+        return readFileContent(file).binary;
     }
 
     /**
@@ -687,7 +730,7 @@ public class KubernetesResourceUtil {
         try (Stream<Path> files = Files.list(path)) {
             files.filter(p -> !Files.isDirectory(p, LinkOption.NOFOLLOW_LINKS)).forEach(file -> {
                 try {
-                    addNewEntryToExistingConfigMap(configMapBuilder, createConfigMapEntry(file.getFileName().toString(), file), file);
+                    addNewEntryToExistingConfigMap(configMapBuilder, file.getFileName().toString(), file);
                 } catch (IOException e) {
                     throw new IllegalArgumentException(e);
                 }
@@ -714,11 +757,78 @@ public class KubernetesResourceUtil {
         }
     }
 
+    /**
+     * Add single entry to ConfigMap with the contents of the provided file.
+     *
+     * <p> The file is read only once, binary files are added Base64 encoded to binaryData, the rest to data.
+     *
+     * @param configMapBuilder ConfigMap builder object
+     * @param key key for the entry
+     * @param file file whose contents would be used in value of entry
+     * @throws IOException in case of failure while reading file
+     */
+    public static void addNewEntryToExistingConfigMap(ConfigMapBuilder configMapBuilder, String key, final Path file)
+        throws IOException {
+        final FileContent content = readFileContent(file);
+        if (content.binary) {
+            configMapBuilder.addToBinaryData(key, content.value);
+        } else {
+            configMapBuilder.addToData(key, content.value);
+        }
+    }
+
     public static void addNewConfigMapEntriesToExistingConfigMap(ConfigMapBuilder configMapBuilder, String key, Path filePath) throws IOException {
         if (Files.isDirectory(filePath, LinkOption.NOFOLLOW_LINKS)) {
             addNewEntriesFromDirectoryToExistingConfigMap(configMapBuilder, filePath);
         } else {
-            addNewEntryToExistingConfigMap(configMapBuilder, createConfigMapEntry(key, filePath), filePath);
+            addNewEntryToExistingConfigMap(configMapBuilder, key, filePath);
+        }
+    }
+
+    /*
+     * Reads the file once. Binary content is detected using the first block and streamed to a Base64 encoder.
+     * Text content is fully validated, if an invalid UTF-8 sequence is found after the first block the (already read)
+     * content is Base64 encoded instead.
+     */
+    private static FileContent readFileContent(final Path file) throws IOException {
+        try (InputStream is = Files.newInputStream(file)) {
+            final byte[] block = new byte[FILE_CONTENT_BLOCK_SIZE];
+            final int read = IOUtils.read(is, block);
+            if (isBinary(block, read, read < block.length)) {
+                return new FileContent(true, Base64Util.encodeToString(
+                    new SequenceInputStream(new ByteArrayInputStream(block, 0, read), is)));
+            }
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream(read);
+            bytes.write(block, 0, read);
+            IOUtils.copy(is, bytes, FILE_CONTENT_BLOCK_SIZE);
+            final byte[] content = bytes.toByteArray();
+            try {
+                return new FileContent(false, newStrictUtf8Decoder().decode(ByteBuffer.wrap(content)).toString());
+            } catch (CharacterCodingException e) {
+                return new FileContent(true, Base64.getEncoder().encodeToString(content));
+            }
+        }
+    }
+
+    private static boolean isBinary(byte[] block, int length, boolean endOfInput) {
+        return newStrictUtf8Decoder()
+            .decode(ByteBuffer.wrap(block, 0, length), CharBuffer.allocate(length), endOfInput)
+            .isError();
+    }
+
+    private static CharsetDecoder newStrictUtf8Decoder() {
+        return StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPORT)
+            .onUnmappableCharacter(CodingErrorAction.REPORT);
+    }
+
+    private static final class FileContent {
+        private final boolean binary;
+        private final String value;
+
+        private FileContent(boolean binary, String value) {
+            this.binary = binary;
+            this.value = value;
         }
     }
 
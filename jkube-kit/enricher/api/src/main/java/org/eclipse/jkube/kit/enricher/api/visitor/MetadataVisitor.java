@@ -21,6 +21,7 @@ import java.util.Properties;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.eclipse.jkube.kit.common.util.LazyBuilder;
 import org.eclipse.jkube.kit.config.resource.MetaDataConfig;
 import org.eclipse.jkube.kit.config.resource.ResourceConfig;
 
@@ -73,22 +74,35 @@ import io.fabric8.openshift.api.model.ImageStreamFluentImpl;
 import io.fabric8.openshift.api.model.RouteBuilder;
 import io.fabric8.openshift.api.model.RouteFluent;
 import io.fabric8.openshift.api.model.RouteFluentImpl;
-import lombok.AllArgsConstructor;
-
 import static org.eclipse.jkube.kit.common.util.PropertiesUtil.toMap;
 
 /**
  * Visitor which adds labels and annotations
+ *
+ * <p> The configured labels and annotations are resolved only once per visitor instance and then merged
+ * into each of the visited items.
  */
-@AllArgsConstructor
 public class MetadataVisitor<T extends VisitableBuilder> extends TypedVisitor<T> {
 
   private final Class<T> clazz;
-  private final Supplier<Properties> annotationSupplier;
-  private final Supplier<Properties> labelSupplier;
+  private final LazyBuilder.VoidLazyBuilder<Map<String, String>> annotations;
+  private final LazyBuilder.VoidLazyBuilder<Map<String, String>> labels;
   private final Function<T, ObjectMetaFluent<?>> objectMeta;
   private final Function<ObjectMetaFluent<?>, Runnable> endMetadata;
 
+  public MetadataVisitor(
+      Class<T> clazz,
+      Supplier<Properties> annotationSupplier,
+      Supplier<Properties> labelSupplier,
+      Function<T, ObjectMetaFluent<?>> objectMeta,
+      Function<ObjectMetaFluent<?>, Runnable> endMetadata) {
+    this.clazz = clazz;
+    this.annotations = new LazyBuilder.VoidLazyBuilder<>(() -> resolve(annotationSupplier.get()));
+    this.labels = new LazyBuilder.VoidLazyBuilder<>(() -> resolve(labelSupplier.get()));
+    this.objectMeta = objectMeta;
+    this.endMetadata = endMetadata;
+  }
+
   public MetadataVisitor(
       Class<T> clazz,
       Supplier<Properties> annotationSupplier,
@@ -105,16 +119,25 @@ public class MetadataVisitor<T extends VisitableBuilder> extends TypedVisitor<T>
   @Override
   public void visit(T item) {
     final ObjectMetaFluent<?> omf = objectMeta.apply(item);
-    omf.withAnnotations(overlayMap(annotationSupplier.get(), omf.getAnnotations()))
-        .withLabels(overlayMap(labelSupplier.get(), omf.getLabels()));
+    omf.withAnnotations(overlayMap(annotations.get(), omf.getAnnotations()))
+        .withLabels(overlayMap(labels.get(), omf.getLabels()));
     Optional.ofNullable(endMetadata).map(em -> em.apply(omf)).ifPresent(Runnable::run);
   }
 
-  private Map<String, String> overlayMap(Properties properties, Map<String, String> originalMap) {
-    final Map<String, String> ret = new HashMap<>(Optional.ofNullable(originalMap).orElse(Collections.emptyMap()));
-    for (Map.Entry<String, String> entry : toMap(properties).entrySet()) {
-      ret.putIfAbsent(entry.getKey(), appendTrailingNewLineIfMultiline(entry.getValue()));
-    }
+  private static Map<String, String> resolve(Properties properties) {
+    final Map<String, String> ret = toMap(properties);
+    ret.replaceAll((key, value) -> appendTrailingNewLineIfMultiline(value));
+    return Collections.unmodifiableMap(ret);
+  }
+
+  private static Map<String, String> overlayMap(Map<String, String> configured, Map<String, String> originalMap) {
+    // Original (non-null) values take precedence over the configured ones
+    final Map<String, String> ret = new HashMap<>(configured);
+    Optional.ofNullable(originalMap).orElse(Collections.emptyMap()).forEach((key, value) -> {
+      if (value != null) {
+        ret.put(key, value);
+      }
+    });
     return ret;
   }
 
@@ -126,7 +149,7 @@ public class MetadataVisitor<T extends VisitableBuilder> extends TypedVisitor<T>
     return Optional.ofNullable(resourceConfig).map(ResourceConfig::getLabels).orElse(new MetaDataConfig());
   }
 
-  private String appendTrailingNewLineIfMultiline(String value) {
+  private static String appendTrailingNewLineIfMultiline(String value) {
     if (value.contains(System.lineSeparator()) && !value.endsWith(System.lineSeparator())) {
       return value + System.lineSeparator();
     }
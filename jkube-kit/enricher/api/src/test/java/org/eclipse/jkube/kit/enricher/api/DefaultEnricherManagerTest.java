@@ -14,6 +14,7 @@
 package org.eclipse.jkube.kit.enricher.api;
 
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.jkube.kit.common.JavaProject;
 import org.eclipse.jkube.kit.common.KitLogger;
@@ -27,6 +28,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -55,6 +57,29 @@ class DefaultEnricherManagerTest {
     verify(logger,times(1)).verbose("- %s", "fake-enricher");
   }
 
+  @Test
+  void enrich_withConfigWithoutIncludes_doesNothing() {
+    // Given
+    final KubernetesListBuilder klb = new KubernetesListBuilder();
+    // When
+    enricherManager.enrich(PlatformMode.kubernetes, ProcessorConfig.EMPTY, klb);
+    // Then
+    assertThat(klb.build().getItems()).isEmpty();
+  }
+
+  @Test
+  void enrich_withConfigIncludingUnknownEnricher_throwsException() {
+    // Given
+    final ProcessorConfig processorConfig = new ProcessorConfig();
+    processorConfig.setIncludes(Collections.singletonList("not-available"));
+    final KubernetesListBuilder klb = new KubernetesListBuilder();
+    // When + Then
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> enricherManager.enrich(PlatformMode.kubernetes, processorConfig, klb))
+        .withMessageContaining("No enricher with name 'not-available' found to include")
+        .withMessageContaining("fake-enricher");
+  }
+
   @Test
   void createDefaultResources_withDefaults_createsResources() {
     // Given
@@ -81,6 +106,38 @@ class DefaultEnricherManagerTest {
         .hasFieldOrPropertyWithValue("metadata.name", "enriched-by-test");
   }
 
+  @Test
+  void enrich_withEnricherNotIncluded_neverInstantiatesIt() {
+    // Given
+    final int instances = NeverIncludedEnricher.INSTANCES.get();
+    final ProcessorConfig processorConfig = new ProcessorConfig();
+    processorConfig.setIncludes(Collections.singletonList("fake-enricher"));
+    final KubernetesListBuilder klb = new KubernetesListBuilder();
+    // When
+    final EnricherManager result = new DefaultEnricherManager(JKubeEnricherContext.builder()
+        .project(JavaProject.builder().build())
+        .log(logger)
+        .processorConfig(processorConfig)
+        .build());
+    result.createDefaultResources(PlatformMode.kubernetes, klb);
+    result.enrich(PlatformMode.kubernetes, klb);
+    // Then
+    assertThat(klb.build().getItems()).hasSize(2);
+    assertThat(NeverIncludedEnricher.INSTANCES).hasValue(instances);
+  }
+
+  @Test
+  void enrich_withConfigIncludingEnricherWithDeclaredName_instantiatesIt() {
+    // Given
+    final ProcessorConfig processorConfig = new ProcessorConfig();
+    processorConfig.setIncludes(Collections.singletonList("never-included-enricher"));
+    final int instances = NeverIncludedEnricher.INSTANCES.get();
+    // When
+    enricherManager.enrich(PlatformMode.kubernetes, processorConfig, new KubernetesListBuilder());
+    // Then
+    assertThat(NeverIncludedEnricher.INSTANCES).hasValue(instances + 1);
+  }
+
   // Loaded from META-INF/jkube/enricher-default
   public static final class TestEnricher implements Enricher {
 
@@ -110,4 +167,37 @@ class DefaultEnricherManagerTest {
       return context;
     }
   }
+
+  // Loaded from META-INF/jkube/enricher-default, declares its name so that it's only instantiated when included
+  public static final class NeverIncludedEnricher implements Enricher {
+
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    private final JKubeEnricherContext context;
+
+    public NeverIncludedEnricher(JKubeEnricherContext context) {
+      this.context = context;
+      INSTANCES.incrementAndGet();
+    }
+
+    @Override
+    public String getName() {
+      return "never-included-enricher";
+    }
+
+    @Override
+    public void create(PlatformMode platformMode, KubernetesListBuilder builder) {
+      // NO-OP
+    }
+
+    @Override
+    public void enrich(PlatformMode platformMode, KubernetesListBuilder builder) {
+      // NO-OP
+    }
+
+    @Override
+    public EnricherContext getContext() {
+      return context;
+    }
+  }
 }
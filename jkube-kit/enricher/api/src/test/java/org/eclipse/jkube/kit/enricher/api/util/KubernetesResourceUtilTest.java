@@ -67,12 +67,16 @@ import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -350,6 +354,26 @@ class KubernetesResourceUtilTest {
       .containsExactly("value", "value");
   }
 
+  @Test
+  void readResourceFragmentsFrom_withManyFragmentsWithSameContent_shouldPreserveOrderAndEnrichEachFragment(@TempDir Path resourceDir) throws IOException {
+    // Given
+    final File[] resourceFiles = new File[50];
+    for (int it = 0; it < resourceFiles.length; it++) {
+      resourceFiles[it] = Files.write(resourceDir.resolve("fragment-" + it + "-cm.yaml"),
+          "data:\n  key: value".getBytes()).toFile().getAbsoluteFile();
+    }
+    // When
+    final KubernetesListBuilder result = KubernetesResourceUtil.readResourceFragmentsFrom(
+        kubernetes, DEFAULT_RESOURCE_VERSIONING, "pong", resourceFiles);
+    // Then
+    assertThat(result.buildItems()).hasSize(50)
+      .allSatisfy(item -> assertThat(item)
+        .isInstanceOf(ConfigMap.class)
+        .hasFieldOrPropertyWithValue("data.key", "value"))
+      .extracting("metadata.name")
+      .containsExactlyElementsOf(IntStream.range(0, 50).mapToObj(it -> "fragment-" + it).collect(Collectors.toList()));
+  }
+
   @Test
   void mergePodSpec_withFragmentWithContainerNameAndSidecarDisabled_shouldPreserveContainerNameFromFragment() {
     // Given
@@ -527,6 +551,47 @@ class KubernetesResourceUtilTest {
         .containsEntry("custom-key", "wA==");
   }
 
+  @Test
+  void addNewConfigMapEntriesToExistingConfigMap_whenLargeTextFileProvided_thenShouldCreateConfigMapWithTextContent(@TempDir Path dir) throws IOException {
+    // Given
+    final StringBuilder content = new StringBuilder();
+    for (int it = 0; it < 4096; it++) {
+      content.append("línea-").append(it).append('\n');
+    }
+    final Path file = Files.write(dir.resolve("large.txt"), content.toString().getBytes(StandardCharsets.UTF_8));
+    ConfigMapBuilder configMapBuilder = new ConfigMapBuilder();
+
+    // When
+    addNewConfigMapEntriesToExistingConfigMap(configMapBuilder, "custom-key", file);
+
+    // Then
+    assertThat(configMapBuilder.build())
+        .asInstanceOf(InstanceOfAssertFactories.type(ConfigMap.class))
+        .extracting(ConfigMap::getData)
+        .asInstanceOf(InstanceOfAssertFactories.MAP)
+        .containsEntry("custom-key", content.toString());
+  }
+
+  @Test
+  void addNewConfigMapEntriesToExistingConfigMap_whenBinaryContentAfterFirstBlock_thenShouldCreateConfigMapWithBinaryContent(@TempDir Path dir) throws IOException {
+    // Given
+    final byte[] bytes = new byte[20000];
+    Arrays.fill(bytes, (byte) 'a');
+    bytes[bytes.length - 1] = (byte) 0xC0;
+    final Path file = Files.write(dir.resolve("mixed.bin"), bytes);
+    ConfigMapBuilder configMapBuilder = new ConfigMapBuilder();
+
+    // When
+    addNewConfigMapEntriesToExistingConfigMap(configMapBuilder, "custom-key", file);
+
+    // Then
+    assertThat(configMapBuilder.build())
+        .asInstanceOf(InstanceOfAssertFactories.type(ConfigMap.class))
+        .extracting(ConfigMap::getBinaryData)
+        .asInstanceOf(InstanceOfAssertFactories.MAP)
+        .containsEntry("custom-key", Base64.getEncoder().encodeToString(bytes));
+  }
+
     @Test
   void addNewConfigMapEntriesToExistingConfigMap_whenDirectoryProvided_thenShouldCreateConfigMapWithFilesInDir() throws IOException {
       // Given
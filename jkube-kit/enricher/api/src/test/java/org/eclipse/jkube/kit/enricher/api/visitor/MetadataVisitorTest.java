@@ -13,7 +13,10 @@
  */
 package org.eclipse.jkube.kit.enricher.api.visitor;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
 import org.eclipse.jkube.kit.config.resource.MetaDataConfig;
@@ -228,6 +231,21 @@ class MetadataVisitorTest {
         .containsOnly(entry("service", "Yay"));
   }
 
+  @Test
+  void serviceBuilder_withNullOriginalValues_usesConfiguredValues() {
+    // Given
+    final Map<String, String> originalLabels = new HashMap<>();
+    originalLabels.put("service", null);
+    originalLabels.put("extra", "EXTRA");
+    final ServiceBuilder sb = new ServiceBuilder();
+    sb.editOrNewMetadata().withLabels(originalLabels).endMetadata();
+    // When
+    MetadataVisitor.service(resourceConfig).visit(sb);
+    // Then
+    assertThat(sb.build().getMetadata().getLabels())
+        .containsOnly(entry("service", "Yay"), entry("extra", "EXTRA"));
+  }
+
   @Test
   void daemonSet() {
     // Given
@@ -369,4 +387,33 @@ class MetadataVisitorTest {
     assertThat(db.build().getAnnotations())
         .containsOnly(entry("multiline/config", "proxyMetadata:\n ISTIO_META_DNS_CAPTURE: \"false\"\nholdUntilProxyStarts: true\n"));
   }
-}
\ No newline at end of file
+
+  @Test
+  void visit_withMultipleItems_resolvesConfiguredMetadataOnce() {
+    // Given
+    final AtomicInteger annotationResolutions = new AtomicInteger();
+    final AtomicInteger labelResolutions = new AtomicInteger();
+    final MetadataVisitor<ObjectMetaBuilder> visitor = new MetadataVisitor<>(ObjectMetaBuilder.class,
+        () -> {
+          annotationResolutions.incrementAndGet();
+          return resourceConfig.getAnnotations().getAll();
+        },
+        () -> {
+          labelResolutions.incrementAndGet();
+          return resourceConfig.getLabels().getAll();
+        },
+        omb -> omb);
+    final ObjectMetaBuilder first = new ObjectMetaBuilder().addToLabels("super-label", "original");
+    final ObjectMetaBuilder second = new ObjectMetaBuilder();
+    // When
+    visitor.visit(first);
+    visitor.visit(second);
+    // Then
+    assertThat(annotationResolutions).hasValue(1);
+    assertThat(labelResolutions).hasValue(1);
+    assertThat(first.build().getLabels())
+        .containsOnly(entry("this-is-all", "1"), entry("super-label", "original"));
+    assertThat(second.build().getLabels())
+        .containsOnly(entry("this-is-all", "1"), entry("super-label", "S"));
+  }
+}
@@ -15,7 +15,6 @@ package org.eclipse.jkube.enricher.generic;
 
 import static org.eclipse.jkube.kit.enricher.api.util.KubernetesResourceUtil.addNewConfigMapEntriesToExistingConfigMap;
 import static org.eclipse.jkube.kit.enricher.api.util.KubernetesResourceUtil.addNewEntryToExistingConfigMap;
-import static org.eclipse.jkube.kit.enricher.api.util.KubernetesResourceUtil.createConfigMapEntry;
 
 import java.io.IOException;
 import java.nio.file.Paths;
@@ -134,8 +133,7 @@ public class ConfigMapEnricher extends BaseEnricher {
                     if (name == null) {
                         name = filePath.getFileName().toString();
                     }
-                    Map.Entry<String, String> fileEntry = createConfigMapEntry(name, filePath);
-                    addNewEntryToExistingConfigMap(configMapBuilder, fileEntry, filePath);
+                    addNewEntryToExistingConfigMap(configMapBuilder, name, filePath);
                 }
             }
         }
@@ -29,6 +29,10 @@ import org.eclipse.jkube.kit.enricher.api.model.KindAndName;
 import org.eclipse.jkube.kit.common.util.KubernetesHelper;
 import org.eclipse.jkube.kit.enricher.api.util.KubernetesResourceUtil;
 
+import static org.eclipse.jkube.enricher.generic.DependencyResourceIndex.DEPENDENCY_KUBERNETES_TEMPLATE_YAML;
+import static org.eclipse.jkube.enricher.generic.DependencyResourceIndex.DEPENDENCY_KUBERNETES_YAML;
+import static org.eclipse.jkube.enricher.generic.DependencyResourceIndex.DEPENDENCY_OPENSHIFT_YAML;
+
 import java.io.File;
 import java.io.IOException;
 import java.net.URI;
@@ -51,10 +55,6 @@ import java.util.function.Function;
  * @author jimmidyson
  */
 public class DependencyEnricher extends BaseEnricher {
-    private static final String DEPENDENCY_KUBERNETES_YAML = "META-INF/jkube/kubernetes.yml";
-    private static final String DEPENDENCY_KUBERNETES_TEMPLATE_YAML = "META-INF/jkube/k8s-template.yml";
-    private static final String DEPENDENCY_OPENSHIFT_YAML = "META-INF/jkube/openshift.yml";
-
     private final Set<URI> kubernetesDependencyArtifacts = new HashSet<>();
     private final Set<URI> kubernetesTemplateDependencyArtifacts = new HashSet<>();
     private final Set<URI> openshiftDependencyArtifacts = new HashSet<>();
@@ -74,40 +74,51 @@ public class DependencyEnricher extends BaseEnricher {
     public DependencyEnricher(JKubeEnricherContext buildContext) throws URISyntaxException {
         super(buildContext, "jkube-dependency");
 
-        addArtifactsWithYaml(kubernetesDependencyArtifacts, DEPENDENCY_KUBERNETES_YAML);
-        addArtifactsWithYaml(kubernetesTemplateDependencyArtifacts, DEPENDENCY_KUBERNETES_TEMPLATE_YAML);
-        addArtifactsWithYaml(openshiftDependencyArtifacts, DEPENDENCY_OPENSHIFT_YAML);
-
+        final Map<String, Set<URI>> artifactSets = new HashMap<>();
+        artifactSets.put(DEPENDENCY_KUBERNETES_YAML, kubernetesDependencyArtifacts);
+        artifactSets.put(DEPENDENCY_KUBERNETES_TEMPLATE_YAML, kubernetesTemplateDependencyArtifacts);
+        artifactSets.put(DEPENDENCY_OPENSHIFT_YAML, openshiftDependencyArtifacts);
+        addDependencyArtifactsWithYaml(artifactSets);
+        if (isIncludePlugin()) {
+            for (Map.Entry<String, Set<URI>> e : artifactSets.entrySet()) {
+                addPluginArtifactsWithYaml(e.getValue(), e.getKey());
+            }
+        }
     }
 
-    private void addArtifactsWithYaml(Set<URI> artifactSet, String dependencyYaml) throws URISyntaxException {
+    private void addDependencyArtifactsWithYaml(Map<String, Set<URI>> artifactSets) {
         final List<Dependency> artifacts = getContext().getDependencies(isIncludeTransitive());
 
         for (Dependency artifact : artifacts) {
             if ("compile".equals(artifact.getScope()) && "jar".equals(artifact.getType())) {
                 File file = artifact.getFile();
                 try {
-                    URI uri = new URI("jar:" + file.toURI() + "!/" + dependencyYaml);
-                    artifactSet.add(uri);
+                    // Each artifact is opened (at most) once, only artifacts containing descriptors are processed
+                    for (String dependencyYaml : DependencyResourceIndex.descriptorsIn(file)) {
+                        artifactSets.get(dependencyYaml).add(new URI("jar:" + file.toURI() + "!/" + dependencyYaml));
+                    }
+                } catch (IOException e) {
+                    getLog().debug("Skipping %s: %s", file, e);
                 } catch (URISyntaxException e) {
                     getLog().debug("Failed to create URL for %s: %s", file, e);
                 }
             }
         }
-        // lets look on the current plugin classpath too
-        if (isIncludePlugin()) {
-            Enumeration<URL> resources = null;
-            try {
-                resources = getClass().getClassLoader().getResources(dependencyYaml);
-            } catch (IOException e) {
-                getLog().error("Could not find %s on the classpath: %s", dependencyYaml, e);
-            }
-            if (resources != null) {
-                while (resources.hasMoreElements()) {
-                    URL url = resources.nextElement();
-                    URI uri = url.toURI();
-                    artifactSet.add(uri);
-                }
+    }
+
+    // lets look on the current plugin classpath too
+    private void addPluginArtifactsWithYaml(Set<URI> artifactSet, String dependencyYaml) throws URISyntaxException {
+        Enumeration<URL> resources = null;
+        try {
+            resources = getClass().getClassLoader().getResources(dependencyYaml);
+        } catch (IOException e) {
+            getLog().error("Could not find %s on the classpath: %s", dependencyYaml, e);
+        }
+        if (resources != null) {
+            while (resources.hasMoreElements()) {
+                URL url = resources.nextElement();
+                URI uri = url.toURI();
+                artifactSet.add(uri);
             }
         }
     }
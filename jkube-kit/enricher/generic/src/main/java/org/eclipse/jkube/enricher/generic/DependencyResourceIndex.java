@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.enricher.generic;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarFile;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Index of the JKube resource descriptors contained in dependency artifacts.
+ *
+ * <p> Each artifact is opened once and the descriptors it contains are cached for the lifetime of the JVM,
+ * keyed by artifact path, last modification time and size. Subsequent builds in the same JVM (e.g. reactor
+ * modules, Maven daemon, Gradle daemon) don't need to open the artifact again unless it changed.
+ */
+class DependencyResourceIndex {
+
+  static final String DEPENDENCY_KUBERNETES_YAML = "META-INF/jkube/kubernetes.yml";
+  static final String DEPENDENCY_KUBERNETES_TEMPLATE_YAML = "META-INF/jkube/k8s-template.yml";
+  static final String DEPENDENCY_OPENSHIFT_YAML = "META-INF/jkube/openshift.yml";
+
+  static final List<String> DESCRIPTORS = Collections.unmodifiableList(Arrays.asList(
+      DEPENDENCY_KUBERNETES_YAML, DEPENDENCY_KUBERNETES_TEMPLATE_YAML, DEPENDENCY_OPENSHIFT_YAML));
+
+  private static final Map<String, IndexEntry> INDEX = new ConcurrentHashMap<>();
+
+  private DependencyResourceIndex() { }
+
+  /**
+   * Returns the JKube resource descriptors (any of {@link #DESCRIPTORS}) contained in the provided jar artifact.
+   *
+   * @param artifact the jar file to inspect.
+   * @return an unmodifiable set with the descriptor entry names found in the artifact.
+   * @throws IOException if the artifact is not a regular file or can't be read as a jar.
+   */
+  static Set<String> descriptorsIn(File artifact) throws IOException {
+    if (artifact == null || !artifact.isFile()) {
+      throw new IOException("Not a jar file: " + artifact);
+    }
+    final String path = artifact.getAbsolutePath();
+    final long lastModified = artifact.lastModified();
+    final long size = artifact.length();
+    final IndexEntry cached = INDEX.get(path);
+    if (cached != null && cached.lastModified == lastModified && cached.size == size) {
+      return cached.descriptors;
+    }
+    final Set<String> descriptors = scan(artifact);
+    INDEX.put(path, new IndexEntry(lastModified, size, descriptors));
+    return descriptors;
+  }
+
+  static void clear() {
+    INDEX.clear();
+  }
+
+  private static Set<String> scan(File artifact) throws IOException {
+    final Set<String> descriptors = new LinkedHashSet<>();
+    try (JarFile jarFile = new JarFile(artifact, false)) {
+      for (String descriptor : DESCRIPTORS) {
+        if (jarFile.getEntry(descriptor) != null) {
+          descriptors.add(descriptor);
+        }
+      }
+    }
+    return Collections.unmodifiableSet(descriptors);
+  }
+
+  @AllArgsConstructor
+  private static final class IndexEntry {
+    private final long lastModified;
+    private final long size;
+    private final Set<String> descriptors;
+  }
+}
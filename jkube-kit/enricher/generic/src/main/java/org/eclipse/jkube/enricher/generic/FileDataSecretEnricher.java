@@ -22,6 +22,7 @@ import org.eclipse.jkube.kit.enricher.api.BaseEnricher;
 import org.eclipse.jkube.kit.enricher.api.JKubeEnricherContext;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.HashMap;
@@ -75,8 +76,7 @@ public class FileDataSecretEnricher extends BaseEnricher {
 
             String secretFileLocationKey = getOutput(key);
             if(secretFileLocationKey != null) {
-                byte[] bytes = readContent(entry.getValue());
-                secretFileLocations.put(getOutput(key), Base64Util.encodeToString(bytes));
+                secretFileLocations.put(secretFileLocationKey, readContentAsBase64(entry.getValue()));
                 it.remove();
             }
         }
@@ -84,8 +84,10 @@ public class FileDataSecretEnricher extends BaseEnricher {
         return secretFileLocations;
     }
 
-    private byte[] readContent(String location) throws IOException {
-        return Files.readAllBytes(Paths.get(location));
+    private String readContentAsBase64(String location) throws IOException {
+        try (InputStream is = Files.newInputStream(Paths.get(location))) {
+            return Base64Util.encodeToString(is);
+        }
     }
 
     private String getOutput(String key) {
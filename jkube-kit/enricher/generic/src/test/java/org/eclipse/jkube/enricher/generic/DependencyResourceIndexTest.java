@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.enricher.generic;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+import static org.eclipse.jkube.enricher.generic.DependencyResourceIndex.DEPENDENCY_KUBERNETES_TEMPLATE_YAML;
+import static org.eclipse.jkube.enricher.generic.DependencyResourceIndex.DEPENDENCY_KUBERNETES_YAML;
+import static org.eclipse.jkube.enricher.generic.DependencyResourceIndex.DEPENDENCY_OPENSHIFT_YAML;
+
+class DependencyResourceIndexTest {
+
+  @TempDir
+  Path temporaryFolder;
+
+  @BeforeEach
+  @AfterEach
+  void clearIndex() {
+    DependencyResourceIndex.clear();
+  }
+
+  @Test
+  void descriptorsIn_withJarContainingAllDescriptors_returnsAllDescriptors() throws IOException {
+    // Given
+    final File jar = new File(getClass().getResource("/jenkins-4.0.41.jar").getFile());
+    // When
+    final Set<String> result = DependencyResourceIndex.descriptorsIn(jar);
+    // Then
+    assertThat(result).containsExactly(
+        DEPENDENCY_KUBERNETES_YAML, DEPENDENCY_KUBERNETES_TEMPLATE_YAML, DEPENDENCY_OPENSHIFT_YAML);
+  }
+
+  @Test
+  void descriptorsIn_withJarWithoutDescriptors_returnsEmpty() throws IOException {
+    // Given
+    final File jar = createJar("plain.jar", "META-INF/MANIFEST.MF");
+    // When
+    final Set<String> result = DependencyResourceIndex.descriptorsIn(jar);
+    // Then
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  void descriptorsIn_withUnchangedJar_returnsCachedResult() throws IOException {
+    // Given
+    final File jar = createJar("cached.jar", DEPENDENCY_KUBERNETES_YAML);
+    final Set<String> first = DependencyResourceIndex.descriptorsIn(jar);
+    // When
+    final Set<String> second = DependencyResourceIndex.descriptorsIn(jar);
+    // Then
+    assertThat(second).isSameAs(first).containsExactly(DEPENDENCY_KUBERNETES_YAML);
+  }
+
+  @Test
+  void descriptorsIn_withModifiedJar_rescansArtifact() throws IOException {
+    // Given
+    final File jar = createJar("modified.jar", DEPENDENCY_KUBERNETES_YAML);
+    DependencyResourceIndex.descriptorsIn(jar);
+    createJar("modified.jar", DEPENDENCY_KUBERNETES_YAML, DEPENDENCY_OPENSHIFT_YAML);
+    assertThat(jar.setLastModified(jar.lastModified() + 10_000L)).isTrue();
+    // When
+    final Set<String> result = DependencyResourceIndex.descriptorsIn(jar);
+    // Then
+    assertThat(result).containsExactly(DEPENDENCY_KUBERNETES_YAML, DEPENDENCY_OPENSHIFT_YAML);
+  }
+
+  @Test
+  void descriptorsIn_withDirectory_throwsException() {
+    // Given
+    final File directory = temporaryFolder.toFile();
+    // When + Then
+    assertThatIOException()
+        .isThrownBy(() -> DependencyResourceIndex.descriptorsIn(directory))
+        .withMessageStartingWith("Not a jar file: ");
+  }
+
+  private File createJar(String name, String... entries) throws IOException {
+    final File jar = temporaryFolder.resolve(name).toFile();
+    try (JarOutputStream jos = new JarOutputStream(new FileOutputStream(jar))) {
+      for (String entry : entries) {
+        jos.putNextEntry(new JarEntry(entry));
+        jos.write("kind: List".getBytes());
+        jos.closeEntry();
+      }
+    }
+    return jar;
+  }
+}
@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2019 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at:
+ *
+ *     https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.jkube.micronaut.enricher;
+
+import java.util.List;
+
+import org.eclipse.jkube.kit.common.JavaProject;
+import org.eclipse.jkube.kit.common.KitLogger;
+import org.eclipse.jkube.kit.common.util.PluginServiceFactory;
+import org.eclipse.jkube.kit.config.resource.ProcessorConfig;
+import org.eclipse.jkube.kit.enricher.api.Enricher;
+import org.eclipse.jkube.kit.enricher.api.JKubeEnricherContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EnricherDescriptorTest {
+
+  private List<PluginServiceFactory.LazyService<Enricher>> enrichers;
+
+  @BeforeEach
+  void setUp() {
+    final JKubeEnricherContext context = JKubeEnricherContext.builder()
+        .project(JavaProject.builder().build())
+        .log(new KitLogger.SilentLogger())
+        .processorConfig(new ProcessorConfig())
+        .build();
+    enrichers = new PluginServiceFactory<>(context).createLazyServiceObjects("META-INF/jkube/enricher-default");
+  }
+
+  @Test
+  void descriptor_declaresEnrichersOfThisModule() {
+    assertThat(enrichers)
+        .extracting(enricher -> enricher.getServiceClass().getName())
+        .contains(
+            MicronautHealthCheckEnricher.class.getName());
+  }
+
+  @Test
+  void descriptor_declaredNamesMatchEnricherNames() {
+    assertThat(enrichers)
+        .allSatisfy(enricher -> assertThat(enricher.get().getName())
+            .as("Name of %s", enricher.getServiceClass().getName())
+            .isEqualTo(enricher.getName()));
+  }
+}
@@ -26,7 +26,11 @@ import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Helper class for dealing with profiles.
@@ -43,6 +47,12 @@ public class ProfileUtil {
     // Allowed profile names
     private static final String[] PROFILE_FILENAMES = {"profiles%s.yml", "profiles%s.yaml", "profiles%s"};
 
+    // Parsed classpath profile descriptors, per context class loader and profile file extension
+    private static final Map<ClassLoader, Map<String, List<Profile>>> CLASSPATH_PROFILES = new WeakHashMap<>();
+
+    // Parsed project profile files, per absolute path
+    private static final Map<String, ProfileFile> FILE_PROFILES = new ConcurrentHashMap<>();
+
     // Default profile which will be always there
     public static final String DEFAULT_PROFILE = "default";
 
@@ -128,10 +138,9 @@ public class ProfileUtil {
 
         File profileFile = findProfileYaml(directory);
         if (profileFile != null) {
-            for (Profile profile : Serialization.unmarshal(profileFile, new TypeReference<List<Profile>>() {
-            })) {
+            for (Profile profile : readProfileFile(profileFile)) {
                 if (profile.getName().equals(name)) {
-                    profiles.add(profile);
+                    profiles.add(new Profile(profile));
                     break;
                 }
             }
@@ -182,16 +191,47 @@ public class ProfileUtil {
      */
     public static List<Profile> readAllFromClasspath(String name, String ext) throws IOException {
         List<Profile > ret = new ArrayList<>();
-        for (String location : getMetaInfProfilePaths(ext)) {
-            for (String url : ClassUtil.getResources(location)) {
-                for (Profile profile : Serialization.unmarshal(new URL(url), new TypeReference<List<Profile>>() {})) {
-                    if (name.equals(profile.getName())) {
-                        ret.add(profile);
+        for (Profile profile : readAllFromClasspath(ext)) {
+            if (name.equals(profile.getName())) {
+                // Cached profiles are shared, provide a copy (which also respects the lookup order for equal orders)
+                ret.add(new Profile(profile));
+            }
+        }
+        return ret;
+    }
+
+    // Profile descriptors found in the classpath are parsed only once per (context) class loader
+    private static List<Profile> readAllFromClasspath(String ext) throws IOException {
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        synchronized (CLASSPATH_PROFILES) {
+            final Map<String, List<Profile>> classLoaderProfiles =
+                CLASSPATH_PROFILES.computeIfAbsent(classLoader, cl -> new HashMap<>());
+            List<Profile> profiles = classLoaderProfiles.get(ext);
+            if (profiles == null) {
+                profiles = new ArrayList<>();
+                for (String location : getMetaInfProfilePaths(ext)) {
+                    for (String url : ClassUtil.getResources(location)) {
+                        profiles.addAll(Serialization.unmarshal(new URL(url), new TypeReference<List<Profile>>() {}));
                     }
                 }
+                classLoaderProfiles.put(ext, profiles);
             }
+            return profiles;
         }
-        return ret;
+    }
+
+    // Profile files are parsed again only if they were modified
+    private static List<Profile> readProfileFile(File profileFile) throws IOException {
+        final String path = profileFile.getAbsolutePath();
+        final long lastModified = profileFile.lastModified();
+        final long size = profileFile.length();
+        final ProfileFile cached = FILE_PROFILES.get(path);
+        if (cached != null && cached.lastModified == lastModified && cached.size == size) {
+            return cached.profiles;
+        }
+        final List<Profile> profiles = Serialization.unmarshal(profileFile, new TypeReference<List<Profile>>() {});
+        FILE_PROFILES.put(path, new ProfileFile(lastModified, size, profiles));
+        return profiles;
     }
 
     // ================================================================================
@@ -242,4 +282,16 @@ public class ProfileUtil {
      */
     public static final ProcessorConfigurationExtractor WATCHER_CONFIG = Profile::getWatcherConfig;
 
+    private static final class ProfileFile {
+        private final long lastModified;
+        private final long size;
+        private final List<Profile> profiles;
+
+        private ProfileFile(long lastModified, long size, List<Profile> profiles) {
+            this.lastModified = lastModified;
+            this.size = size;
+            this.profiles = profiles;
+        }
+    }
+
 }
@@ -15,11 +15,14 @@ package org.eclipse.jkube.kit.profile;
 
 import org.eclipse.jkube.kit.config.resource.ProcessorConfig;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -52,6 +55,30 @@ class ProfileUtilTest {
         assertThat(ProfileUtil.lookup("three", dir)).isNull();
     }
 
+    @Test
+    void readAllFromClasspath_whenInvokedMultipleTimes_returnsDistinctProfileInstances() throws IOException {
+        final Profile first = ProfileUtil.readAllFromClasspath("one", "").get(0);
+        first.setGeneratorConfig(null);
+        final Profile second = ProfileUtil.readAllFromClasspath("one", "").get(0);
+        assertThat(second).isNotSameAs(first)
+            .extracting(Profile::getGeneratorConfig)
+            .isNotNull();
+    }
+
+    @Test
+    void lookup_whenProfileFileModified_returnsUpdatedProfile(@TempDir Path dir) throws IOException {
+        final Path profiles = dir.resolve("profiles.yml");
+        Files.write(profiles, "- name: cached\n  enricher:\n    includes:\n    - first\n".getBytes());
+        assertThat(ProfileUtil.lookup("cached", dir.toFile()).getEnricherConfig().use("first")).isTrue();
+
+        Files.write(profiles, "- name: cached\n  enricher:\n    includes:\n    - second-enricher\n".getBytes());
+        assertThat(profiles.toFile().setLastModified(profiles.toFile().lastModified() + 10_000L)).isTrue();
+
+        assertThat(ProfileUtil.lookup("cached", dir.toFile()).getEnricherConfig())
+            .returns(false, c -> c.use("first"))
+            .returns(true, c -> c.use("second-enricher"));
+    }
+
     public File getProfileDir() throws URISyntaxException {
         return new File(getClass().getResource("/jkube/config/profiles-lookup-dir/profiles.yaml").toURI()).getParentFile();
     }
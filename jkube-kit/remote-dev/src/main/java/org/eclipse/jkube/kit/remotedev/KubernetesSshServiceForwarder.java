@@ -25,7 +25,6 @@ import java.net.InetAddress;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.eclipse.jkube.kit.common.util.AsyncUtil.await;
@@ -119,12 +118,12 @@ class KubernetesSshServiceForwarder implements Callable<Void> {
   private String waitForUser() throws InterruptedException {
     logger.debug("Waiting for Pod to log current user");
     try {
-      final String log = await(() -> kubernetesClient.pods().resource(sshService).getLog())
+      final String log = await(() -> kubernetesClient.pods().resource(sshService).getLog(), 60, TimeUnit.SECONDS)
         .apply(l -> l.contains("Current container user is:"))
-        .get(60, TimeUnit.SECONDS);
+        .get();
       int i = log.indexOf("Current container user is:");
       return log.substring(i + 26, log.indexOf("\n") + i).trim();
-    } catch (ExecutionException | TimeoutException ex) {
+    } catch (ExecutionException ex) {
       throw new IllegalStateException("Unable to retrieve current user from Pod", ex);
     }
   }
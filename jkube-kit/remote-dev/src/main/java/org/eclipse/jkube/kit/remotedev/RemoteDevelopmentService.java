@@ -19,7 +19,7 @@ import org.eclipse.jkube.kit.common.KitLogger;
 import java.net.ServerSocket;
 import java.util.concurrent.CompletableFuture;
 
-import static org.eclipse.jkube.kit.common.util.AsyncUtil.async;
+import static org.eclipse.jkube.kit.common.util.AsyncUtil.asyncInNewThread;
 
 public class RemoteDevelopmentService {
 
@@ -49,9 +49,10 @@ public class RemoteDevelopmentService {
   public CompletableFuture<Void> start() {
     checkEnvironment();
     localServiceManager.createOrReplaceServices();
+    // Both run for the whole session, dedicated threads so that they don't hold threads of the shared pool
     return CompletableFuture.anyOf(
-      async(kubernetesSshServiceForwarder),
-      async(portForwarder)
+      asyncInNewThread("jkube-remote-dev-ssh-service-forwarder", kubernetesSshServiceForwarder),
+      asyncInNewThread("jkube-remote-dev-port-forwarder", portForwarder)
     ).thenApply(object -> null);
   }
 
@@ -17,12 +17,14 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import javax.validation.ConstraintViolationException;
 
 import org.eclipse.jkube.kit.common.KitLogger;
 import org.eclipse.jkube.kit.common.ResourceFileType;
 import org.eclipse.jkube.kit.common.util.JKubeProjectUtil;
+import org.eclipse.jkube.kit.common.util.RemoteResourceCache;
 import org.eclipse.jkube.kit.common.util.ResourceClassifier;
 import org.eclipse.jkube.kit.common.util.ValidationUtil;
 import org.eclipse.jkube.kit.config.resource.EnricherManager;
@@ -83,7 +85,9 @@ public class DefaultResourceService implements ResourceService {
     final ResourceConfig resourceConfig = resourceServiceConfig.getResourceConfig();
     try {
       File[] resourceFiles = listResourceFragments(
-          resourceConfig != null ? resourceConfig.getRemotes() : null, log, resourceServiceConfig.getResourceDirs());
+          resourceConfig != null ? resourceConfig.getRemotes() : null,
+          Optional.ofNullable(resourceServiceConfig.getRemotesCacheDir()).orElseGet(RemoteResourceCache::getDefaultCacheDirectory),
+          resourceServiceConfig.isRemotesOffline(), log, resourceServiceConfig.getResourceDirs());
       resourceServiceConfig.getResourceDirs()
           .forEach(resourceDir -> log.info("Using resource templates from %s", resourceDir));
       final File[] processedResource = processResourceFiles(resourceFiles);
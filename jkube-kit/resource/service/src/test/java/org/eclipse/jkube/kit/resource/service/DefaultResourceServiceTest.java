@@ -15,6 +15,9 @@ package org.eclipse.jkube.kit.resource.service;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
@@ -22,6 +25,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
+import com.sun.net.httpserver.HttpServer;
 import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import org.eclipse.jkube.kit.common.JavaProject;
 import org.eclipse.jkube.kit.common.KitLogger;
@@ -107,6 +111,40 @@ class DefaultResourceServiceTest {
                 .build());
   }
 
+  @Test
+  void generateResources_withUncachedRemoteAndNotRemotesOffline_shouldDownloadRemote(@TempDir Path temporaryFolder) throws IOException {
+    // Given
+    final HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/", exchange -> {
+      final byte[] body = "metadata:\n  name: remote\ndata:\n  type: remote".getBytes(StandardCharsets.UTF_8);
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream os = exchange.getResponseBody()) {
+        os.write(body);
+      }
+    });
+    server.start();
+    try {
+      resourceServiceConfig = resourceServiceConfig.toBuilder()
+          .resourceConfig(ResourceConfig.builder()
+              .remotes(Collections.singletonList("http://localhost:" + server.getAddress().getPort() + "/remote-cm.yml"))
+              .build())
+          .remotesCacheDir(temporaryFolder.resolve("cache").toFile())
+          .remotesOffline(false)
+          .build();
+      defaultResourceService = new DefaultResourceService(resourceServiceConfig);
+      // When
+      final KubernetesList result = defaultResourceService
+          .generateResources(PlatformMode.kubernetes, enricherManager, kitLogger);
+      // Then
+      assertThat(result.getItems())
+          .containsExactly(new ConfigMapBuilder().withNewMetadata().withName("remote").endMetadata()
+              .withData(Collections.singletonMap("type", "remote"))
+              .build());
+    } finally {
+      server.stop(0);
+    }
+  }
+
   @Test
   void writeResources() throws IOException {
     try (
@@ -192,6 +192,24 @@ public abstract class AbstractDockerMojo extends AbstractMojo
     @Parameter(property = "jkube.build.strategy")
     protected JKubeBuildStrategy buildStrategy;
 
+    /**
+     * Persistent cache directory for the application layers built with the JIB build strategy
+     */
+    @Parameter(property = "jkube.build.jib.cacheDir")
+    protected File jibCacheDir;
+
+    /**
+     * Push the images built with the JIB build strategy straight to the registry instead of creating an image tarball
+     */
+    @Parameter(property = "jkube.build.jib.toRegistry", defaultValue = "false")
+    protected boolean jibBuildToRegistry;
+
+    /**
+     * Number of images that are built or pushed concurrently
+     */
+    @Parameter(property = "jkube.build.threads", defaultValue = "1")
+    protected int buildThreads;
+
     /**
      * Profile to use. A profile contains the enrichers and generators to
      * use as well as their configuration. Profiles are looked up
@@ -583,6 +601,9 @@ public abstract class AbstractDockerMojo extends AbstractMojo
                 .forcePull(forcePull)
                 .imagePullManager(ImagePullManager.createImagePullManager(imagePullPolicy, autoPull, project.getProperties()))
                 .buildDirectory(project.getBuild().getDirectory())
+                .jibCacheDir(jibCacheDir)
+                .jibBuildToRegistry(jibBuildToRegistry)
+                .buildThreads(buildThreads)
                 .resourceConfig(resources)
                 .resourceDir(resourceDir)
                 .attacher((classifier, destFile) -> {
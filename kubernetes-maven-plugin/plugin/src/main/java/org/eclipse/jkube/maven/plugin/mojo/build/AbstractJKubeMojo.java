@@ -224,6 +224,7 @@ public abstract class AbstractJKubeMojo extends AbstractMojo implements KitLogge
           .resourceConfig(resources)
           .resourceFilesProcessor(resourceFiles -> mavenFilterFiles(resourceFiles, workDir))
           .interpolateTemplateParameters(interpolateTemplateParameters)
+          .remotesOffline(session != null && session.isOffline())
           .build();
     }
 
@@ -13,6 +13,7 @@
  */
 package org.eclipse.jkube.maven.plugin.mojo.build;
 
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugin.MojoExecution;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
@@ -36,6 +37,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class ResourceMojoTest {
 
@@ -106,6 +108,29 @@ class ResourceMojoTest {
       .attachArtifact(resourceMojo.project, "yml", "kubernetes", generatedArtifact);
   }
 
+  @Test
+  void execute_withJKubeOffline_shouldNotUseCachedRemotesOnly() throws Exception {
+    // Given
+    resourceMojo.offline = true;
+    // When
+    resourceMojo.execute();
+    // Then
+    assertThat(resourceMojo.jkubeServiceHub.getResourceServiceConfig())
+      .hasFieldOrPropertyWithValue("remotesOffline", false);
+  }
+
+  @Test
+  void execute_withMavenOffline_shouldUseCachedRemotesOnly() throws Exception {
+    // Given
+    resourceMojo.session = mock(MavenSession.class);
+    when(resourceMojo.session.isOffline()).thenReturn(true);
+    // When
+    resourceMojo.execute();
+    // Then
+    assertThat(resourceMojo.jkubeServiceHub.getResourceServiceConfig())
+      .hasFieldOrPropertyWithValue("remotesOffline", true);
+  }
+
   @Test
   void execute_writeResourcesFirstThenValidatesThem() throws Exception {
     // Given